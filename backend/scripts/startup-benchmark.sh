@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+# 기본 모드와 빠른 기동 모드(AOT + AppCDS)의 time-to-ready 비교
+# 사용법: ./scripts/startup-benchmark.sh [반복 횟수]
+# DB, S3 등 실행에 필요한 환경 변수는 .env 또는 현재 셸에서 읽는다
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RUNS=${1:-5}
+PORT=${BENCH_PORT:-18888}
+OUT=build/startup
+JAR=samadhi-0.0.1-SNAPSHOT.jar
+GRADLE=${GRADLE:-sh ./gradlew}
+
+if [ -f .env ]; then
+  set -a; . ./.env; set +a
+fi
+
+build_mode() {
+  local mode=$1; shift
+  rm -rf "$OUT/$mode"
+  $GRADLE -q clean bootJar "$@"
+  java -Djarmode=tools -jar "build/libs/$JAR" extract --destination "$OUT/$mode"
+}
+
+train_cds() {
+  (cd "$OUT/faststart" && java -XX:ArchiveClassesAtExit=app.jsa \
+    -Dspring.context.exit=onRefresh \
+    -Dspring.aot.enabled=true \
+    -Dspring.jpa.hibernate.ddl-auto=none \
+    -Dspring.jpa.database-platform=org.hibernate.dialect.MySQLDialect \
+    -Dspring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false \
+    -jar "$JAR" > training.log 2>&1)
+}
+
+# 프로세스 시작부터 readiness probe가 200을 반환할 때까지의 시간(ms)
+measure() {
+  local dir=$1; shift
+  local start end pid
+  start=$(date +%s%N)
+  (cd "$dir" && exec java "$@" -Dserver.port="$PORT" -jar "$JAR" > run.log 2>&1) &
+  pid=$!
+  until curl -sf "http://localhost:$PORT/actuator/health/readiness" > /dev/null; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "기동 실패: $dir/run.log 확인" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  end=$(date +%s%N)
+  kill "$pid"; wait "$pid" 2>/dev/null || true
+  echo $(( (end - start) / 1000000 ))
+}
+
+report() {
+  local mode=$1; shift
+  local total=0 min=999999 max=0 t
+  for _ in $(seq "$RUNS"); do
+    t=$("$@")
+    total=$((total + t))
+    (( t < min )) && min=$t
+    (( t > max )) && max=$t
+  done
+  printf "%-10s runs=%d avg=%dms min=%dms max=%dms\n" "$mode" "$RUNS" $((total / RUNS)) "$min" "$max"
+}
+
+mkdir -p "$OUT"
+build_mode default
+build_mode faststart -PfastStart
+train_cds
+
+echo "== time-to-ready =="
+report default measure "$OUT/default"
+report faststart measure "$OUT/faststart" -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true
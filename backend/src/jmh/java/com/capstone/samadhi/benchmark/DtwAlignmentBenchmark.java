@@ -0,0 +1,68 @@
+package com.capstone.samadhi.benchmark;
+
+import com.capstone.samadhi.landmark.align.BandedDtw;
+import com.capstone.samadhi.landmark.reference.PoseVectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 30분 세션(100ms 간격 18000프레임)을 강사 트랙에 정렬하는 시간
+ * radius 20이면 ±2초까지 지연을 허용한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtwAlignmentBenchmark {
+    private static final int D = PoseVectors.VECTOR_LENGTH;
+
+    @Param({"18000"})
+    public int frames;
+
+    @Param({"10", "20"})
+    public int radius;
+
+    private final BandedDtw dtw = new BandedDtw();
+    private float[] user;
+    private float[] reference;
+    private boolean[] present;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        reference = new float[(frames + radius) * D];
+        for (int f = 0; f < frames + radius; f++) {
+            for (int k = 0; k < D; k++) {
+                reference[f * D + k] = (float) Math.sin(f * 0.1 * (0.3 + k % 7 * 0.11) + k);
+            }
+        }
+        // 1초 늦고 약간 흔들리는 사용자
+        user = new float[frames * D];
+        for (int i = 0; i < user.length; i++) {
+            user[i] = reference[i] + (float) random.nextGaussian() * 0.05f;
+        }
+        present = new boolean[frames + radius];
+        Arrays.fill(present, true);
+    }
+
+    @Benchmark
+    public BandedDtw.Result align() {
+        return dtw.align(user, present, frames, reference, present, frames + radius, 10, radius, Double.POSITIVE_INFINITY);
+    }
+}
@@ -0,0 +1,117 @@
+package com.capstone.samadhi.benchmark;
+
+import com.capstone.samadhi.record.dto.LandmarkBatchRequest;
+import com.capstone.samadhi.record.dto.RecordRequest;
+import com.capstone.samadhi.record.dto.RecordResponse;
+import com.capstone.samadhi.record.dto.TimeLineRequest;
+import com.capstone.samadhi.record.dto.TimeLineResponse;
+import com.capstone.samadhi.security.dto.UserInfoDto;
+import com.capstone.samadhi.security.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON / CBOR / Smile 직렬화 시간과 페이로드 크기 비교
+ * 크기는 Setup 단계에서 한 번 출력한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    // 30fps 기준 프레임 수
+    @Param({"30", "300"})
+    public int frames;
+
+    private ObjectMapper mapper;
+    private RecordResponse recordResponse;
+    private RecordRequest recordRequest;
+    private LandmarkBatchRequest landmarkBatch;
+
+    private byte[] recordRequestBytes;
+    private byte[] landmarkBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        mapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+
+        Random random = new Random(42);
+        List<TimeLineResponse> timelines = new ArrayList<>();
+        List<TimeLineRequest> timeLineRequests = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            timelines.add(new TimeLineResponse(i * 15, i * 15 + 15, "Pose " + (i % 12), random.nextFloat() * 100,
+                    "https://samadhi-bucket.s3.ap-northeast-2.amazonaws.com/snapshot/user/" + i + ".png"));
+            timeLineRequests.add(new TimeLineRequest(i * 15, i * 15 + 15, "Pose " + (i % 12), random.nextInt(100),
+                    null, "snapshot/user/" + i + ".png"));
+        }
+        User user = new User("user", null, "https://samadhi-bucket.s3.ap-northeast-2.amazonaws.com/default-profile.png",
+                "nickname", "f", LocalDate.of(2000, 1, 1), 165, 55, new ArrayList<>());
+        recordResponse = new RecordResponse(1L, "2025-11-01T15:00:00", 1800,
+                "https://www.youtube.com/watch?v=example", 87.5f, null, timelines, new UserInfoDto(user));
+        recordRequest = new RecordRequest(1800, "https://www.youtube.com/watch?v=example", 87, timeLineRequests);
+
+        int landmarks = 33;
+        long[] timestamps = new long[frames];
+        float[] values = new float[frames * landmarks * LandmarkBatchRequest.COMPONENTS];
+        for (int f = 0; f < frames; f++) {
+            timestamps[f] = f * 33L;
+        }
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextFloat();
+        }
+        landmarkBatch = new LandmarkBatchRequest(1L, landmarks, timestamps, values);
+
+        recordRequestBytes = mapper.writeValueAsBytes(recordRequest);
+        landmarkBytes = mapper.writeValueAsBytes(landmarkBatch);
+        System.out.printf("%n[%s, frames=%d] RecordResponse=%d bytes, RecordRequest=%d bytes, LandmarkBatch=%d bytes%n",
+                format, frames, mapper.writeValueAsBytes(recordResponse).length, recordRequestBytes.length, landmarkBytes.length);
+    }
+
+    @Benchmark
+    public byte[] serializeRecordResponse() throws Exception {
+        return mapper.writeValueAsBytes(recordResponse);
+    }
+
+    @Benchmark
+    public RecordRequest deserializeRecordRequest() throws Exception {
+        return mapper.readValue(recordRequestBytes, RecordRequest.class);
+    }
+
+    @Benchmark
+    public byte[] serializeLandmarks() throws Exception {
+        return mapper.writeValueAsBytes(landmarkBatch);
+    }
+
+    @Benchmark
+    public LandmarkBatchRequest deserializeLandmarks() throws Exception {
+        return mapper.readValue(landmarkBytes, LandmarkBatchRequest.class);
+    }
+}
@@ -0,0 +1,97 @@
+package com.capstone.samadhi.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔드포인트별 지연 시간 히스토그램과 오류 수 집계
+ */
+class LatencyReport {
+    // 1us ~ 1분, 유효숫자 3자리
+    private static final long MAX_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private static class Endpoint {
+        final Histogram latency = new ConcurrentHistogram(TimeUnit.MICROSECONDS.toNanos(1), MAX_NANOS, 3);
+        final AtomicLong errors = new AtomicLong();
+    }
+
+    record Row(String endpoint, long count, long errors, double throughput,
+               double p50Millis, double p99Millis, double p999Millis, double maxMillis) {
+    }
+
+    record Summary(double targetRate, long measuredSeconds, long dropped, List<Row> endpoints) {
+    }
+
+    /**
+     * 보고서 행 순서를 고정하려고 시작 전에 엔드포인트를 등록한다
+     */
+    synchronized void register(String endpoint) {
+        endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+    }
+
+    void record(String endpoint, long nanos, boolean success) {
+        Endpoint stats = endpoint(endpoint);
+        stats.latency.recordValue(Math.min(Math.max(nanos, 1), MAX_NANOS));
+        if (!success) {
+            stats.errors.incrementAndGet();
+        }
+    }
+
+    void dropped() {
+        dropped.incrementAndGet();
+    }
+
+    private synchronized Endpoint endpoint(String name) {
+        return endpoints.computeIfAbsent(name, key -> new Endpoint());
+    }
+
+    synchronized Summary summarize(double targetRate, Duration measured) {
+        double seconds = measured.toMillis() / 1000.0;
+        List<Row> rows = new ArrayList<>();
+        endpoints.forEach((name, stats) -> {
+            Histogram h = stats.latency;
+            rows.add(new Row(name, h.getTotalCount(), stats.errors.get(), h.getTotalCount() / seconds,
+                    millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(99)),
+                    millis(h.getValueAtPercentile(99.9)), millis(h.getMaxValue())));
+        });
+        return new Summary(targetRate, measured.toSeconds(), dropped.get(), rows);
+    }
+
+    static void print(Summary summary) {
+        System.out.printf("%n도착률 %.1f/s, 측정 %ds, 시작 못한 시나리오 %d%n",
+                summary.targetRate(), summary.measuredSeconds(), summary.dropped());
+        System.out.printf("%-28s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        for (Row row : summary.endpoints()) {
+            System.out.printf("%-28s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.endpoint(), row.count(), row.errors(), row.throughput(),
+                    row.p50Millis(), row.p99Millis(), row.p999Millis(), row.maxMillis());
+        }
+    }
+
+    static void write(Summary summary, Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), summary);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,69 @@
+package com.capstone.samadhi.loadtest;
+
+import com.capstone.samadhi.SamadhiApplication;
+import com.capstone.samadhi.security.entity.User;
+import com.capstone.samadhi.security.repo.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 앱을 내장 H2와 S3 대역 서버로 같은 프로세스에 띄우고 시나리오 부하를 건다
+ *
+ * <pre>
+ * ./gradlew loadTest -Ploadtest.rate=50 -Ploadtest.duration=2m -Ploadtest.users=500
+ * </pre>
+ */
+public class LoadTestMain {
+    private static final String PASSWORD = "loadtest-password";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        try (S3StandIn s3 = S3StandIn.start(64)) {
+            byte[] secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            // 기본 application.yaml의 환경 변수 자리표시자보다 우선하도록 명령행 인자로 넘긴다
+            List<String> appArgs = new ArrayList<>(List.of(args));
+            appArgs.add("--spring.cloud.aws.s3.endpoint=" + s3.endpoint());
+            appArgs.add("--security.secret.key=" + HexFormat.of().formatHex(secret));
+            ConfigurableApplicationContext app = new SpringApplicationBuilder(SamadhiApplication.class)
+                    .profiles("loadtest")
+                    .run(appArgs.toArray(String[]::new));
+            try {
+                int port = ((ServletWebServerApplicationContext) app).getWebServer().getPort();
+                List<String> userIds = seedUsers(app, settings.users());
+                System.out.printf("기동 완료: http://127.0.0.1:%d, 회원 %d명, S3 대역 %s%n", port, userIds.size(), s3.endpoint());
+
+                ScenarioDriver driver = new ScenarioDriver(settings, URI.create("http://127.0.0.1:" + port), userIds, PASSWORD);
+                LatencyReport.Summary summary = driver.run();
+                LatencyReport.print(summary);
+                LatencyReport.write(summary, settings.report());
+                System.out.printf("저장된 객체 %d개, 결과: %s%n", s3.objectCount(), settings.report().toAbsolutePath());
+            } finally {
+                app.close();
+            }
+        }
+    }
+
+    /**
+     * 해싱은 한 번만 하고 모든 회원이 같은 비밀번호 해시를 쓴다 (로그인 시 검증 비용은 그대로)
+     */
+    private static List<String> seedUsers(ConfigurableApplicationContext app, int count) {
+        String hash = app.getBean(PasswordEncoder.class).encode(PASSWORD);
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(new User(String.format("loadtest-%05d", i), hash, null, "loadtest", "f", LocalDate.of(2000, 1, 1), 170, 60, new ArrayList<>()));
+        }
+        app.getBean(UserRepository.class).saveAll(users);
+        return users.stream().map(User::getId).toList();
+    }
+}
@@ -0,0 +1,46 @@
+package com.capstone.samadhi.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정, 시스템 프로퍼티(-Dloadtest.*)로 지정한다
+ *
+ * @param rate        초당 시작하는 시나리오 수 (도착률, 앞선 요청의 응답과 무관하게 일정)
+ * @param duration    측정 구간 길이
+ * @param warmup      측정 전 워밍업 구간, 이 구간에 시작한 시나리오는 집계하지 않는다
+ * @param users       미리 만들어 두는 회원 수, 시나리오는 회원을 순서대로 돌아가며 쓴다
+ * @param timelines   기록 하나에 포함하는 타임라인(스냅샷 이미지) 수
+ * @param imageBytes  스냅샷 이미지 크기
+ * @param maxInFlight 동시에 진행할 수 있는 최대 시나리오 수, 넘으면 시작하지 않고 dropped로 센다
+ * @param report      결과 JSON 경로
+ */
+record LoadTestSettings(
+        double rate,
+        Duration duration,
+        Duration warmup,
+        int users,
+        int timelines,
+        int imageBytes,
+        int maxInFlight,
+        Path report
+) {
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Double.parseDouble(property("rate", "20")),
+                DurationStyle.detectAndParse(property("duration", "60s")),
+                DurationStyle.detectAndParse(property("warmup", "10s")),
+                Integer.parseInt(property("users", "200")),
+                Integer.parseInt(property("timelines", "3")),
+                Integer.parseInt(property("image-bytes", "50000")),
+                Integer.parseInt(property("max-in-flight", "256")),
+                Path.of(property("report", "build/reports/loadtest/results.json"))
+        );
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
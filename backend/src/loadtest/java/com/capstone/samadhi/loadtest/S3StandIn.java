@@ -0,0 +1,194 @@
+package com.capstone.samadhi.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 메모리에 객체를 보관하는 S3 대역 서버 (path-style)
+ * 앱이 쓰는 PutObject, HeadObject, GetObject, DeleteObject, DeleteObjects와 pre-signed PUT만 흉내 낸다
+ * 서명은 검증하지 않는다
+ */
+class S3StandIn implements AutoCloseable {
+    private static final Pattern DELETE_KEY = Pattern.compile("<Key>(.*?)</Key>", Pattern.DOTALL);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+
+    private record StoredObject(byte[] body, String contentType, String etag, ZonedDateTime lastModified) {
+    }
+
+    private S3StandIn(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    static S3StandIn start(int threads) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        S3StandIn standIn = new S3StandIn(server, executor);
+        server.setExecutor(executor);
+        server.createContext("/", standIn::handle);
+        server.start();
+        return standIn;
+    }
+
+    String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    int objectCount() {
+        return objects.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = URLDecoder.decode(exchange.getRequestURI().getRawPath(), StandardCharsets.UTF_8);
+            String query = exchange.getRequestURI().getRawQuery();
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> put(exchange, path);
+                case "HEAD" -> head(exchange, path);
+                case "GET" -> get(exchange, path);
+                case "DELETE" -> {
+                    objects.remove(path);
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                case "POST" -> {
+                    if (query != null && query.startsWith("delete")) {
+                        deleteObjects(exchange, path);
+                    } else {
+                        exchange.sendResponseHeaders(501, -1);
+                    }
+                }
+                default -> exchange.sendResponseHeaders(405, -1);
+            }
+        }
+    }
+
+    private void put(HttpExchange exchange, String path) throws IOException {
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readAllBytes();
+        }
+        String contentSha = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        if (contentSha != null && contentSha.startsWith("STREAMING-")) {
+            body = decodeAwsChunked(body);
+        }
+        String etag = "\"" + md5Hex(body) + "\"";
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        objects.put(path, new StoredObject(body, contentType == null ? "application/octet-stream" : contentType,
+                etag, ZonedDateTime.now(ZoneOffset.UTC)));
+        exchange.getResponseHeaders().add("ETag", etag);
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void head(HttpExchange exchange, String path) throws IOException {
+        StoredObject object = objects.get(path);
+        if (object == null) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+        writeMetadata(exchange, object);
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void get(HttpExchange exchange, String path) throws IOException {
+        StoredObject object = objects.get(path);
+        if (object == null) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+        writeMetadata(exchange, object);
+        exchange.sendResponseHeaders(200, object.body().length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(object.body());
+        }
+    }
+
+    private void deleteObjects(HttpExchange exchange, String bucketPath) throws IOException {
+        String body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String prefix = bucketPath.endsWith("/") ? bucketPath : bucketPath + "/";
+        Matcher matcher = DELETE_KEY.matcher(body);
+        while (matcher.find()) {
+            objects.remove(prefix + matcher.group(1));
+        }
+        // quiet 모드라서 실패한 항목만 응답하면 된다
+        byte[] response = "<DeleteResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\"></DeleteResult>"
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    private void writeMetadata(HttpExchange exchange, StoredObject object) {
+        exchange.getResponseHeaders().add("Content-Type", object.contentType());
+        exchange.getResponseHeaders().add("Content-Length", Integer.toString(object.body().length));
+        exchange.getResponseHeaders().add("ETag", object.etag());
+        exchange.getResponseHeaders().add("Last-Modified", DateTimeFormatter.RFC_1123_DATE_TIME.format(object.lastModified()));
+    }
+
+    /**
+     * aws-chunked 본문 (크기;chunk-signature=...\r\n 데이터\r\n ... 0;...\r\n) 에서 데이터만 꺼낸다
+     */
+    static byte[] decodeAwsChunked(byte[] encoded) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(encoded.length);
+        int position = 0;
+        while (position < encoded.length) {
+            int lineEnd = indexOfCrlf(encoded, position);
+            if (lineEnd < 0) break;
+            String header = new String(encoded, position, lineEnd - position, StandardCharsets.US_ASCII);
+            int semicolon = header.indexOf(';');
+            int size = Integer.parseInt(semicolon < 0 ? header.trim() : header.substring(0, semicolon).trim(), 16);
+            if (size == 0) break;
+            out.write(encoded, lineEnd + 2, size);
+            position = lineEnd + 2 + size + 2;
+        }
+        return out.toByteArray();
+    }
+
+    private static int indexOfCrlf(byte[] bytes, int from) {
+        for (int i = from; i + 1 < bytes.length; i++) {
+            if (bytes[i] == '\r' && bytes[i + 1] == '\n') return i;
+        }
+        return -1;
+    }
+
+    private static String md5Hex(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.capstone.samadhi.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 정해진 도착률로 시나리오를 시작하는 개방형 부하 생성기
+ * 로그인 -> 스냅샷 pre-signed 업로드 -> 기록 저장 -> 기록 목록 조회 순서로 진행한다
+ * 응답이 느려져도 다음 시나리오는 예정 시각에 시작하므로 대기 시간이 지연에 그대로 드러난다
+ */
+class ScenarioDriver {
+    static final String LOGIN = "POST /auth/login";
+    static final String PRESIGN = "POST /api/upload/presign";
+    static final String UPLOAD = "PUT pre-signed URL";
+    static final String CREATE = "POST /api/record";
+    static final String LIST = "GET /api/record";
+    // 예정 시작 시각부터 시나리오 완료까지 (coordinated omission 보정)
+    static final String SCENARIO = "scenario";
+
+    private static final int MAX_LOGGED_FAILURES = 5;
+
+    private final LoadTestSettings settings;
+    private final URI baseUri;
+    private final String password;
+    private final List<String> userIds;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyReport report = new LatencyReport();
+    private final AtomicInteger loggedFailures = new AtomicInteger();
+    private final byte[] image;
+
+    ScenarioDriver(LoadTestSettings settings, URI baseUri, List<String> userIds, String password) {
+        this.settings = settings;
+        this.baseUri = baseUri;
+        this.userIds = userIds;
+        this.password = password;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newCachedThreadPool())
+                .build();
+        this.image = new byte[settings.imageBytes()];
+        new Random(42).nextBytes(image);
+        for (String endpoint : List.of(LOGIN, PRESIGN, UPLOAD, CREATE, LIST, SCENARIO)) {
+            report.register(endpoint);
+        }
+    }
+
+    LatencyReport.Summary run() throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(settings.maxInFlight());
+        Semaphore inFlight = new Semaphore(settings.maxInFlight());
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / settings.rate());
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+
+        int sequence = 0;
+        for (long scheduled = start; scheduled < end; scheduled += interval) {
+            long wait;
+            while ((wait = scheduled - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean measured = scheduled >= measureFrom;
+            if (!inFlight.tryAcquire()) {
+                if (measured) report.dropped();
+                continue;
+            }
+            String userId = userIds.get(sequence++ % userIds.size());
+            long scheduledAt = scheduled;
+            workers.execute(() -> {
+                try {
+                    runScenario(userId, scheduledAt, measured);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+
+        workers.shutdown();
+        if (!workers.awaitTermination(2, TimeUnit.MINUTES)) {
+            workers.shutdownNow();
+        }
+        return report.summarize(settings.rate(), settings.duration());
+    }
+
+    private void runScenario(String userId, long scheduledAt, boolean measured) {
+        boolean success = false;
+        try {
+            String token = login(userId, measured);
+            List<String> imageKeys = new ArrayList<>();
+            for (int i = 0; i < settings.timelines(); i++) {
+                imageKeys.add(uploadSnapshot(token, measured));
+            }
+            createRecord(token, imageKeys, measured);
+            send(LIST, authorized(token, "/api/record").GET().build(), measured);
+            success = true;
+        } catch (ScenarioFailure | IOException e) {
+            if (loggedFailures.incrementAndGet() <= MAX_LOGGED_FAILURES) {
+                System.err.println("시나리오 실패 (" + userId + "): " + e.getMessage());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (measured) {
+            report.record(SCENARIO, System.nanoTime() - scheduledAt, success);
+        }
+    }
+
+    private String login(String userId, boolean measured) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(json(Map.of("id", userId, "pwd", password)))
+                .build();
+        HttpResponse<byte[]> response = send(LOGIN, request, measured);
+        return response.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith("User-Token="))
+                .map(cookie -> cookie.substring("User-Token=".length(), cookie.indexOf(';') < 0 ? cookie.length() : cookie.indexOf(';')))
+                .findFirst()
+                .orElseThrow(() -> new ScenarioFailure(LOGIN + ": 토큰 쿠키 없음"));
+    }
+
+    private String uploadSnapshot(String token, boolean measured) throws IOException, InterruptedException {
+        HttpRequest presign = authorized(token, "/api/upload/presign")
+                .header("Content-Type", "application/json")
+                .POST(json(Map.of("type", "snapshot", "contentType", "image/png", "contentLength", image.length)))
+                .build();
+        JsonNode message = objectMapper.readTree(send(PRESIGN, presign, measured).body()).path("message");
+
+        HttpRequest upload = HttpRequest.newBuilder(URI.create(message.path("uploadUrl").asText()))
+                .header("Content-Type", "image/png")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(image))
+                .build();
+        send(UPLOAD, upload, measured);
+        return message.path("key").asText();
+    }
+
+    private void createRecord(String token, List<String> imageKeys, boolean measured) throws IOException, InterruptedException {
+        List<Map<String, Object>> timeLines = new ArrayList<>();
+        for (int i = 0; i < imageKeys.size(); i++) {
+            Map<String, Object> timeLine = new LinkedHashMap<>();
+            timeLine.put("youtube_start_sec", i * 10);
+            timeLine.put("youtube_end_sec", i * 10 + 10);
+            timeLine.put("pose", "chair");
+            timeLine.put("score", 80);
+            timeLine.put("imageKey", imageKeys.get(i));
+            timeLines.add(timeLine);
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("workingout_time", 600);
+        body.put("youtube_url", "https://www.youtube.com/watch?v=loadtest");
+        body.put("total_score", 80);
+        body.put("timeLineList", timeLines);
+
+        send(CREATE, authorized(token, "/api/record/")
+                .header("Content-Type", "application/json")
+                .POST(json(body))
+                .build(), measured);
+    }
+
+    private HttpRequest.Builder authorized(String token, String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Cookie", "User-Token=" + token);
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+    }
+
+    private HttpResponse<byte[]> send(String endpoint, HttpRequest request, boolean measured)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            if (measured) report.record(endpoint, System.nanoTime() - start, false);
+            throw e;
+        }
+        boolean success = response.statusCode() / 100 == 2;
+        if (measured) report.record(endpoint, System.nanoTime() - start, success);
+        if (!success) {
+            String body = new String(response.body(), StandardCharsets.UTF_8);
+            throw new ScenarioFailure(endpoint + " -> " + response.statusCode() + " "
+                    + body.substring(0, Math.min(body.length(), 200)));
+        }
+        return response;
+    }
+
+    private static class ScenarioFailure extends RuntimeException {
+        ScenarioFailure(String message) {
+            super(message);
+        }
+    }
+}
@@ -1,15 +1,23 @@
 package com.capstone.samadhi.common;
 
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-@Slf4j
 public class SecurityUtil {
     public static String getCurrentUser() {
         final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String userId = authentication.getName();
-        log.info("시큐리티 컨텍스트에서 찾은 유저 정보: {}", userId);
-        return userId;
+        return authentication.getName();
+    }
+
+    /**
+     * 로그인하지 않은 요청이면 null
+     */
+    public static String getCurrentUserOrNull() {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
     }
 }
@@ -0,0 +1,83 @@
+package com.capstone.samadhi.common;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 유튜브 URL에서 영상 id(11자)를 꺼낸다
+ * watch?v=, youtu.be, embed, shorts, live 형식과 타임스탬프 등 추가 파라미터가 붙은 URL이 같은 id가 된다
+ */
+public final class YoutubeVideoId {
+    private static final Pattern VIDEO_ID = Pattern.compile("[A-Za-z0-9_-]{11}");
+
+    private YoutubeVideoId() {
+    }
+
+    /**
+     * @return 영상 id, 유튜브 URL이 아니면 null
+     */
+    public static String parse(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        String value = url.trim();
+        if (VIDEO_ID.matcher(value).matches()) {
+            return value;
+        }
+
+        URI uri;
+        try {
+            uri = new URI(value.contains("://") ? value : "https://" + value);
+        } catch (URISyntaxException e) {
+            return null;
+        }
+        String host = uri.getHost();
+        if (host == null) {
+            return null;
+        }
+        host = host.toLowerCase(Locale.ROOT);
+        String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+
+        if (host.equals("youtu.be")) {
+            return valid(firstSegment(path, ""));
+        }
+        if (!host.equals("youtube.com") && !host.endsWith(".youtube.com")
+                && !host.equals("youtube-nocookie.com") && !host.endsWith(".youtube-nocookie.com")) {
+            return null;
+        }
+        if (path.equals("/watch") || path.equals("/watch/")) {
+            return valid(queryParameter(uri.getRawQuery(), "v"));
+        }
+        for (String prefix : new String[]{"/embed/", "/shorts/", "/live/", "/v/"}) {
+            if (path.startsWith(prefix)) {
+                return valid(firstSegment(path, prefix));
+            }
+        }
+        return null;
+    }
+
+    private static String firstSegment(String path, String prefix) {
+        String rest = path.substring(prefix.isEmpty() ? 1 : prefix.length());
+        int slash = rest.indexOf('/');
+        return slash < 0 ? rest : rest.substring(0, slash);
+    }
+
+    private static String queryParameter(String query, String name) {
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0 && pair.substring(0, equals).equals(name)) {
+                return pair.substring(equals + 1);
+            }
+        }
+        return null;
+    }
+
+    private static String valid(String candidate) {
+        return candidate != null && VIDEO_ID.matcher(candidate).matches() ? candidate : null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.capstone.samadhi.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.stereotype.Component;
+
+/**
+ * sample_video를 SQL로 직접 바꾼 뒤 호출 (DELETE /actuator/entitycache)
+ */
+@Component
+@Endpoint(id = "entitycache")
+@RequiredArgsConstructor
+public class EntityCacheEndpoint {
+    private final EntityCacheEvictor entityCacheEvictor;
+
+    @DeleteOperation
+    public void evictVideoCatalog() {
+        entityCacheEvictor.evictVideoCatalog();
+    }
+}
@@ -0,0 +1,56 @@
+package com.capstone.samadhi.common.cache;
+
+import com.capstone.samadhi.security.entity.User;
+import com.capstone.samadhi.video.entity.Video;
+import com.capstone.samadhi.video.repository.VideoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hibernate 2차 캐시 명시적 제거
+ * 트랜잭션 안에서 호출하면 트랜잭션이 끝난 뒤에 지워서, 커밋 전에 다른 요청이 옛 값을 다시 채우지 못하게 한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityCacheEvictor {
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evictUser(String userId) {
+        afterCommit(() -> cache().evictEntityData(User.class, userId));
+    }
+
+    /**
+     * 영상 카탈로그는 앱 밖(SQL)에서 바뀌는 경우가 많아 엔티티와 목록 쿼리 캐시를 함께 비운다
+     */
+    public void evictVideoCatalog() {
+        afterCommit(() -> {
+            cache().evictEntityData(Video.class);
+            cache().evictQueryRegion(VideoRepository.CATALOG_QUERY_REGION);
+            log.info("영상 카탈로그 캐시 제거");
+        });
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                eviction.run();
+            }
+        });
+    }
+}
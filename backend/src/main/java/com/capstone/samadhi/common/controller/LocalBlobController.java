@@ -0,0 +1,176 @@
+package com.capstone.samadhi.common.controller;
+
+import com.capstone.samadhi.common.ResponseDto;
+import com.capstone.samadhi.common.storage.LocalBlobStore;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * LocalBlobStore 사용 시 파일 업로드/다운로드 엔드포인트
+ * 다운로드는 Tomcat sendfile(zero-copy)을 우선 사용하고, 지원하지 않으면 FileChannel.transferTo로 전송한다
+ */
+@Hidden
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+@RequestMapping("/blobs")
+public class LocalBlobController {
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalBlobStore blobStore;
+
+    @GetMapping("/**")
+    public void download(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path path;
+        try {
+            path = blobStore.resolve(keyOf(request));
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        if (!Files.isRegularFile(path)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = Files.size(path);
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null) {
+            long[] parsed = parseRange(range, length);
+            if (parsed == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (parsed.length == 2) {
+                start = parsed[0];
+                end = parsed[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(blobStore.contentTypeOf(path.getFileName().toString()));
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=86400");
+        response.setContentLengthLong(count);
+        if (count == 0 || "HEAD".equalsIgnoreCase(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            OutputStream out = response.getOutputStream();
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long n = channel.transferTo(position, remaining, target);
+                if (n <= 0) break;
+                position += n;
+                remaining -= n;
+            }
+            out.flush();
+        }
+    }
+
+    @PutMapping("/**")
+    public ResponseEntity<ResponseDto<String>> upload(
+            HttpServletRequest request,
+            @RequestParam("expires") long expires,
+            @RequestParam("contentType") String contentType,
+            @RequestParam("contentLength") long contentLength,
+            @RequestParam("signature") String signature
+    ) throws IOException {
+        String key = keyOf(request);
+        if (!blobStore.verifyUpload(key, contentType, contentLength, expires, signature)) {
+            return new ResponseEntity<>(new ResponseDto<>(false, "서명이 유효하지 않습니다"), HttpStatus.FORBIDDEN);
+        }
+        if (request.getContentType() == null || !request.getContentType().startsWith(contentType)
+                || request.getContentLengthLong() != contentLength) {
+            return new ResponseEntity<>(new ResponseDto<>(false, "서명된 파일 정보와 다릅니다"), HttpStatus.BAD_REQUEST);
+        }
+
+        try {
+            blobStore.write(key, request.getInputStream(), contentLength);
+        } catch (IOException e) {
+            log.error("파일등록실패: {}", e.getMessage());
+            return new ResponseEntity<>(new ResponseDto<>(false, "파일 업로드 중 에러"), HttpStatus.BAD_REQUEST);
+        }
+        return ResponseEntity.ok(new ResponseDto<>());
+    }
+
+    private String keyOf(HttpServletRequest request) {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        return URLDecoder.decode(uri.substring(LocalBlobStore.URL_PREFIX.length()), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 단일 Range 헤더 해석
+     * @return {start, end}, 전체 전송이면 빈 배열, 만족할 수 없는 범위면 null
+     */
+    static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            // 다중 범위는 지원하지 않고 전체를 보낸다 (RFC 9110 허용)
+            return new long[0];
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) return new long[0];
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) return null;
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            }
+            if (start >= length || start > end) return null;
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
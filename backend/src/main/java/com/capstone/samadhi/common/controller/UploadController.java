@@ -0,0 +1,34 @@
+package com.capstone.samadhi.common.controller;
+
+import com.capstone.samadhi.common.ResponseDto;
+import com.capstone.samadhi.common.SecurityUtil;
+import com.capstone.samadhi.common.dto.PresignRequest;
+import com.capstone.samadhi.common.dto.PresignResponse;
+import com.capstone.samadhi.common.service.UploadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/upload")
+public class UploadController {
+    private final UploadService uploadService;
+
+    @PostMapping("/presign")
+    @Operation(summary = "이미지 업로드 URL 발급", description = "브라우저가 스토리지에 직접 PUT 할 수 있는 pre-signed URL과 객체 key를 발급합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "발급 성공"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식 또는 크기 초과")
+    })
+    public ResponseEntity<ResponseDto<PresignResponse>> presign(@Valid @RequestBody PresignRequest request) {
+        return ResponseEntity.ok(new ResponseDto<>(true, uploadService.presign(SecurityUtil.getCurrentUserOrNull(), request)));
+    }
+}
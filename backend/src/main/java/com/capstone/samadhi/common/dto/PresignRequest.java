@@ -0,0 +1,24 @@
+package com.capstone.samadhi.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record PresignRequest(
+        @Schema(description = "업로드 용도", example = "snapshot", allowableValues = {"snapshot", "profile"})
+        @NotNull(message = "업로드 용도는 필수입니다.")
+        UploadType type,
+
+        @Schema(description = "파일 content-type", example = "image/png")
+        @NotBlank(message = "content-type은 필수입니다.")
+        String contentType,
+
+        @Schema(description = "파일 크기(byte)", example = "204800")
+        @Positive(message = "파일 크기는 0보다 커야 합니다.")
+        long contentLength
+) {
+    public enum UploadType {
+        snapshot, profile
+    }
+}
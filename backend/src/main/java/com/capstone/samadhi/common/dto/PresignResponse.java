@@ -0,0 +1,18 @@
+package com.capstone.samadhi.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record PresignResponse(
+        @Schema(description = "업로드 후 API에 전달할 객체 key", example = "snapshot/user1/3f2c...png")
+        String key,
+
+        @Schema(description = "PUT 요청을 보낼 pre-signed URL")
+        String uploadUrl,
+
+        @Schema(description = "URL 만료 시각 (ISO-8601)", example = "2025-11-01T15:10:00Z")
+        String expiresAt,
+
+        @Schema(description = "프로필 업로드일 때만, 회원가입/정보 수정 요청에 profileToken으로 key와 함께 보낸다")
+        String uploadToken
+) {
+}
@@ -0,0 +1,34 @@
+package com.capstone.samadhi.common.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 더 이상 참조되지 않아 삭제해야 할 저장소 객체
+ * 행은 OrphanBlobRecorder가 엔티티 변경과 같은 트랜잭션에서 넣고, OrphanBlobSweeper가 삭제 후 지운다
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "blob_tombstone", indexes = @Index(name = "idx_blob_tombstone_attempts", columnList = "attempts, id"))
+public class BlobTombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 512)
+    private String blobKey;
+
+    private int attempts;
+
+    private LocalDateTime createdAt;
+}
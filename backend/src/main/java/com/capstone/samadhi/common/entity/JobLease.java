@@ -0,0 +1,57 @@
+package com.capstone.samadhi.common.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 인스턴스가 나눠 실행하는 배경 작업의 구간별 임대
+ * 구간마다 행이 하나 있고, 행을 SKIP LOCKED로 잠가 먼저 가져간 인스턴스가 leaseUntil까지 실행권을 가진다
+ * 인스턴스가 죽으면 갱신이 끊겨 leaseUntil이 지나고 다른 인스턴스가 이어받는다
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "job_lease", indexes = @Index(name = "idx_job_lease_job_chunk", columnList = "job, chunk"))
+public class JobLease {
+    // job#chunk
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 64)
+    private String job;
+
+    private int chunk;
+
+    // 실행 중인 인스턴스, 실행 중이 아니면 null
+    @Column(length = 128)
+    private String owner;
+
+    // 가져갈 때마다 1씩 올라간다, 늦게 끝난 이전 실행이 새 임대를 갱신하거나 놓지 못하게 owner와 함께 비교한다
+    private long claimSeq;
+
+    private LocalDateTime leaseUntil;
+
+    // 이 시각 이후에 다시 실행할 수 있다
+    private LocalDateTime nextRunAt;
+
+    private LocalDateTime completedAt;
+
+    public static String nameOf(String job, int chunk) {
+        return job + "#" + chunk;
+    }
+
+    public void claim(String owner, LocalDateTime leaseUntil, LocalDateTime nextRunAt) {
+        this.owner = owner;
+        this.claimSeq++;
+        this.leaseUntil = leaseUntil;
+        this.nextRunAt = nextRunAt;
+    }
+}
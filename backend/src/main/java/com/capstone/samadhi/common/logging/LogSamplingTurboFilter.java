@@ -0,0 +1,55 @@
+package com.capstone.samadhi.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로거별 샘플링, WARN 미만 이벤트를 설정한 비율만 남긴다
+ * logback-spring.xml에서 {@code <sample>로거 접두사=비율</sample>}로 지정하고 가장 긴 접두사가 적용된다
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+    private final Map<String, Double> samples = new TreeMap<>();
+    // 로거 이름별로 찾은 비율 (로거 수만큼만 쌓인다)
+    private final Map<String, Double> resolved = new ConcurrentHashMap<>();
+
+    public void addSample(String sample) {
+        int separator = sample.lastIndexOf('=');
+        if (separator < 0) {
+            addError("샘플 설정 형식 오류: " + sample);
+            return;
+        }
+        double rate = Double.parseDouble(sample.substring(separator + 1).trim());
+        samples.put(sample.substring(0, separator).trim(), Math.max(0, Math.min(1, rate)));
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isInfoEnabled() 같은 확인 호출(format == null)과 WARN 이상은 건드리지 않는다
+        if (format == null || level == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        double rate = resolved.computeIfAbsent(logger.getName(), this::rateOf);
+        if (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+
+    private double rateOf(String loggerName) {
+        String best = null;
+        for (String prefix : samples.keySet()) {
+            if (loggerName.startsWith(prefix) && (best == null || prefix.length() > best.length())) {
+                best = prefix;
+            }
+        }
+        return best == null ? 1 : samples.get(best);
+    }
+}
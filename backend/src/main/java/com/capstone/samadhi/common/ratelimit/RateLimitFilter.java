@@ -0,0 +1,83 @@
+package com.capstone.samadhi.common.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쓰기 API 요청 빈도 제한 필터
+ * JwtAuthenticationFilter 다음에 위치해야 사용자 id 기준 제한이 가능하다
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RateLimitProperties.Route route = findRoute(request);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = 0;
+        String userId = currentUserId();
+        if (userId != null && route.getUser() != null) {
+            waitNanos = rateLimiter.tryAcquire(route.getName() + ":u:" + userId, route.getUser());
+        }
+        if (waitNanos == 0 && route.getIp() != null) {
+            waitNanos = rateLimiter.tryAcquire(route.getName() + ":ip:" + request.getRemoteAddr(), route.getIp());
+        }
+
+        if (waitNanos > 0) {
+            meterRegistry.counter("ratelimit.requests", "route", route.getName(), "outcome", "rejected").increment();
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().write("{\"success\": false, \"message\": \"Too Many Requests.\"}");
+            return;
+        }
+        meterRegistry.counter("ratelimit.requests", "route", route.getName(), "outcome", "allowed").increment();
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || properties.getRoutes().isEmpty();
+    }
+
+    private RateLimitProperties.Route findRoute(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            if (route.getMethod() != null && !route.getMethod().equalsIgnoreCase(request.getMethod())) continue;
+            if (pathMatcher.match(route.getPattern(), uri)) return route;
+        }
+        return null;
+    }
+
+    private String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
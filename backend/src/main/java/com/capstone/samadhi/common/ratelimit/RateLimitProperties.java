@@ -0,0 +1,44 @@
+package com.capstone.samadhi.common.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    // 이 시간 동안 요청이 없던 버킷은 제거
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    private List<Route> routes = new ArrayList<>();
+
+    @Data
+    public static class Route {
+        private String name;
+        private String method;
+        private String pattern;
+        // 로그인 사용자 기준 제한 (비로그인 요청에는 적용되지 않음)
+        private Limit user;
+        // 클라이언트 IP 기준 제한
+        private Limit ip;
+    }
+
+    @Data
+    public static class Limit {
+        private int permitsPerMinute;
+        private int burst = 1;
+
+        long intervalNanos() {
+            return Duration.ofMinutes(1).toNanos() / Math.max(1, permitsPerMinute);
+        }
+
+        long burstNanos() {
+            return intervalNanos() * Math.max(1, burst);
+        }
+    }
+}
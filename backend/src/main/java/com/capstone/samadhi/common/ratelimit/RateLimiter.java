@@ -0,0 +1,70 @@
+package com.capstone.samadhi.common.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 키(사용자 id, IP)별 토큰 버킷 저장소
+ * 맵을 여러 stripe로 나눠 resize와 정리 작업이 전체 맵을 잡지 않도록 한다
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+    private static final int STRIPES = 16;
+
+    private final ConcurrentHashMap<String, TokenBucket>[] stripes;
+    private final RateLimitProperties properties;
+
+    @SuppressWarnings("unchecked")
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.stripes = new ConcurrentHashMap[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        Gauge.builder("ratelimit.buckets", this, RateLimiter::size)
+                .description("현재 관리 중인 토큰 버킷 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 0이면 허용, 아니면 재시도까지 남은 나노초
+     */
+    public long tryAcquire(String key, RateLimitProperties.Limit limit) {
+        long now = System.nanoTime();
+        TokenBucket bucket = stripeOf(key).computeIfAbsent(key, k -> new TokenBucket(now));
+        return bucket.tryAcquire(now, limit.intervalNanos(), limit.burstNanos());
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, TokenBucket> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    /**
+     * 오래 사용되지 않은 버킷 정리
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        int before = size();
+        for (ConcurrentHashMap<String, TokenBucket> stripe : stripes) {
+            stripe.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+        }
+        log.debug("유휴 토큰 버킷 정리: {} -> {}", before, size());
+    }
+
+    private ConcurrentHashMap<String, TokenBucket> stripeOf(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+}
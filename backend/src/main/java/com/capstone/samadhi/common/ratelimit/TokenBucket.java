@@ -0,0 +1,43 @@
+package com.capstone.samadhi.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없이 CAS 한 번으로 동작하는 토큰 버킷 (GCRA 방식)
+ * 남은 토큰 수 대신 "다음 토큰이 찰 이론상 시각" 하나만 저장한다
+ */
+class TokenBucket {
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long now) {
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * 토큰 1개 획득 시도
+     * @param now 현재 시각 (nanoTime)
+     * @param intervalNanos 토큰 1개가 차는 시간
+     * @param burstNanos 버킷 용량만큼의 허용 시간
+     * @return 0이면 허용, 아니면 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    long tryAcquire(long now, long intervalNanos, long burstNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, now) + intervalNanos;
+            long allowAt = next - burstNanos;
+            if (allowAt > now) {
+                return allowAt - now;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 뒤로 idleNanos 이상 지났는지
+     */
+    boolean isIdle(long now, long idleNanos) {
+        return now - theoreticalArrival.get() > idleNanos;
+    }
+}
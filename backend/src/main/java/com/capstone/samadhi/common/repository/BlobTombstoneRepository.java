@@ -0,0 +1,55 @@
+package com.capstone.samadhi.common.repository;
+
+import com.capstone.samadhi.common.entity.BlobTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BlobTombstoneRepository extends JpaRepository<BlobTombstone, Long> {
+
+    /**
+     * id 순서로 다음 배치 조회 (키셋 페이지네이션), id % partitions == partition 인 행만
+     */
+    @Query("""
+            select t from BlobTombstone t
+            where t.id > :cursor and t.attempts < :maxAttempts and mod(t.id, :partitions) = :partition
+            order by t.id
+            """)
+    List<BlobTombstone> findBatch(@Param("cursor") long cursor, @Param("maxAttempts") int maxAttempts,
+                                  @Param("partitions") int partitions, @Param("partition") int partition,
+                                  Pageable pageable);
+
+    /**
+     * 레코드 일괄 삭제 전, 타임라인 스냅샷 이미지를 한 번의 INSERT ... SELECT로 삭제 대상에 기록
+     * @param prefix 저장소 공개 URL 접두사 (BlobStore.getPublicUrl(""))
+     */
+    @Modifying
+    @Query("""
+            insert into BlobTombstone (blobKey, attempts, createdAt)
+            select substring(t.image, length(:prefix) + 1), 0, current_timestamp
+            from TimeLine t
+            where t.record.id in :recordIds
+              and substring(t.image, 1, length(:prefix)) = :prefix
+              and substring(t.image, length(:prefix) + 1, 9) = 'snapshot/'
+              and t.image not like '%..%'
+            """)
+    int insertTimeLineImages(@Param("prefix") String prefix, @Param("recordIds") Collection<Long> recordIds);
+
+    @Transactional
+    @Modifying
+    @Query("delete from BlobTombstone t where t.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("update BlobTombstone t set t.attempts = t.attempts + 1 where t.id in :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids);
+}
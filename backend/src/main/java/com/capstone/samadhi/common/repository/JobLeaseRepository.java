@@ -0,0 +1,89 @@
+package com.capstone.samadhi.common.repository;
+
+import com.capstone.samadhi.common.entity.JobLease;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * 실행할 때가 됐고 아무도 쥐고 있지 않은(또는 임대가 끝난) 구간
+     * 다른 인스턴스가 같은 행을 가져가는 중이면 기다리지 않고 건너뛴다 (FOR UPDATE SKIP LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    // -2 = LockOptions.SKIP_LOCKED
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("""
+            select l from JobLease l
+            where l.job = :job and l.chunk < :partitions
+              and l.nextRunAt <= :now
+              and (l.leaseUntil is null or l.leaseUntil < :now)
+            order by l.nextRunAt, l.chunk
+            """)
+    List<JobLease> findClaimable(@Param("job") String job, @Param("partitions") int partitions,
+                                 @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 이미 있는 행이면 DataIntegrityViolationException (merge로 덮어쓰지 않도록 insert만 한다)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            insert into JobLease (name, job, chunk, claimSeq, nextRunAt)
+            values (:name, :job, :chunk, 0, :nextRunAt)
+            """)
+    int insert(@Param("name") String name, @Param("job") String job, @Param("chunk") int chunk,
+               @Param("nextRunAt") LocalDateTime nextRunAt);
+
+    @Query("select l.chunk from JobLease l where l.job = :job")
+    List<Integer> findChunks(@Param("job") String job);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update JobLease l set l.leaseUntil = :leaseUntil
+            where l.name = :name and l.owner = :owner and l.claimSeq = :claimSeq
+            """)
+    int renew(@Param("name") String name, @Param("owner") String owner, @Param("claimSeq") long claimSeq,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 실패한 실행은 completedAt을 건드리지 않는다
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update JobLease l
+            set l.owner = null, l.leaseUntil = null,
+                l.completedAt = case when :completed = true then :now else l.completedAt end
+            where l.name = :name and l.owner = :owner and l.claimSeq = :claimSeq
+            """)
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("claimSeq") long claimSeq,
+                @Param("completed") boolean completed, @Param("now") LocalDateTime now);
+
+    /**
+     * 다시 실행할 필요가 없는 작업, 다음 실행 시각을 먼 미래로 미뤄 더는 가져가지 않는다 (행을 지우면 다시 실행)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update JobLease l set l.nextRunAt = :never
+            where l.name = :name and l.owner = :owner and l.claimSeq = :claimSeq
+            """)
+    int finish(@Param("name") String name, @Param("owner") String owner, @Param("claimSeq") long claimSeq,
+               @Param("never") LocalDateTime never);
+}
@@ -0,0 +1,42 @@
+package com.capstone.samadhi.common.scheduling;
+
+/**
+ * 이 인스턴스가 임대한 작업 구간
+ * 오래 걸리는 작업은 배치 사이에 renew()를 불러 임대를 늘리고, false면 다른 인스턴스가 가져간 것이므로 멈춘다
+ */
+public final class LeasedChunk {
+    private final LeasedJobScheduler scheduler;
+    private final String job;
+    private final int index;
+    private final int partitions;
+    final String name;
+    final long claimSeq;
+
+    LeasedChunk(LeasedJobScheduler scheduler, String job, int index, int partitions, String name, long claimSeq) {
+        this.scheduler = scheduler;
+        this.job = job;
+        this.index = index;
+        this.partitions = partitions;
+        this.name = name;
+        this.claimSeq = claimSeq;
+    }
+
+    public String job() {
+        return job;
+    }
+
+    /**
+     * 0 ~ partitions-1, 작업은 id % partitions == index 같은 식으로 자기 몫만 처리한다
+     */
+    public int index() {
+        return index;
+    }
+
+    public int partitions() {
+        return partitions;
+    }
+
+    public boolean renew() {
+        return scheduler.renew(this);
+    }
+}
@@ -0,0 +1,236 @@
+package com.capstone.samadhi.common.scheduling;
+
+import com.capstone.samadhi.common.entity.JobLease;
+import com.capstone.samadhi.common.repository.JobLeaseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * job_lease 테이블로 여러 인스턴스 중 한 곳에서만 배경 작업을 실행한다
+ * 작업을 구간(chunk)으로 나누면 인스턴스마다 다른 구간을 가져가 나눠 처리하고,
+ * 한 구간은 interval에 한 번, 임대를 쥔 인스턴스 하나만 실행한다
+ * 시각은 각 인스턴스 시계를 쓰므로 인스턴스 간 시계 오차는 ttl보다 충분히 작아야 한다
+ */
+@Slf4j
+@Component
+public class LeasedJobScheduler {
+    // 끝난 작업의 다음 실행 시각 (MySQL DATETIME 범위 안)
+    private static final LocalDateTime NEVER = LocalDateTime.of(9999, 1, 1, 0, 0);
+
+    private final JobLeaseRepository leaseRepository;
+    private final TransactionTemplate claimTransaction;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId;
+    // 행을 만들어 둔 작업별 구간 수
+    private final Map<String, Integer> provisioned = new ConcurrentHashMap<>();
+
+    // false면 임대 없이 모든 구간을 이 인스턴스에서 실행한다 (단일 인스턴스)
+    @Value("${scheduling.lease.enabled:true}")
+    private boolean enabled;
+
+    // 갱신 없이 이 시간이 지나면 죽은 인스턴스로 보고 다른 인스턴스가 가져간다
+    @Value("${scheduling.lease.ttl-ms:120000}")
+    private long ttlMillis;
+
+    // 기동 시 한 번 하는 작업은 이 시간 안에 뜬 인스턴스들 중 한 곳에서만 실행한다
+    @Value("${scheduling.lease.startup-window-ms:600000}")
+    private long startupWindowMillis;
+
+    public LeasedJobScheduler(JobLeaseRepository leaseRepository, PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry, @Value("${scheduling.lease.node-id:}") String nodeId) {
+        this.leaseRepository = leaseRepository;
+        this.claimTransaction = new TransactionTemplate(transactionManager);
+        this.claimTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? defaultNodeId() : nodeId;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 구간이 하나인 작업, 다른 인스턴스가 실행 중이거나 interval이 안 지났으면 실행하지 않는다
+     * @return 이 인스턴스에서 실행했는지
+     */
+    public boolean runExclusive(String job, Duration interval, Consumer<LeasedChunk> task) {
+        return runPartitioned(job, 1, interval, task) > 0;
+    }
+
+    /**
+     * 기동 직후 한 번 하는 작업 (backfill 등), 함께 뜬 인스턴스들 중 한 곳에서만 실행한다
+     */
+    public boolean runOnceOnStartup(String job, Runnable task) {
+        return runExclusive(job, Duration.ofMillis(startupWindowMillis), chunk -> task.run());
+    }
+
+    /**
+     * 한 번 끝나면 다시 할 필요가 없는 기동 작업 (예전 컬럼 옮기기 등)
+     * task가 true를 돌려주면 끝난 것으로 기록해 이후 기동에서는 실행하지 않고, false거나 실패하면 다음 기동에 다시 한다
+     */
+    public boolean runOnceUntilDone(String job, BooleanSupplier task) {
+        return runExclusive(job, Duration.ofMillis(startupWindowMillis), chunk -> {
+            if (task.getAsBoolean()) {
+                finish(chunk);
+            }
+        });
+    }
+
+    /**
+     * 실행할 때가 된 구간을 하나씩 가져가 실행하고, 더 가져갈 구간이 없으면 돌아온다
+     * 다른 인스턴스가 동시에 부르면 남은 구간을 나눠 가진다
+     * @return 이 인스턴스에서 끝까지 실행한 구간 수
+     */
+    public int runPartitioned(String job, int partitions, Duration interval, Consumer<LeasedChunk> task) {
+        int count = Math.max(1, partitions);
+        if (!enabled) {
+            for (int index = 0; index < count; index++) {
+                task.accept(new LeasedChunk(this, job, index, count, null, 0));
+            }
+            return count;
+        }
+
+        int completed = 0;
+        try {
+            provision(job, count);
+            for (int attempt = 0; attempt < count; attempt++) {
+                LeasedChunk chunk = claim(job, count, interval);
+                if (chunk == null) {
+                    break;
+                }
+                if (execute(chunk, task)) {
+                    completed++;
+                }
+            }
+        } catch (RuntimeException e) {
+            // DB 장애 등으로 임대를 못 받으면 이번 주기는 건너뛴다
+            log.warn("작업 임대 실패 job={}: {}", job, e.getMessage());
+        }
+        return completed;
+    }
+
+    boolean renew(LeasedChunk chunk) {
+        if (chunk.name == null) {
+            return true;
+        }
+        try {
+            return leaseRepository.renew(chunk.name, nodeId, chunk.claimSeq, LocalDateTime.now().plus(Duration.ofMillis(ttlMillis))) == 1;
+        } catch (RuntimeException e) {
+            log.warn("작업 임대 갱신 실패 {}: {}", chunk.name, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean execute(LeasedChunk chunk, Consumer<LeasedChunk> task) {
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            task.accept(chunk);
+            completed = true;
+        } catch (RuntimeException e) {
+            log.error("작업 구간 실행 실패 {}: {}", chunk.name, e.getMessage(), e);
+        } finally {
+            release(chunk, completed);
+            Timer.builder("scheduling.lease.chunk")
+                    .description("임대받은 작업 구간 실행 시간")
+                    .tag("job", chunk.job())
+                    .tag("outcome", completed ? "completed" : "failed")
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return completed;
+    }
+
+    private LeasedChunk claim(String job, int partitions, Duration interval) {
+        LocalDateTime now = LocalDateTime.now();
+        JobLease lease = claimTransaction.execute(status -> {
+            List<JobLease> claimable = leaseRepository.findClaimable(job, partitions, now, PageRequest.of(0, 1));
+            if (claimable.isEmpty()) {
+                return null;
+            }
+            JobLease claimed = claimable.get(0);
+            // 다음 실행 시각은 시작 기준이라 fixedDelay 주기와 어긋나 한 주기를 건너뛰는 일이 없다
+            claimed.claim(nodeId, now.plus(Duration.ofMillis(ttlMillis)), now.plus(interval));
+            return claimed;
+        });
+        if (lease == null) {
+            return null;
+        }
+        return new LeasedChunk(this, job, lease.getChunk(), partitions, lease.getName(), lease.getClaimSeq());
+    }
+
+    private void finish(LeasedChunk chunk) {
+        if (chunk.name == null) {
+            return;
+        }
+        try {
+            leaseRepository.finish(chunk.name, nodeId, chunk.claimSeq, NEVER);
+        } catch (RuntimeException e) {
+            // 기록하지 못하면 다음 기동에 한 번 더 실행될 뿐이다
+            log.warn("작업 완료 기록 실패 {}: {}", chunk.name, e.getMessage());
+        }
+    }
+
+    private void release(LeasedChunk chunk, boolean completed) {
+        try {
+            leaseRepository.release(chunk.name, nodeId, chunk.claimSeq, completed, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            // 놓지 못한 임대는 ttl 뒤에 풀린다
+            log.warn("작업 임대 반환 실패 {}: {}", chunk.name, e.getMessage());
+        }
+    }
+
+    private void provision(String job, int partitions) {
+        if (provisioned.getOrDefault(job, 0) >= partitions) {
+            return;
+        }
+        Set<Integer> existing = new HashSet<>(leaseRepository.findChunks(job));
+        for (int index = 0; index < partitions; index++) {
+            if (existing.contains(index)) {
+                continue;
+            }
+            try {
+                leaseRepository.insert(JobLease.nameOf(job, index), job, index, LocalDateTime.now());
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 먼저 만들었다
+            }
+        }
+        provisioned.put(job, partitions);
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        // 같은 호스트 이름으로 다시 뜬 컨테이너와 구분한다
+        byte[] suffix = new byte[3];
+        ThreadLocalRandom.current().nextBytes(suffix);
+        return host + "-" + ProcessHandle.current().pid() + "-" + HexFormat.of().formatHex(suffix);
+    }
+}
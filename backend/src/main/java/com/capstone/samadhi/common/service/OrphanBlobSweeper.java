@@ -0,0 +1,135 @@
+package com.capstone.samadhi.common.service;
+
+import com.capstone.samadhi.common.entity.BlobTombstone;
+import com.capstone.samadhi.common.repository.BlobTombstoneRepository;
+import com.capstone.samadhi.common.scheduling.LeasedChunk;
+import com.capstone.samadhi.common.scheduling.LeasedJobScheduler;
+import com.capstone.samadhi.common.storage.BlobStore;
+import com.capstone.samadhi.exception.StorageUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * blob_tombstone에 쌓인 객체를 주기적으로 일괄 삭제
+ * 삭제에 성공한 행만 지우므로 중간에 멈춰도 다음 실행에서 이어서 처리한다
+ * id % partitions 로 나눈 구간을 인스턴스들이 임대받아 나눠 처리한다
+ */
+@Slf4j
+@Component
+public class OrphanBlobSweeper {
+    // S3 DeleteObjects 한 번에 보낼 수 있는 최대 개수
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private final BlobTombstoneRepository tombstoneRepository;
+    private final BlobStore blobStore;
+    private final LeasedJobScheduler jobScheduler;
+    private final Counter deletedCounter;
+    private final Counter failedCounter;
+
+    @Value("${storage.gc.enabled:true}")
+    private boolean enabled;
+
+    @Value("${storage.gc.interval-ms:300000}")
+    private long intervalMillis;
+
+    // 인스턴스 여럿이 동시에 정리할 수 있는 구간 수
+    @Value("${storage.gc.partitions:4}")
+    private int partitions;
+
+    @Value("${storage.gc.batch-size:1000}")
+    private int batchSize;
+
+    // 한 번 실행할 때 처리할 최대 배치 수, 배치 사이 대기와 함께 저장소 부하를 제한한다
+    @Value("${storage.gc.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    @Value("${storage.gc.pause-between-batches-ms:200}")
+    private long pauseMillis;
+
+    // 이 횟수만큼 실패한 객체는 더 이상 시도하지 않고 남겨둔다
+    @Value("${storage.gc.max-attempts:5}")
+    private int maxAttempts;
+
+    public OrphanBlobSweeper(BlobTombstoneRepository tombstoneRepository, BlobStore blobStore,
+                             LeasedJobScheduler jobScheduler, MeterRegistry meterRegistry) {
+        this.tombstoneRepository = tombstoneRepository;
+        this.blobStore = blobStore;
+        this.jobScheduler = jobScheduler;
+        this.deletedCounter = Counter.builder("storage.gc.deleted")
+                .description("삭제된 고아 객체 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("storage.gc.failed")
+                .description("삭제에 실패한 고아 객체 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${storage.gc.interval-ms:300000}", initialDelayString = "${storage.gc.initial-delay-ms:60000}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        jobScheduler.runPartitioned("storage-gc", partitions, Duration.ofMillis(intervalMillis), this::sweep);
+    }
+
+    private void sweep(LeasedChunk chunk) {
+        int size = Math.max(1, Math.min(batchSize, MAX_BATCH_SIZE));
+        long cursor = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<BlobTombstone> tombstones = tombstoneRepository.findBatch(
+                    cursor, maxAttempts, chunk.partitions(), chunk.index(), PageRequest.of(0, size));
+            if (tombstones.isEmpty()) {
+                return;
+            }
+            cursor = tombstones.get(tombstones.size() - 1).getId();
+
+            // 같은 key가 여러 번 기록될 수 있으므로 key별로 묶는다
+            Map<String, List<Long>> idsByKey = new LinkedHashMap<>();
+            for (BlobTombstone tombstone : tombstones) {
+                idsByKey.computeIfAbsent(tombstone.getBlobKey(), key -> new ArrayList<>()).add(tombstone.getId());
+            }
+
+            Set<String> failed;
+            try {
+                failed = blobStore.deleteFiles(idsByKey.keySet());
+            } catch (StorageUnavailableException e) {
+                log.warn("저장소 장애로 고아 객체 정리를 중단합니다: {}", e.getMessage());
+                return;
+            }
+
+            List<Long> doneIds = new ArrayList<>();
+            List<Long> failedIds = new ArrayList<>();
+            idsByKey.forEach((key, ids) -> (failed.contains(key) ? failedIds : doneIds).addAll(ids));
+            if (!doneIds.isEmpty()) {
+                tombstoneRepository.deleteAllByIdIn(doneIds);
+            }
+            if (!failedIds.isEmpty()) {
+                tombstoneRepository.incrementAttempts(failedIds);
+            }
+            deletedCounter.increment(idsByKey.size() - failed.size());
+            failedCounter.increment(failed.size());
+            log.info("고아 객체 정리: 삭제 {}, 실패 {}", idsByKey.size() - failed.size(), failed.size());
+
+            if (tombstones.size() < size || !chunk.renew()) {
+                return;
+            }
+            try {
+                Thread.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -1,52 +1,113 @@
 package com.capstone.samadhi.common.service;
 
-import lombok.RequiredArgsConstructor;
+import com.capstone.samadhi.common.storage.BlobMetadata;
+import com.capstone.samadhi.common.storage.BlobStore;
+import com.capstone.samadhi.common.storage.PresignedUpload;
+import com.capstone.samadhi.common.storage.resilience.Bulkhead;
+import com.capstone.samadhi.common.storage.resilience.CircuitBreaker;
+import com.capstone.samadhi.exception.InternalServerException;
+import com.capstone.samadhi.exception.StorageUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 import software.amazon.awssdk.utils.IoUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 @Service
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 @Slf4j
-public class S3Service {
+public class S3Service implements BlobStore {
+    private static final int MAX_DELETE_BATCH = 1000;
 
     private final S3AsyncClient amazonS3;
+    private final S3Presigner s3Presigner;
+    private final Bulkhead uploadBulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucket;
 
     @Value("${spring.cloud.aws.credentials.region.static}")
     private String regionStr;
 
+    @Value("${spring.cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    // SDK의 api-call-timeout(재시도 포함)과 같은 값, 바깥 대기는 여기에 margin을 더해 SDK가 먼저 실패를 돌려주게 한다
+    @Value("${storage.s3.call-timeout-ms:10000}")
+    private long callTimeoutMillis;
+
+    @Value("${storage.s3.call-timeout-margin-ms:1000}")
+    private long callTimeoutMarginMillis;
+
+    public S3Service(S3AsyncClient amazonS3, S3Presigner s3Presigner,
+                     @Qualifier("s3UploadBulkhead") Bulkhead uploadBulkhead,
+                     @Qualifier("s3CircuitBreaker") CircuitBreaker circuitBreaker,
+                     MeterRegistry meterRegistry) {
+        this.amazonS3 = amazonS3;
+        this.s3Presigner = s3Presigner;
+        this.uploadBulkhead = uploadBulkhead;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
     public String uploadFile(MultipartFile file) throws IOException {
+        String originName = file.getOriginalFilename();
+        String contentType = file.getContentType();
+        byte[] bytes;
+        try (InputStream targetIS = file.getInputStream()) {
+            bytes = IoUtils.toByteArray(targetIS);
+        }
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(originName)
+                .contentDisposition(contentType)
+                .build();
         try {
-            String originName = file.getOriginalFilename();
-            String contentType = file.getContentType();
-            InputStream targetIS = file.getInputStream();
-            byte[] bytes = IoUtils.toByteArray(targetIS);
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(originName)
-                    .contentDisposition(contentType)
-                    .build();
-            PutObjectResponse resp = amazonS3.putObject(putObjectRequest, AsyncRequestBody.fromBytes(bytes)).get();
-            return getPublicUrl(originName);
-        } catch (Exception e) {
+            execute("put", uploadBulkhead, () -> amazonS3.putObject(putObjectRequest, AsyncRequestBody.fromBytes(bytes)));
+        } catch (S3Exception e) {
             log.error("파일등록실패: {}", e.getMessage());
-            return null;
+            throw new InternalServerException("파일 업로드 중 에러가 발생했습니다");
         }
+        return getPublicUrl(originName);
     }
 
+    @Override
     public boolean deleteFile(String filename) {
         try{
             DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
@@ -56,19 +117,162 @@ public class S3Service {
                     .build();
 
             log.info("전달된 파일명: {}", filename);
-            DeleteObjectResponse response = amazonS3.deleteObject(deleteObjectRequest).get();
+            DeleteObjectResponse response = execute("delete", null, () -> amazonS3.deleteObject(deleteObjectRequest));
             log.info("Responses: {}", response);
             return true;
         } catch (Exception e) {
-            System.out.println(e);
-            System.out.println(e.getMessage());
             log.error("에러 발생: {}", e.getMessage());
             return false;
         }
 
     }
+    /**
+     * DeleteObjects(quiet 모드)로 일괄 삭제, 응답에는 실패한 객체만 담긴다
+     */
+    @Override
+    public Set<String> deleteFiles(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+        if (keys.size() > MAX_DELETE_BATCH) {
+            throw new IllegalArgumentException("한 번에 삭제할 수 있는 객체는 " + MAX_DELETE_BATCH + "개까지입니다");
+        }
+        DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+                .bucket(bucket)
+                .delete(delete -> delete
+                        .quiet(true)
+                        .objects(keys.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList()))
+                .build();
 
-    private String getPublicUrl(String filename) {
+        DeleteObjectsResponse response = execute("delete_batch", null, () -> amazonS3.deleteObjects(request));
+        Set<String> failed = new HashSet<>();
+        for (S3Error error : response.errors()) {
+            if (!"NoSuchKey".equals(error.code())) {
+                log.error("객체 삭제 실패 {}: {} {}", error.key(), error.code(), error.message());
+                failed.add(error.key());
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 브라우저가 직접 업로드할 수 있는 pre-signed PUT URL 발급
+     * content-type과 content-length가 서명에 포함되므로 클라이언트는 같은 값으로 요청해야 한다
+     */
+    @Override
+    public PresignedUpload presignUpload(String key, String contentType, long contentLength, Duration ttl) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .putObjectRequest(putObjectRequest)
+                .build();
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(presignRequest);
+        return new PresignedUpload(presigned.url().toString(), presigned.expiration());
+    }
+
+    @Override
+    public Optional<BlobMetadata> findObject(String key) {
+        HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build();
+        try {
+            HeadObjectResponse head = execute("head", null, () -> amazonS3.headObject(headObjectRequest));
+            return Optional.of(new BlobMetadata(key, head.contentLength() == null ? 0 : head.contentLength(), head.contentType()));
+        } catch (S3Exception e) {
+            if (e.statusCode() != 404) {
+                log.error("객체 조회 실패: {}", e.getMessage());
+            }
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String getPublicUrl(String filename) {
+        if (endpoint != null && !endpoint.isBlank()) {
+            return String.format("%s/%s/%s", endpoint.replaceAll("/+$", ""), bucket, filename);
+        }
         return String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, regionStr, filename);
     }
+
+    /**
+     * 서킷 브레이커와 벌크헤드를 거쳐 S3 호출
+     * 4xx 응답은 S3Exception 그대로, 타임아웃/5xx/연결 실패는 StorageUnavailableException으로 던진다
+     */
+    private <T> T execute(String operation, Bulkhead bulkhead, Supplier<CompletableFuture<T>> call) {
+        // 벌크헤드를 먼저 잡아야 거절될 호출이 HALF_OPEN 시험 허가를 쓰지 않는다
+        if (bulkhead != null && !bulkhead.tryAcquire()) {
+            meterRegistry.counter("storage.s3.rejected", "operation", operation, "reason", "bulkhead_full").increment();
+            throw new StorageUnavailableException("업로드 요청이 많습니다. 잠시 후 다시 시도해주세요", 1);
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            if (bulkhead != null) bulkhead.release();
+            meterRegistry.counter("storage.s3.rejected", "operation", operation, "reason", "circuit_open").increment();
+            throw new StorageUnavailableException("스토리지 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요", circuitBreaker.remainingOpenSeconds());
+        }
+
+        long start = System.nanoTime();
+        String outcome = "success";
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            if (bulkhead != null) bulkhead.release();
+            circuitBreaker.release();
+            throw e;
+        }
+        if (bulkhead != null) {
+            // 타임아웃으로 먼저 반환하더라도 실제 요청이 끝날 때 허가를 반납한다
+            future.whenComplete((result, error) -> bulkhead.release());
+        }
+
+        try {
+            T result = future.get(callTimeoutMillis + callTimeoutMarginMillis, TimeUnit.MILLISECONDS);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            outcome = "timeout";
+            circuitBreaker.onFailure();
+            log.error("S3 {} 타임아웃 ({}ms)", operation, callTimeoutMillis + callTimeoutMarginMillis);
+            throw new StorageUnavailableException("스토리지 응답 시간이 초과되었습니다", 1);
+        } catch (ExecutionException | CompletionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof S3Exception s3Exception && isClientError(s3Exception.statusCode())) {
+                outcome = "client_error";
+                circuitBreaker.onSuccess();
+                throw s3Exception;
+            }
+            outcome = "error";
+            circuitBreaker.onFailure();
+            log.error("S3 {} 실패: {}", operation, cause == null ? e.getMessage() : cause.getMessage());
+            throw new StorageUnavailableException("스토리지 요청에 실패했습니다", 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            circuitBreaker.release();
+            outcome = "interrupted";
+            throw new InternalServerException("스토리지 요청이 중단되었습니다");
+        } catch (RuntimeException e) {
+            // 취소 등 결과를 판단할 수 없는 종료
+            circuitBreaker.release();
+            outcome = "error";
+            throw e;
+        } finally {
+            Timer.builder("storage.s3.call")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private boolean isClientError(int status) {
+        return status >= 400 && status < 500 && status != 408 && status != 429;
+    }
 }
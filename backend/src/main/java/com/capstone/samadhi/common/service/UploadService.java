@@ -0,0 +1,114 @@
+package com.capstone.samadhi.common.service;
+
+import com.capstone.samadhi.common.dto.PresignRequest;
+import com.capstone.samadhi.common.dto.PresignResponse;
+import com.capstone.samadhi.common.storage.BlobMetadata;
+import com.capstone.samadhi.common.storage.BlobStore;
+import com.capstone.samadhi.common.storage.PresignedUpload;
+import com.capstone.samadhi.exception.BadRequestException;
+import com.capstone.samadhi.exception.LoginTokenException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 이미지 직접 업로드(pre-signed URL) 발급 및 업로드된 객체 검증
+ */
+@Service
+@RequiredArgsConstructor
+public class UploadService {
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/png", "png",
+            "image/jpeg", "jpg",
+            "image/webp", "webp"
+    );
+
+    private final BlobStore blobStore;
+
+    @Value("${upload.presign.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${upload.presign.max-bytes:5242880}")
+    private long maxBytes;
+
+    @Value("${security.secret.key}")
+    private String secretKey;
+
+    public PresignResponse presign(String userId, PresignRequest request) {
+        String extension = EXTENSIONS.get(request.contentType());
+        if (extension == null) {
+            throw new BadRequestException("지원하지 않는 이미지 형식입니다");
+        }
+        if (request.contentLength() > maxBytes) {
+            throw new BadRequestException("파일 크기가 너무 큽니다");
+        }
+        if (request.type() == PresignRequest.UploadType.snapshot && userId == null) {
+            throw new LoginTokenException("유효한 토큰이 존재하지 않습니다");
+        }
+
+        String key = prefixOf(request.type(), userId) + UUID.randomUUID() + "." + extension;
+        PresignedUpload presigned = blobStore.presignUpload(
+                key, request.contentType(), request.contentLength(), Duration.ofSeconds(ttlSeconds));
+
+        String token = request.type() == PresignRequest.UploadType.profile ? profileTokenOf(key) : null;
+        return new PresignResponse(key, presigned.url(), presigned.expiresAt().toString(), token);
+    }
+
+    /**
+     * 클라이언트가 전달한 key가 본인에게 발급된 것이고 실제로 업로드되었는지 확인
+     * @return 객체의 공개 URL
+     */
+    public String resolve(PresignRequest.UploadType type, String userId, String key) {
+        if (key.contains("..") || !key.startsWith(prefixOf(type, userId))) {
+            throw new BadRequestException("잘못된 이미지 key입니다");
+        }
+        BlobMetadata metadata = blobStore.findObject(key)
+                .orElseThrow(() -> new BadRequestException("업로드되지 않은 이미지입니다"));
+        if (metadata.contentLength() > maxBytes) {
+            throw new BadRequestException("파일 크기가 너무 큽니다");
+        }
+        return blobStore.getPublicUrl(key);
+    }
+
+    /**
+     * 프로필 key는 가입 전에도 발급하므로 회원으로 묶을 수 없고, 쓰고 나면 공개 URL에 그대로 드러난다
+     * 발급할 때 준 token을 함께 받아 그 key를 발급받은 사람인지 확인한다
+     * @return 객체의 공개 URL
+     */
+    public String resolveProfile(String key, String token) {
+        if (token == null || !MessageDigest.isEqual(
+                profileTokenOf(key).getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            throw new BadRequestException("잘못된 이미지 key입니다");
+        }
+        return resolve(PresignRequest.UploadType.profile, null, key);
+    }
+
+    private String profileTokenOf(String key) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] digest = mac.doFinal(("profile-upload\n" + key).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String prefixOf(PresignRequest.UploadType type, String userId) {
+        return switch (type) {
+            case snapshot -> "snapshot/" + userId + "/";
+            // 회원가입 전에도 업로드할 수 있어야 하므로 사용자 구분 없음, 대신 resolveProfile이 발급 token을 확인한다
+            case profile -> "profile/";
+        };
+    }
+}
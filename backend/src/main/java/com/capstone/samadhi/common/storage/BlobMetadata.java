@@ -0,0 +1,8 @@
+package com.capstone.samadhi.common.storage;
+
+public record BlobMetadata(
+        String key,
+        long contentLength,
+        String contentType
+) {
+}
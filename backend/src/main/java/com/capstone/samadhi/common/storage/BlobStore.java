@@ -0,0 +1,55 @@
+package com.capstone.samadhi.common.storage;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 이미지 등 바이너리 객체 저장소
+ * storage.type 설정에 따라 S3(S3Service) 또는 로컬 디스크(LocalBlobStore) 구현이 등록된다
+ */
+public interface BlobStore {
+
+    /**
+     * 파일 업로드
+     * @return 공개 URL
+     * @throws com.capstone.samadhi.exception.StorageUnavailableException 저장소가 느리거나 장애 상태일 때 (503)
+     */
+    String uploadFile(MultipartFile file) throws IOException;
+
+    boolean deleteFile(String key);
+
+    /**
+     * 여러 객체를 한 번에 삭제 (S3 DeleteObjects 한 번 호출 분량, 최대 1000개)
+     * 이미 없는 객체는 성공으로 본다
+     * @return 삭제에 실패한 key
+     */
+    Set<String> deleteFiles(Collection<String> keys);
+
+    /**
+     * 클라이언트가 직접 업로드할 수 있는 서명된 URL 발급
+     */
+    PresignedUpload presignUpload(String key, String contentType, long contentLength, Duration ttl);
+
+    /**
+     * 객체 메타데이터 조회, 객체가 없으면 empty
+     */
+    Optional<BlobMetadata> findObject(String key);
+
+    String getPublicUrl(String key);
+
+    /**
+     * getPublicUrl로 만든 URL에서 key 추출, 이 저장소의 URL이 아니면 empty
+     */
+    default Optional<String> keyOf(String url) {
+        String prefix = getPublicUrl("");
+        if (url == null || url.length() <= prefix.length() || !url.startsWith(prefix)) {
+            return Optional.empty();
+        }
+        return Optional.of(url.substring(prefix.length()));
+    }
+}
@@ -0,0 +1,192 @@
+package com.capstone.samadhi.common.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 로컬 디스크 기반 BlobStore (온프레미스 배포, AWS 없는 테스트/벤치마크용)
+ * 파일은 FileChannel로 임시 파일에 쓴 뒤 원자적으로 이동하고, 조회는 LocalBlobController가 담당한다
+ */
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+@Slf4j
+public class LocalBlobStore implements BlobStore {
+    public static final String URL_PREFIX = "/blobs/";
+
+    private final Path rootDir;
+    private final String publicBaseUrl;
+    private final byte[] signingKey;
+
+    public LocalBlobStore(@Value("${storage.local.root-dir:./data/blobs}") String rootDir,
+                          @Value("${storage.local.public-base-url:http://localhost:8888}") String publicBaseUrl,
+                          @Value("${security.secret.key}") String secretKey) throws IOException {
+        this.rootDir = Path.of(rootDir).toAbsolutePath().normalize();
+        this.publicBaseUrl = publicBaseUrl.replaceAll("/+$", "");
+        this.signingKey = secretKey.getBytes(StandardCharsets.UTF_8);
+        Files.createDirectories(this.rootDir);
+    }
+
+    @Override
+    public String uploadFile(MultipartFile file) throws IOException {
+        String key = file.getOriginalFilename();
+        try (InputStream in = file.getInputStream()) {
+            write(key, in, file.getSize());
+        } catch (IOException e) {
+            log.error("파일등록실패: {}", e.getMessage());
+            throw e;
+        }
+        return getPublicUrl(key);
+    }
+
+    /**
+     * 스트림을 임시 파일에 FileChannel로 기록한 뒤 원자적으로 교체
+     * @param maxBytes 이 크기를 넘으면 중단 (음수면 제한 없음)
+     */
+    public long write(String key, InputStream in, long maxBytes) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling("." + target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+
+        long written = 0;
+        try (ReadableByteChannel source = Channels.newChannel(in);
+             FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long n;
+            while ((n = channel.transferFrom(source, written, 64 * 1024)) > 0) {
+                written += n;
+                if (maxBytes >= 0 && written > maxBytes) {
+                    throw new IOException("파일 크기 초과");
+                }
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return written;
+    }
+
+    @Override
+    public boolean deleteFile(String key) {
+        try {
+            return Files.deleteIfExists(resolve(key));
+        } catch (Exception e) {
+            log.error("에러 발생: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public Set<String> deleteFiles(Collection<String> keys) {
+        Set<String> failed = new HashSet<>();
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+            } catch (IOException | IllegalArgumentException e) {
+                log.error("파일 삭제 실패 {}: {}", key, e.getMessage());
+                failed.add(key);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * S3 pre-signed URL 대신 앱 서버의 PUT 엔드포인트 URL에 HMAC 서명을 붙여 발급
+     */
+    @Override
+    public PresignedUpload presignUpload(String key, String contentType, long contentLength, Duration ttl) {
+        Instant expiresAt = Instant.now().plus(ttl);
+        long expires = expiresAt.getEpochSecond();
+        String signature = sign(key, contentType, contentLength, expires);
+        String url = getPublicUrl(key)
+                + "?expires=" + expires
+                + "&contentType=" + URLEncoder.encode(contentType, StandardCharsets.UTF_8)
+                + "&contentLength=" + contentLength
+                + "&signature=" + signature;
+        return new PresignedUpload(url, expiresAt);
+    }
+
+    public boolean verifyUpload(String key, String contentType, long contentLength, long expires, String signature) {
+        if (signature == null || Instant.now().getEpochSecond() > expires) {
+            return false;
+        }
+        byte[] expected = sign(key, contentType, contentLength, expires).getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Optional<BlobMetadata> findObject(String key) {
+        try {
+            Path path = resolve(key);
+            if (!Files.isRegularFile(path)) {
+                return Optional.empty();
+            }
+            return Optional.of(new BlobMetadata(key, Files.size(path), contentTypeOf(key)));
+        } catch (IOException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String getPublicUrl(String key) {
+        return publicBaseUrl + URL_PREFIX + key;
+    }
+
+    /**
+     * key를 루트 디렉터리 하위 경로로 변환, 루트 밖을 가리키면 예외
+     */
+    public Path resolve(String key) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("빈 key");
+        }
+        Path path = rootDir.resolve(key).normalize();
+        if (!path.startsWith(rootDir) || path.equals(rootDir)) {
+            throw new IllegalArgumentException("잘못된 key: " + key);
+        }
+        return path;
+    }
+
+    public String contentTypeOf(String key) {
+        return MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+    }
+
+    private String sign(String key, String contentType, long contentLength, long expires) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(signingKey, "HmacSHA256"));
+            String payload = "PUT\n" + key + "\n" + contentType + "\n" + contentLength + "\n" + expires;
+            return HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
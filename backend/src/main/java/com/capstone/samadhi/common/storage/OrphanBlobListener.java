@@ -0,0 +1,25 @@
+package com.capstone.samadhi.common.storage;
+
+import com.capstone.samadhi.record.entity.TimeLine;
+import com.capstone.samadhi.security.entity.User;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티가 삭제될 때(orphanRemoval, cascade 포함) 참조하던 이미지를 삭제 대상으로 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class OrphanBlobListener {
+    private final OrphanBlobRecorder recorder;
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof TimeLine timeLine) {
+            recorder.record(timeLine.getImage());
+        } else if (entity instanceof User user) {
+            recorder.record(user.getProfile());
+        }
+    }
+}
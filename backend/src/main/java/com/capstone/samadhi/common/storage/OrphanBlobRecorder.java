@@ -0,0 +1,46 @@
+package com.capstone.samadhi.common.storage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 참조가 끊긴 이미지 URL을 blob_tombstone 테이블에 기록
+ * JPA 콜백 안에서는 EntityManager를 쓸 수 없으므로 같은 트랜잭션의 커넥션으로 JDBC insert를 한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrphanBlobRecorder {
+    // UploadService가 발급한 key만 지운다, 원본 파일명을 key로 쓰던 예전 업로드는 다른 사용자와 겹칠 수 있다
+    private static final String[] MANAGED_PREFIXES = {"snapshot/", "profile/"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlobStore blobStore;
+
+    public void record(String url) {
+        blobStore.keyOf(url)
+                .filter(OrphanBlobRecorder::isManaged)
+                .ifPresent(key -> {
+                    jdbcTemplate.update("insert into blob_tombstone (blob_key, attempts, created_at) values (?, 0, ?)",
+                            key, Timestamp.valueOf(LocalDateTime.now()));
+                    log.debug("삭제 대상 객체 기록: {}", key);
+                });
+    }
+
+    static boolean isManaged(String key) {
+        if (key.contains("..")) {
+            return false;
+        }
+        for (String prefix : MANAGED_PREFIXES) {
+            if (key.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,9 @@
+package com.capstone.samadhi.common.storage;
+
+import java.time.Instant;
+
+public record PresignedUpload(
+        String url,
+        Instant expiresAt
+) {
+}
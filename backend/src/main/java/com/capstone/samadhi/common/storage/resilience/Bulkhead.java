@@ -0,0 +1,73 @@
+package com.capstone.samadhi.common.storage.resilience;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동시 실행 수(maxInFlight)와 대기 수(maxWaiting)를 제한하는 벌크헤드
+ * 대기열까지 가득 차면 기다리지 않고 바로 거절한다
+ */
+public class Bulkhead {
+    private final String name;
+    private final int maxInFlight;
+    private final int maxWaiting;
+    private final long maxWaitNanos;
+
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public Bulkhead(String name, int maxInFlight, int maxWaiting, Duration maxWait) {
+        this.name = name;
+        this.maxInFlight = maxInFlight;
+        this.maxWaiting = maxWaiting;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxInFlight, true);
+    }
+
+    /**
+     * @return 실행 허가를 얻으면 true, 대기열 초과나 대기 시간 초과면 false
+     */
+    public boolean tryAcquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            return false;
+        }
+        try {
+            return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getInFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("storage.bulkhead.in_flight", this, Bulkhead::getInFlight)
+                .tag("name", name)
+                .register(registry);
+        Gauge.builder("storage.bulkhead.waiting", this, Bulkhead::getWaiting)
+                .tag("name", name)
+                .register(registry);
+    }
+}
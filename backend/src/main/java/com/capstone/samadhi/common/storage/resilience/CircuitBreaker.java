@@ -0,0 +1,142 @@
+package com.capstone.samadhi.common.storage.resilience;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+
+/**
+ * 최근 windowSize 개 호출의 실패율로 동작하는 서킷 브레이커
+ * CLOSED -> (실패율 초과) -> OPEN -> (openDuration 경과) -> HALF_OPEN -> (시험 호출 성공) -> CLOSED
+ */
+public class CircuitBreaker {
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final float failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    // 최근 호출 결과 (true = 실패)
+    private final boolean[] window;
+    private int cursor;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, float failureRateThreshold,
+                          Duration openDuration, int halfOpenCalls) {
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.window = new boolean[windowSize];
+    }
+
+    /**
+     * 호출 가능 여부, OPEN 상태면 false (fail fast)
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits <= 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    /**
+     * 허가를 받았지만 결과를 판단할 수 없는 호출(요청 전 예외, 인터럽트)
+     * HALF_OPEN에서 받은 시험 호출 허가를 돌려주지 않으면 상태가 바뀌지 않고 계속 거절하게 된다
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN && halfOpenPermits + halfOpenSuccesses < halfOpenCalls) {
+            halfOpenPermits++;
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recorded >= minimumCalls
+                && (float) failures / recorded * 100 >= failureRateThreshold) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * OPEN 상태가 풀리기까지 남은 시간(초), 최소 1
+     */
+    public synchronized long remainingOpenSeconds() {
+        long remaining = openNanos - (System.nanoTime() - openedAt);
+        return Math.max(1, Duration.ofNanos(Math.max(0, remaining)).toSeconds());
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("storage.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .tag("name", name)
+                .register(registry);
+    }
+
+    private void record(boolean failed) {
+        if (recorded == windowSize) {
+            if (window[cursor]) failures--;
+        } else {
+            recorded++;
+        }
+        window[cursor] = failed;
+        if (failed) failures++;
+        cursor = (cursor + 1) % windowSize;
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        switch (next) {
+            case OPEN -> openedAt = System.nanoTime();
+            case HALF_OPEN -> {
+                halfOpenPermits = halfOpenCalls;
+                halfOpenSuccesses = 0;
+            }
+            case CLOSED -> {
+                cursor = 0;
+                recorded = 0;
+                failures = 0;
+            }
+        }
+    }
+}
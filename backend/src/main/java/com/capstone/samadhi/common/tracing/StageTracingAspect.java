@@ -0,0 +1,74 @@
+package com.capstone.samadhi.common.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * 서비스, 저장소(Spring Data), 파일 저장소(BlobStore) 호출을 단계별 span으로 기록
+ * 샘플링되지 않은 요청은 span을 내보내지 않고 app.* 타이머만 남는다
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class StageTracingAspect {
+    private final ObservationRegistry observationRegistry;
+
+    @Pointcut("execution(public * *(..)) && within(com.capstone.samadhi.common.storage.BlobStore+)")
+    void storage() {
+    }
+
+    @Pointcut("execution(public * *(..)) && within(com.capstone.samadhi..service..*) && !storage()")
+    void service() {
+    }
+
+    @Pointcut("execution(public * *(..)) && this(org.springframework.data.repository.Repository)")
+    void repository() {
+    }
+
+    @Around("service()")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("app.service", joinPoint);
+    }
+
+    @Around("repository()")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("app.repository", joinPoint);
+    }
+
+    @Around("storage()")
+    public Object traceStorage(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("app.storage", joinPoint);
+    }
+
+    private Object observe(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = simpleName(joinPoint) + "." + joinPoint.getSignature().getName();
+        return Observation.createNotStarted(name, observationRegistry)
+                .contextualName(method)
+                .lowCardinalityKeyValue("method", method)
+                .observeChecked((Observation.CheckedCallable<Object, Throwable>) joinPoint::proceed);
+    }
+
+    /**
+     * 저장소는 JDK 프록시라서 선언한 인터페이스 이름을 쓴다
+     */
+    private static String simpleName(ProceedingJoinPoint joinPoint) {
+        Class<?> proxyType = joinPoint.getThis().getClass();
+        if (Proxy.isProxyClass(proxyType)) {
+            for (Class<?> candidate : proxyType.getInterfaces()) {
+                if (candidate.getName().startsWith("com.capstone.samadhi.")) {
+                    return candidate.getSimpleName();
+                }
+            }
+        }
+        return ClassUtils.getUserClass(proxyType).getSimpleName();
+    }
+}
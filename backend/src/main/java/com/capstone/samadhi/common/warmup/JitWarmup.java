@@ -0,0 +1,372 @@
+package com.capstone.samadhi.common.warmup;
+
+import com.capstone.samadhi.common.ResponseDto;
+import com.capstone.samadhi.landmark.LandmarkProperties;
+import com.capstone.samadhi.landmark.align.BandedDtw;
+import com.capstone.samadhi.landmark.filter.LandmarkFilterStage;
+import com.capstone.samadhi.landmark.reference.PoseVectors;
+import com.capstone.samadhi.record.dto.LandmarkBatchRequest;
+import com.capstone.samadhi.record.dto.RecordRequest;
+import com.capstone.samadhi.record.dto.RecordResponse;
+import com.capstone.samadhi.record.dto.TimeLineRequest;
+import com.capstone.samadhi.record.dto.TimeLineResponse;
+import com.capstone.samadhi.record.repository.RecordRepository;
+import com.capstone.samadhi.record.series.ScoreDownsampler;
+import com.capstone.samadhi.record.series.ScoreSeriesCodec;
+import com.capstone.samadhi.security.dto.UserInfoDto;
+import com.capstone.samadhi.security.entity.User;
+import com.capstone.samadhi.security.jwt.JwtUtils;
+import com.capstone.samadhi.security.repo.UserRepository;
+import com.capstone.samadhi.video.repository.VideoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기동 직후 요청 처리 경로를 합성 입력으로 미리 돌려 JIT 컴파일과 지연 초기화(Jackson 직렬화기, Hibernate 쿼리 계획, JJWT, BCrypt)를 끝낸다
+ * ApplicationRunner는 readiness가 ACCEPTING_TRAFFIC으로 바뀌기 전에 실행되므로 끝날 때까지 readiness 프로브가 실패한다
+ * 제한 시간을 넘기면 중단하고 그대로 트래픽을 받는다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class JitWarmup implements ApplicationRunner {
+    private static final int LANDMARKS = 33;
+    private static final int BATCH_FRAMES = 30;
+    private static final int USER_FRAMES = 120;
+    private static final int REFERENCE_FRAMES = 140;
+    private static final int SERIES_POINTS = 300;
+    // 세션 트랙이 계속 자라지 않도록 이 반복마다 필터 세션을 새로 만든다
+    private static final int STAGE_RESET_EVERY = 100;
+
+    private final ObjectMapper objectMapper;
+    private final JwtUtils jwtUtils;
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final RecordRepository recordRepository;
+    private final VideoRepository videoRepository;
+    private final LandmarkProperties landmarkProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${warmup.iterations:2000}")
+    private int iterations;
+
+    @Value("${warmup.max-duration-ms:20000}")
+    private long maxDurationMillis;
+
+    // DB 조회는 이 반복마다 한 번
+    @Value("${warmup.query-every:10}")
+    private int queryEvery;
+
+    // 조회만 하므로 존재하지 않는 id여도 된다
+    @Value("${warmup.scratch-user-id:__warmup__}")
+    private String scratchUserId;
+
+    /**
+     * @param iterations 끝낸 반복 수
+     * @param timedOut   제한 시간에 걸려 중단했는지
+     */
+    record Summary(int iterations, long elapsedMillis, boolean timedOut, List<TaskStats> tasks) {
+    }
+
+    /**
+     * @param firstMicros 첫 호출 시간 (콜드)
+     * @param tailMicros  뒤쪽 절반 반복의 평균 호출 시간
+     */
+    record TaskStats(String name, long calls, double firstMicros, double tailMicros, String failure) {
+    }
+
+    public JitWarmup(ObjectMapper objectMapper, JwtUtils jwtUtils, PasswordEncoder passwordEncoder,
+                     UserRepository userRepository, RecordRepository recordRepository, VideoRepository videoRepository,
+                     LandmarkProperties landmarkProperties, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.jwtUtils = jwtUtils;
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.recordRepository = recordRepository;
+        this.videoRepository = videoRepository;
+        this.landmarkProperties = landmarkProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Summary summary = warmUp();
+        Timer.builder("app.warmup")
+                .description("기동 시 JIT 워밍업 소요 시간")
+                .tag("outcome", summary.timedOut() ? "timeout" : "completed")
+                .register(meterRegistry)
+                .record(summary.elapsedMillis(), TimeUnit.MILLISECONDS);
+        log.info("JIT 워밍업 {}: {}ms, 반복 {}회", summary.timedOut() ? "시간 초과로 중단" : "완료",
+                summary.elapsedMillis(), summary.iterations());
+        for (TaskStats task : summary.tasks()) {
+            if (task.failure() != null) {
+                log.warn("  {}: {}회 후 실패 ({})", task.name(), task.calls(), task.failure());
+            } else {
+                log.info("  {}: {}회, 첫 호출 {}us -> 이후 평균 {}us", task.name(), task.calls(),
+                        Math.round(task.firstMicros()), String.format("%.1f", task.tailMicros()));
+            }
+        }
+    }
+
+    /**
+     * 별도 스레드에서 돌리고 제한 시간이 지나면 인터럽트한다 (DB 호출이 멈춰도 기동이 막히지 않게)
+     */
+    Summary warmUp() {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(maxDurationMillis);
+        List<Task> tasks = new CopyOnWriteArrayList<>();
+        AtomicInteger completed = new AtomicInteger();
+        boolean timedOut = false;
+
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jit-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Future<?> future = executor.submit(() -> {
+                tasks.addAll(tasks());
+                loop(tasks, deadline, completed);
+            });
+            future.get(maxDurationMillis + 1000, TimeUnit.MILLISECONDS);
+            timedOut = completed.get() < iterations;
+        } catch (TimeoutException e) {
+            timedOut = true;
+        } catch (ExecutionException e) {
+            log.warn("JIT 워밍업 실패: {}", e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        // 제한 시간에 걸렸으면 작업 스레드가 아직 기록 중일 수 있으므로 이 시점 값만 옮긴다
+        List<TaskStats> stats = tasks.stream().map(Task::stats).toList();
+        return new Summary(completed.get(), elapsedMillis, timedOut, stats);
+    }
+
+    private void loop(List<Task> tasks, long deadline, AtomicInteger completed) {
+        int tailFrom = iterations / 2;
+        for (int i = 0; i < iterations; i++) {
+            if (System.nanoTime() >= deadline || Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            for (Task task : tasks) {
+                task.runIfDue(i, i >= tailFrom);
+            }
+            completed.set(i + 1);
+        }
+    }
+
+    private List<Task> tasks() {
+        Random random = new Random(42);
+        List<Task> tasks = new ArrayList<>();
+
+        // Jackson: 응답 직렬화와 요청 역직렬화 (MVC 컨버터와 같은 ObjectMapper)
+        ResponseDto<List<RecordResponse>> response = new ResponseDto<>(true, List.of(sampleRecord(random), sampleRecord(random)));
+        byte[] request = write(sampleRequest(random));
+        tasks.add(new Task("RecordResponse 직렬화", 1, Integer.MAX_VALUE, () -> {
+            objectMapper.writeValueAsBytes(response);
+            objectMapper.readValue(request, RecordRequest.class);
+        }));
+
+        tasks.add(new Task("JWT 발급/검증", 1, Integer.MAX_VALUE,
+                () -> jwtUtils.validate(jwtUtils.create(scratchUserId))));
+
+        // BCrypt는 호출 한 번이 수십 ms라 JCA/해싱 풀 초기화만 한다 (해싱 한 번, 검증 한 번)
+        String[] hash = new String[1];
+        tasks.add(new Task("비밀번호 해싱", 1, 2, () -> {
+            if (hash[0] == null) {
+                hash[0] = passwordEncoder.encode(scratchUserId);
+            } else {
+                passwordEncoder.matches(scratchUserId, hash[0]);
+            }
+        }));
+
+        tasks.add(new Task("회원/레코드 조회", Math.max(1, queryEvery), Integer.MAX_VALUE, () -> {
+            userRepository.findById(scratchUserId);
+            recordRepository.findSummariesByUserId(scratchUserId);
+            recordRepository.findVideoAggregatesByUserId(scratchUserId);
+            recordRepository.findIdsByUserId(scratchUserId, PageRequest.of(0, 20));
+            recordRepository.findOwnerIdById(-1L);
+            videoRepository.findAll();
+        }));
+
+        float[] landmarks = sampleLandmarks(random, Math.max(BATCH_FRAMES, REFERENCE_FRAMES));
+        int frameSize = LANDMARKS * LandmarkBatchRequest.COMPONENTS;
+        long[] timestamps = new long[BATCH_FRAMES];
+        float[] values = new float[BATCH_FRAMES * frameSize];
+        LandmarkFilterStage[] stage = new LandmarkFilterStage[1];
+        int[] batches = new int[1];
+        tasks.add(new Task("랜드마크 필터", 1, Integer.MAX_VALUE, () -> {
+            int batch = batches[0]++ % STAGE_RESET_EVERY;
+            if (batch == 0) {
+                stage[0] = new LandmarkFilterStage(LANDMARKS, landmarkProperties);
+            }
+            long base = batch * BATCH_FRAMES * 33L;
+            for (int f = 0; f < BATCH_FRAMES; f++) {
+                timestamps[f] = base + f * 33L;
+            }
+            // process는 배열을 제자리에서 고치므로 매번 원본을 복사한다
+            System.arraycopy(landmarks, 0, values, 0, values.length);
+            stage[0].process(timestamps, values);
+        }));
+
+        int d = PoseVectors.VECTOR_LENGTH;
+        float[] reference = new float[REFERENCE_FRAMES * d];
+        boolean[] referencePresent = new boolean[REFERENCE_FRAMES];
+        for (int f = 0; f < REFERENCE_FRAMES; f++) {
+            referencePresent[f] = PoseVectors.vectorize(landmarks, f * frameSize, LandmarkBatchRequest.COMPONENTS,
+                    1280, 720, reference, f * d);
+        }
+        float[] user = new float[USER_FRAMES * d];
+        boolean[] userPresent = new boolean[USER_FRAMES];
+        BandedDtw dtw = new BandedDtw();
+        tasks.add(new Task("자세 유사도/DTW", 1, Integer.MAX_VALUE, () -> {
+            for (int f = 0; f < USER_FRAMES; f++) {
+                System.arraycopy(reference, (f + 10) * d, user, f * d, d);
+                PoseVectors.mirror(user, f * d);
+                userPresent[f] = referencePresent[f + 10];
+            }
+            dtw.align(user, userPresent, USER_FRAMES, reference, referencePresent, REFERENCE_FRAMES,
+                    0, 10, Double.POSITIVE_INFINITY);
+        }));
+
+        long[] seriesTimestamps = new long[SERIES_POINTS];
+        int[] seriesValues = new int[SERIES_POINTS];
+        for (int p = 0; p < SERIES_POINTS; p++) {
+            seriesTimestamps[p] = p * 200L;
+            seriesValues[p] = ScoreSeriesCodec.quantize(50 + 50 * random.nextFloat());
+        }
+        tasks.add(new Task("점수 시계열 인코딩", 1, Integer.MAX_VALUE, () -> {
+            byte[] series = ScoreSeriesCodec.append(ScoreSeriesCodec.empty(),
+                    ScoreSeriesCodec.encodeBlock(seriesTimestamps, seriesValues, SERIES_POINTS));
+            ScoreDownsampler downsampler = new ScoreDownsampler(0, 1000, SERIES_POINTS / 5);
+            ScoreSeriesCodec.decode(series, 0, Long.MAX_VALUE, downsampler);
+            downsampler.buckets();
+        }));
+        return tasks;
+    }
+
+    private byte[] write(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static RecordResponse sampleRecord(Random random) {
+        List<TimeLineResponse> timelines = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            timelines.add(new TimeLineResponse(i * 15, i * 15 + 15, "Pose " + (i % 12), random.nextFloat() * 100,
+                    "https://example.com/snapshot/warmup/" + i + ".png"));
+        }
+        User user = new User("warmup", null, null, "warmup", "f", LocalDate.of(2000, 1, 1), 165, 55, new ArrayList<>());
+        return new RecordResponse(1L, "2025-11-01T15:00:00", 1800, "https://www.youtube.com/watch?v=warmup",
+                87.5f, 85.1f, timelines, new UserInfoDto(user));
+    }
+
+    private static RecordRequest sampleRequest(Random random) {
+        List<TimeLineRequest> timeLines = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            timeLines.add(new TimeLineRequest(i * 15, i * 15 + 15, "Pose " + (i % 12), random.nextInt(100),
+                    null, "snapshot/warmup/" + i + ".png"));
+        }
+        return new RecordRequest(1800, "https://www.youtube.com/watch?v=warmup", 87, timeLines);
+    }
+
+    /**
+     * 화면 가운데 서 있는 사람이 조금씩 움직이는 프레임들
+     */
+    private static float[] sampleLandmarks(Random random, int frames) {
+        int stride = LandmarkBatchRequest.COMPONENTS;
+        float[] values = new float[frames * LANDMARKS * stride];
+        for (int f = 0; f < frames; f++) {
+            for (int l = 0; l < LANDMARKS; l++) {
+                int offset = (f * LANDMARKS + l) * stride;
+                values[offset] = 0.3f + 0.4f * (l % 7) / 6f + 0.01f * (float) Math.sin(f * 0.2 + l);
+                values[offset + 1] = 0.1f + 0.8f * l / LANDMARKS + 0.005f * random.nextFloat();
+                values[offset + 2] = 0.01f * random.nextFloat();
+                values[offset + 3] = 0.9f;
+            }
+        }
+        return values;
+    }
+
+    @FunctionalInterface
+    private interface Body {
+        void run() throws Exception;
+    }
+
+    /**
+     * 한 종류의 합성 요청, 실패하면 그 작업만 멈추고 나머지는 계속한다
+     */
+    private static final class Task {
+        private final String name;
+        private final int every;
+        private final int maxCalls;
+        private final Body body;
+        private volatile long calls;
+        private volatile long firstNanos;
+        private volatile long tailNanos;
+        private volatile long tailCalls;
+        private volatile String failure;
+
+        Task(String name, int every, int maxCalls, Body body) {
+            this.name = name;
+            this.every = every;
+            this.maxCalls = maxCalls;
+            this.body = body;
+        }
+
+        void runIfDue(int iteration, boolean tail) {
+            if (failure != null || calls >= maxCalls || iteration % every != 0) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                body.run();
+            } catch (Exception e) {
+                failure = e.getClass().getSimpleName() + ": " + e.getMessage();
+                return;
+            }
+            long elapsed = System.nanoTime() - start;
+            if (calls == 0) {
+                firstNanos = elapsed;
+            } else if (tail) {
+                tailNanos += elapsed;
+                tailCalls++;
+            }
+            calls++;
+        }
+
+        TaskStats stats() {
+            long tail = tailCalls;
+            return new TaskStats(name, calls, firstNanos / 1000.0, tail == 0 ? Double.NaN : tailNanos / 1000.0 / tail, failure);
+        }
+    }
+}
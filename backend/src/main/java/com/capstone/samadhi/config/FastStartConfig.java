@@ -0,0 +1,44 @@
+package com.capstone.samadhi.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 빠른 기동 모드 설정 (fast-start.lazy-beans=true)
+ * 요청 처리 경로에 없는 springdoc, OAuth2 client 빈을 첫 사용 시점까지 지연 생성한다
+ */
+@Configuration
+@ConditionalOnProperty(name = "fast-start.lazy-beans", havingValue = "true")
+public class FastStartConfig {
+    private static final List<String> LAZY_PACKAGES = List.of(
+            "org.springdoc.",
+            "io.swagger.",
+            "org.springframework.security.oauth2.",
+            "org.springframework.boot.autoconfigure.security.oauth2."
+    );
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyBeanFactoryPostProcessor() {
+        return beanFactory -> markLazy(beanFactory);
+    }
+
+    private static void markLazy(ConfigurableListableBeanFactory beanFactory) {
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(name);
+            String type = definition.getBeanClassName();
+            if (type == null && definition.getFactoryBeanName() != null && beanFactory.containsBeanDefinition(definition.getFactoryBeanName())) {
+                // @Bean 메서드로 등록된 빈은 선언한 설정 클래스 기준으로 판단
+                type = beanFactory.getBeanDefinition(definition.getFactoryBeanName()).getBeanClassName();
+            }
+            if (type != null && LAZY_PACKAGES.stream().anyMatch(type::startsWith)) {
+                definition.setLazyInit(true);
+            }
+        }
+    }
+}
@@ -1,16 +1,33 @@
 package com.capstone.samadhi.config;
 
+import com.capstone.samadhi.common.storage.resilience.Bulkhead;
+import com.capstone.samadhi.common.storage.resilience.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.backoff.EqualJitterBackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.FullJitterBackoffStrategy;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.time.Duration;
 
 
 @Configuration
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
     @Value("${spring.cloud.aws.credentials.access-key}")
     private String accessKey;
@@ -21,16 +38,106 @@ public class S3Config {
     @Value("${spring.cloud.aws.credentials.region.static}")
     private String regionStr;
 
+    // 로컬 S3 호환 서버(MinIO 등)를 쓸 때만 지정
+    @Value("${spring.cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${storage.s3.call-timeout-ms:10000}")
+    private long callTimeoutMillis;
+
+    @Value("${storage.s3.attempt-timeout-ms:3000}")
+    private long attemptTimeoutMillis;
+
+    @Value("${storage.s3.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${storage.s3.retry-base-delay-ms:100}")
+    private long retryBaseDelayMillis;
+
+    @Value("${storage.s3.retry-max-backoff-ms:2000}")
+    private long retryMaxBackoffMillis;
+
+    @Value("${storage.s3.max-connections:64}")
+    private int maxConnections;
+
+    @Value("${storage.s3.connection-acquire-timeout-ms:2000}")
+    private long connectionAcquireTimeoutMillis;
+
     @Bean
     public S3AsyncClient amazonS3() {
         AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKey, accessSecret);
         final Region region = Region.of(regionStr);
 
-        return S3AsyncClient.builder()
+        // 재시도 간격에 지터를 넣어 장애 복구 시 요청이 한꺼번에 몰리지 않게 한다
+        RetryPolicy retryPolicy = RetryPolicy.builder()
+                .numRetries(maxRetries)
+                .backoffStrategy(FullJitterBackoffStrategy.builder()
+                        .baseDelay(Duration.ofMillis(retryBaseDelayMillis))
+                        .maxBackoffTime(Duration.ofMillis(retryMaxBackoffMillis))
+                        .build())
+                .throttlingBackoffStrategy(EqualJitterBackoffStrategy.builder()
+                        .baseDelay(Duration.ofMillis(retryBaseDelayMillis * 5))
+                        .maxBackoffTime(Duration.ofMillis(retryMaxBackoffMillis))
+                        .build())
+                .build();
+
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
                 .credentialsProvider(DefaultCredentialsProvider.create())
                 .credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
                 .region(region)
-                .build();
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(maxConnections)
+                        .connectionAcquisitionTimeout(Duration.ofMillis(connectionAcquireTimeoutMillis)))
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .apiCallTimeout(Duration.ofMillis(callTimeoutMillis))
+                        .apiCallAttemptTimeout(Duration.ofMillis(attemptTimeoutMillis))
+                        .retryPolicy(retryPolicy)
+                        .build());
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner() {
+        AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKey, accessSecret);
+
+        S3Presigner.Builder builder = S3Presigner.builder()
+                .credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
+                .region(Region.of(regionStr));
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        return builder.build();
     }
 
+    /**
+     * 업로드 동시 실행 수 제한, S3가 느려져도 요청 스레드가 무한정 쌓이지 않게 한다
+     */
+    @Bean
+    public Bulkhead s3UploadBulkhead(
+            @Value("${storage.s3.bulkhead.max-in-flight:32}") int maxInFlight,
+            @Value("${storage.s3.bulkhead.max-waiting:64}") int maxWaiting,
+            @Value("${storage.s3.bulkhead.max-wait-ms:500}") long maxWaitMillis,
+            MeterRegistry meterRegistry) {
+        Bulkhead bulkhead = new Bulkhead("s3-upload", maxInFlight, maxWaiting, Duration.ofMillis(maxWaitMillis));
+        bulkhead.bindTo(meterRegistry);
+        return bulkhead;
+    }
+
+    @Bean
+    public CircuitBreaker s3CircuitBreaker(
+            @Value("${storage.s3.circuit.window-size:20}") int windowSize,
+            @Value("${storage.s3.circuit.minimum-calls:10}") int minimumCalls,
+            @Value("${storage.s3.circuit.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${storage.s3.circuit.open-duration-ms:30000}") long openDurationMillis,
+            @Value("${storage.s3.circuit.half-open-calls:3}") int halfOpenCalls,
+            MeterRegistry meterRegistry) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("s3", windowSize, minimumCalls, failureRateThreshold,
+                Duration.ofMillis(openDurationMillis), halfOpenCalls);
+        circuitBreaker.bindTo(meterRegistry);
+        return circuitBreaker;
+    }
 }
@@ -0,0 +1,25 @@
+package com.capstone.samadhi.config;
+
+import com.capstone.samadhi.common.tracing.FileSpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * 샘플링 비율은 management.tracing.sampling.probability,
+ * 샘플링된 요청의 span은 BatchSpanProcessor를 거쳐 로컬 파일로 내보낸다
+ */
+@Configuration
+@ConditionalOnProperty(name = "tracing.export.file.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+    @Bean
+    public FileSpanExporter fileSpanExporter(@Value("${tracing.export.file.path:./logs/spans.jsonl}") Path path,
+                                             @Value("${tracing.export.file.max-size:50MB}") DataSize maxSize) {
+        return new FileSpanExporter(path, maxSize.toBytes());
+    }
+}
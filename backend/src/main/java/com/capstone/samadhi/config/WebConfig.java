@@ -1,9 +1,17 @@
 package com.capstone.samadhi.config;
 import static  com.capstone.samadhi.config.Whitelist.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
     @Override
@@ -15,4 +23,20 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true)
                 .maxAge(3600);
     }
+
+    /**
+     * Accept / Content-Type 헤더가 application/cbor, application/x-jackson-smile 이면 바이너리로 주고받는다
+     * JSON이 기본값이 되도록 바이너리 컨버터는 목록 끝에 둔다
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        if (converters.stream().noneMatch(MappingJackson2CborHttpMessageConverter.class::isInstance)) {
+            ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+            converters.add(new MappingJackson2CborHttpMessageConverter(cborMapper));
+        }
+        if (converters.stream().noneMatch(MappingJackson2SmileHttpMessageConverter.class::isInstance)) {
+            ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+            converters.add(new MappingJackson2SmileHttpMessageConverter(smileMapper));
+        }
+    }
 }
@@ -1,6 +1,10 @@
 package com.capstone.samadhi.config;
 import static com.capstone.samadhi.config.Whitelist.*;
 
+import com.capstone.samadhi.common.ratelimit.RateLimitFilter;
+import com.capstone.samadhi.common.ratelimit.RateLimitProperties;
+import com.capstone.samadhi.common.ratelimit.RateLimiter;
+import com.capstone.samadhi.security.crypto.BoundedPasswordEncoder;
 import com.capstone.samadhi.security.handler.CustomLogoutHandler;
 import com.capstone.samadhi.security.handler.CustomLogoutSuccessHandler;
 import com.capstone.samadhi.security.handler.FailedAuthenticationEntryPoint;
@@ -8,8 +12,10 @@ import com.capstone.samadhi.security.jwt.JwtAuthEntryPoint;
 import com.capstone.samadhi.security.jwt.JwtAuthenticationFilter;
 import com.capstone.samadhi.security.jwt.JwtUtils;
 import com.capstone.samadhi.security.service.CustomUserDetailService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Configurable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -40,6 +46,9 @@ public class WebSecurityConfig {
     private final CustomUserDetailService userDetailService; //testtest
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtUtils jwtUtils;
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProperties;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -55,6 +64,7 @@ public class WebSecurityConfig {
                 })
                 .exceptionHandling(exceptionHandling -> exceptionHandling.authenticationEntryPoint(new FailedAuthenticationEntryPoint()))
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(new RateLimitFilter(rateLimiter, rateLimitProperties, meterRegistry), JwtAuthenticationFilter.class)
                 .formLogin(AbstractHttpConfigurer::disable)
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .logout(logout ->
@@ -93,6 +103,16 @@ public class WebSecurityConfig {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
+    /**
+     * BCrypt 해싱은 요청 스레드가 아닌 전용 풀에서 수행
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {return new BCryptPasswordEncoder();}
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password-hash.pool-size:0}") int poolSize,
+            @Value("${security.password-hash.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password-hash.timeout-ms:3000}") long timeoutMillis
+    ) {
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), threads, queueCapacity, timeoutMillis, meterRegistry);
+    }
 }
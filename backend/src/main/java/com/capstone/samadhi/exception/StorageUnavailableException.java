@@ -0,0 +1,19 @@
+package com.capstone.samadhi.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 스토리지가 느리거나 장애 상태여서 요청을 즉시 거절할 때 사용
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class StorageUnavailableException extends RuntimeException{
+    private final long retryAfterSeconds;
+
+    public StorageUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {return retryAfterSeconds;}
+}
@@ -0,0 +1,18 @@
+package com.capstone.samadhi.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends RuntimeException{
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message) {this(message, 1);}
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {return retryAfterSeconds;}
+}
@@ -0,0 +1,72 @@
+package com.capstone.samadhi.landmark;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "landmark")
+public class LandmarkProperties {
+    // 동시에 유지할 수 있는 최대 세션 수
+    private int maxSessions = 1000;
+    // 이 시간 동안 프레임이 들어오지 않은 세션은 제거
+    private Duration idleTimeout = Duration.ofMinutes(5);
+    // 세션별로 보관할 최근 필터링 프레임 수
+    private int ringCapacity = 256;
+    private Filter filter = new Filter();
+    private Presence presence = new Presence();
+    private Reference reference = new Reference();
+    private Track track = new Track();
+
+    /**
+     * One-Euro 필터 파라미터 (0~1로 정규화된 좌표, 30fps 기준)
+     * minCutoff를 낮추면 정지 시 떨림이 줄고, beta를 높이면 빠른 동작에서 지연이 줄어든다
+     */
+    @Data
+    public static class Filter {
+        private float minCutoff = 1f;
+        private float beta = 5f;
+        private float derivativeCutoff = 1f;
+        // 프레임 간격이 이보다 길면 이전 상태를 버리고 새로 시작
+        private long resetGapMs = 1000;
+    }
+
+    /**
+     * 프론트엔드 isPersonInFrame과 같은 기준
+     */
+    @Data
+    public static class Presence {
+        private float minVisibility = 0.1f;
+        // visibility가 낮은 랜드마크가 이 개수 이상이면 사람이 없는 프레임으로 보고 버린다
+        private int maxInvisible = 12;
+    }
+
+    /**
+     * 참조 자세 라이브러리 파일 위치, 파일이 없으면 jar에 포함된 기본 라이브러리를 쓴다
+     * 샘플 영상별 강사 동작 트랙은 trackDir/{videoId}.track 에 둔다
+     */
+    @Data
+    public static class Reference {
+        private String path = "./data/reference-poses.bin";
+        private String trackDir = "./data/reference-tracks";
+        // 트랙 파일이 바뀌었는지 다시 확인하는 간격
+        private Duration trackRecheckInterval = Duration.ofSeconds(30);
+    }
+
+    /**
+     * 운동 후 강사 트랙과 정렬해 채점하려고 세션 전체 좌표를 일정 간격으로 보관
+     * 100ms 간격, 18000프레임이면 30분에 세션당 약 3.5MB
+     */
+    @Data
+    public static class Track {
+        private boolean enabled = true;
+        private int periodMs = 100;
+        private int maxFrames = 18000;
+        // 요청에 영상 크기가 없을 때 쓰는 값
+        private int defaultWidth = 1280;
+        private int defaultHeight = 720;
+    }
+}
@@ -0,0 +1,136 @@
+package com.capstone.samadhi.landmark.align;
+
+import com.capstone.samadhi.landmark.reference.PoseVectors;
+
+/**
+ * 사용자 트랙을 강사 트랙에 Sakoe-Chiba 폭 제한 DTW로 정렬
+ * 사용자 프레임 i는 강사 프레임 offset + i에 해당한다고 보고 ±radius 프레임 안에서만 대응을 찾으므로
+ * 시간과 메모리가 프레임 수 x (2 x radius + 1)에 비례한다
+ *
+ * 프레임 비용은 1 - 유사도/100, 한쪽이라도 사람이 없는 프레임은 1로 둔다
+ * 시작과 끝은 폭 안에서 자유롭게 둔다 (운동 시작과 종료 시점의 지연도 허용)
+ *
+ * 누적 비용 행과 역추적 배열은 인스턴스에 두고 다음 정렬에 재사용하므로 스레드마다 하나씩 써야 한다
+ */
+public final class BandedDtw {
+    private static final byte DIAGONAL = 0;
+    private static final byte UP = 1;
+    private static final byte LEFT = 2;
+    private static final byte START = 3;
+
+    private double[] previous = new double[0];
+    private double[] current = new double[0];
+    private byte[] moves = new byte[0];
+
+    /**
+     * @param match     사용자 프레임별로 대응하는 강사 프레임, 중단했으면 null
+     * @param cost      정렬 경로의 누적 비용
+     * @param abandoned 누적 비용이 한도를 넘어 중간에 멈췄으면 true
+     */
+    public record Result(int[] match, double cost, boolean abandoned) {
+    }
+
+    /**
+     * @param user          사용자 프레임 (userFrames x VECTOR_LENGTH)
+     * @param userPresent   사용자 프레임별 사람 존재 여부
+     * @param reference     강사 프레임 (referenceFrames x VECTOR_LENGTH)
+     * @param offset        사용자 프레임 0이 대응하는 강사 프레임
+     * @param radius        허용하는 지연/앞섬 (프레임 수)
+     * @param abandonAbove  한 행의 최소 누적 비용이 이 값을 넘으면 중단 (Double.POSITIVE_INFINITY면 끝까지)
+     */
+    public Result align(float[] user, boolean[] userPresent, int userFrames,
+                        float[] reference, boolean[] referencePresent, int referenceFrames,
+                        int offset, int radius, double abandonAbove) {
+        int width = 2 * radius + 1;
+        ensureCapacity(width, userFrames);
+        int d = PoseVectors.VECTOR_LENGTH;
+
+        int rows = 0;
+        for (int i = 0; i < userFrames; i++) {
+            // 이 행의 k번째 칸은 강사 프레임 base + k
+            int base = offset + i - radius;
+            double rowMin = Double.POSITIVE_INFINITY;
+            for (int k = 0; k < width; k++) {
+                int j = base + k;
+                if (j < 0 || j >= referenceFrames) {
+                    current[k] = Double.POSITIVE_INFINITY;
+                    continue;
+                }
+                double cost = userPresent[i] && referencePresent[j]
+                        ? 1 - PoseVectors.similarity(user, i * d, reference, j * d) / 100.0
+                        : 1;
+                double best;
+                byte move;
+                if (i == 0) {
+                    best = 0;
+                    move = START;
+                } else {
+                    // 이전 행은 한 프레임 앞에서 시작하므로 같은 j는 k + 1, 대각선은 k
+                    best = previous[k];
+                    move = DIAGONAL;
+                    if (k + 1 < width && previous[k + 1] < best) {
+                        best = previous[k + 1];
+                        move = UP;
+                    }
+                }
+                if (k > 0 && current[k - 1] < best) {
+                    best = current[k - 1];
+                    move = LEFT;
+                }
+                current[k] = best + cost;
+                moves[i * width + k] = move;
+                rowMin = Math.min(rowMin, current[k]);
+            }
+            if (rowMin == Double.POSITIVE_INFINITY || rowMin > abandonAbove) {
+                return new Result(null, rowMin, true);
+            }
+            double[] swap = previous;
+            previous = current;
+            current = swap;
+            rows++;
+        }
+        if (rows == 0) {
+            return new Result(new int[0], 0, false);
+        }
+
+        // 마지막 행에서 비용이 가장 작은 칸부터 거꾸로 따라간다
+        int k = 0;
+        for (int c = 1; c < width; c++) {
+            if (previous[c] < previous[k]) {
+                k = c;
+            }
+        }
+        double cost = previous[k];
+        int[] match = new int[userFrames];
+        int i = userFrames - 1;
+        match[i] = offset + i - radius + k;
+        while (true) {
+            byte move = moves[i * width + k];
+            if (move == START) {
+                break;
+            } else if (move == LEFT) {
+                k--;
+                continue;
+            } else if (move == UP) {
+                k++;
+            }
+            i--;
+            match[i] = offset + i - radius + k;
+        }
+        return new Result(match, cost, false);
+    }
+
+    private void ensureCapacity(int width, int userFrames) {
+        if (previous.length < width) {
+            previous = new double[width];
+            current = new double[width];
+        }
+        long cells = (long) width * userFrames;
+        if (moves.length < cells) {
+            if (cells > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("정렬할 프레임이 너무 많습니다: " + userFrames);
+            }
+            moves = new byte[(int) cells];
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.capstone.samadhi.landmark.controller;
+
+import com.capstone.samadhi.common.ResponseDto;
+import com.capstone.samadhi.common.SecurityUtil;
+import com.capstone.samadhi.landmark.dto.LandmarkIngestResponse;
+import com.capstone.samadhi.landmark.service.LandmarkService;
+import com.capstone.samadhi.record.dto.LandmarkBatchRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/landmark")
+@Tag(name = "랜드마크", description = "운동 중 랜드마크 스트림 수집")
+public class LandmarkController {
+    private final LandmarkService landmarkService;
+
+    @PostMapping("")
+    @Operation(summary = "랜드마크 배치 전송",
+            description = "사람이 없는 프레임을 버리고 One-Euro 필터로 떨림을 줄입니다. JSON 외에 application/cbor, application/x-jackson-smile도 지원합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "처리 성공"),
+            @ApiResponse(responseCode = "400", description = "배치 형식 오류"),
+            @ApiResponse(responseCode = "429", description = "진행 중인 세션 수 초과")
+    })
+    public ResponseEntity<ResponseDto<LandmarkIngestResponse>> ingest(@RequestBody LandmarkBatchRequest request) {
+        return ResponseEntity.ok(landmarkService.ingest(SecurityUtil.getCurrentUser(), request));
+    }
+
+    @DeleteMapping("/{session_id}")
+    @Operation(summary = "랜드마크 세션 종료")
+    public ResponseEntity<ResponseDto<String>> end(@PathVariable("session_id") Long sessionId) {
+        landmarkService.end(SecurityUtil.getCurrentUser(), sessionId);
+        return ResponseEntity.ok(new ResponseDto<>());
+    }
+}
@@ -0,0 +1,21 @@
+package com.capstone.samadhi.landmark.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record LandmarkIngestResponse(
+        @Schema(description = "세션 식별자", example = "1")
+        Long sessionId,
+
+        @Schema(description = "이번 배치에서 통과한 프레임 수", example = "28")
+        int accepted,
+
+        @Schema(description = "이번 배치에서 사람이 없어 버린 프레임 수", example = "2")
+        int dropped,
+
+        @Schema(description = "세션 누적 jitter (필터 전)", example = "0.0041")
+        double rawJitter,
+
+        @Schema(description = "세션 누적 jitter (필터 후)", example = "0.0012")
+        double filteredJitter
+) {
+}
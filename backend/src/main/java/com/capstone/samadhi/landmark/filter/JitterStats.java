@@ -0,0 +1,60 @@
+package com.capstone.samadhi.landmark.filter;
+
+/**
+ * 관절별 프레임 간 이동 거리의 표준편차(jitter)를 온라인으로 누적 (Welford)
+ * 프론트엔드 calcJitter와 같은 정의로, 관절별 표준편차의 평균을 반환한다
+ */
+public final class JitterStats {
+    private final int landmarkCount;
+    private final int stride;
+    private final float[] previous;
+    private final long[] count;
+    private final double[] mean;
+    private final double[] m2;
+    private boolean hasPrevious;
+
+    public JitterStats(int landmarkCount, int stride) {
+        this.landmarkCount = landmarkCount;
+        this.stride = stride;
+        this.previous = new float[landmarkCount * 3];
+        this.count = new long[landmarkCount];
+        this.mean = new double[landmarkCount];
+        this.m2 = new double[landmarkCount];
+    }
+
+    public void accept(float[] frame, int offset) {
+        for (int l = 0; l < landmarkCount; l++) {
+            int src = offset + l * stride;
+            int p = l * 3;
+            if (hasPrevious) {
+                float dx = frame[src] - previous[p];
+                float dy = frame[src + 1] - previous[p + 1];
+                float dz = frame[src + 2] - previous[p + 2];
+                double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+                long n = ++count[l];
+                double delta = distance - mean[l];
+                mean[l] += delta / n;
+                m2[l] += delta * (distance - mean[l]);
+            }
+            previous[p] = frame[src];
+            previous[p + 1] = frame[src + 1];
+            previous[p + 2] = frame[src + 2];
+        }
+        hasPrevious = true;
+    }
+
+    /**
+     * 프레임이 끊겼을 때 다음 프레임과의 거리를 재지 않도록 한다
+     */
+    public void breakSequence() {
+        hasPrevious = false;
+    }
+
+    public double jitter() {
+        double sum = 0;
+        for (int l = 0; l < landmarkCount; l++) {
+            sum += count[l] > 0 ? Math.sqrt(m2[l] / count[l]) : 0;
+        }
+        return sum / landmarkCount;
+    }
+}
@@ -0,0 +1,142 @@
+package com.capstone.samadhi.landmark.filter;
+
+import com.capstone.samadhi.landmark.LandmarkProperties;
+import com.capstone.samadhi.landmark.reference.ReferencePoseFormat;
+import com.capstone.samadhi.record.dto.LandmarkBatchRequest;
+
+/**
+ * 세션 하나의 랜드마크 전처리 단계
+ * 사람이 없는 프레임을 버리고 남은 프레임에 One-Euro 필터를 적용한 뒤 최근 프레임 버퍼에 보관한다
+ * 필요한 배열은 세션 시작 시 모두 할당하므로 프레임당 할당이 없다 (세션 트랙은 길이에 따라 늘어난다)
+ */
+public final class LandmarkFilterStage {
+    private static final int STRIDE = LandmarkBatchRequest.COMPONENTS;
+    private static final int VISIBILITY = 3;
+
+    private final int landmarkCount;
+    private final int frameSize;
+    private final float minVisibility;
+    private final int maxInvisible;
+
+    private final OneEuroFilter filter;
+    private final LandmarkRingBuffer ring;
+    private final JitterStats rawJitter;
+    private final JitterStats filteredJitter;
+    // MediaPipe Pose(33개) 세션만 기록, 아니면 null
+    private final SessionTrack track;
+
+    private long accepted;
+    private long dropped;
+    private volatile long lastSeenNanos = System.nanoTime();
+
+    public LandmarkFilterStage(int landmarkCount, LandmarkProperties properties) {
+        this(landmarkCount, properties, properties.getTrack().getDefaultWidth(), properties.getTrack().getDefaultHeight());
+    }
+
+    /**
+     * @param width  영상 너비(px), 세션 트랙의 정규화에 쓴다
+     * @param height 영상 높이(px)
+     */
+    public LandmarkFilterStage(int landmarkCount, LandmarkProperties properties, int width, int height) {
+        this.landmarkCount = landmarkCount;
+        this.frameSize = landmarkCount * STRIDE;
+        this.minVisibility = properties.getPresence().getMinVisibility();
+        this.maxInvisible = properties.getPresence().getMaxInvisible();
+        LandmarkProperties.Filter f = properties.getFilter();
+        this.filter = new OneEuroFilter(landmarkCount, STRIDE, f.getMinCutoff(), f.getBeta(),
+                f.getDerivativeCutoff(), f.getResetGapMs());
+        this.ring = new LandmarkRingBuffer(properties.getRingCapacity(), frameSize);
+        this.rawJitter = new JitterStats(landmarkCount, STRIDE);
+        this.filteredJitter = new JitterStats(landmarkCount, STRIDE);
+        LandmarkProperties.Track t = properties.getTrack();
+        this.track = t.isEnabled() && landmarkCount == ReferencePoseFormat.LANDMARK_COUNT
+                ? new SessionTrack(t.getPeriodMs(), t.getMaxFrames(), width, height)
+                : null;
+    }
+
+    /**
+     * 배치의 프레임을 순서대로 처리
+     * 통과한 프레임은 필터링된 값으로 values, timestamps 앞쪽에 당겨 담는다
+     * @return 통과한 프레임 수
+     */
+    public synchronized int process(long[] timestamps, float[] values) {
+        lastSeenNanos = System.nanoTime();
+        int kept = 0;
+        for (int f = 0; f < timestamps.length; f++) {
+            int offset = f * frameSize;
+            if (!isPersonInFrame(values, offset)) {
+                dropped++;
+                rawJitter.breakSequence();
+                filteredJitter.breakSequence();
+                continue;
+            }
+            rawJitter.accept(values, offset);
+            filter.apply(values, offset, timestamps[f]);
+            filteredJitter.accept(values, offset);
+            ring.push(values, offset, timestamps[f]);
+            if (track != null) {
+                track.accept(values, offset, STRIDE, timestamps[f]);
+            }
+
+            if (kept != f) {
+                System.arraycopy(values, offset, values, kept * frameSize, frameSize);
+                timestamps[kept] = timestamps[f];
+            }
+            kept++;
+        }
+        accepted += kept;
+        return kept;
+    }
+
+    /**
+     * 프론트엔드 isPersonInFrame과 같은 기준으로 사람이 화면에 있는지 판단
+     */
+    private boolean isPersonInFrame(float[] values, int offset) {
+        int invisible = 0;
+        for (int l = 0; l < landmarkCount; l++) {
+            if (values[offset + l * STRIDE + VISIBILITY] < minVisibility && ++invisible >= maxInvisible) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getLandmarkCount() {
+        return landmarkCount;
+    }
+
+    public synchronized long getAccepted() {
+        return accepted;
+    }
+
+    public synchronized long getDropped() {
+        return dropped;
+    }
+
+    public synchronized double getRawJitter() {
+        return rawJitter.jitter();
+    }
+
+    public synchronized double getFilteredJitter() {
+        return filteredJitter.jitter();
+    }
+
+    /**
+     * 최근 필터링 프레임, 읽을 때는 이 객체로 동기화해야 한다
+     */
+    public LandmarkRingBuffer getRing() {
+        return ring;
+    }
+
+    /**
+     * 세션 전체 트랙, 읽을 때는 이 객체로 동기화해야 한다
+     * @return 기록하지 않는 세션이면 null
+     */
+    public SessionTrack getTrack() {
+        return track;
+    }
+
+    public boolean isIdle(long now, long idleNanos) {
+        return now - lastSeenNanos > idleNanos;
+    }
+}
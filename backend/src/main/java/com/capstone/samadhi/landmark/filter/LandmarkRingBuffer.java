@@ -0,0 +1,72 @@
+package com.capstone.samadhi.landmark.filter;
+
+/**
+ * 최근 프레임을 고정 크기 primitive 배열에 순환 저장
+ * 가득 차면 가장 오래된 프레임을 덮어쓴다
+ */
+public final class LandmarkRingBuffer {
+    private final int capacity;
+    private final int frameSize;
+    private final float[] values;
+    private final long[] timestamps;
+    private int head;
+    private int size;
+
+    public LandmarkRingBuffer(int capacity, int frameSize) {
+        this.capacity = capacity;
+        this.frameSize = frameSize;
+        this.values = new float[capacity * frameSize];
+        this.timestamps = new long[capacity];
+    }
+
+    public void push(float[] frame, int offset, long timestampMillis) {
+        System.arraycopy(frame, offset, values, head * frameSize, frameSize);
+        timestamps[head] = timestampMillis;
+        head = (head + 1) % capacity;
+        if (size < capacity) {
+            size++;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int frameSize() {
+        return frameSize;
+    }
+
+    /**
+     * @param age 0이면 가장 최근 프레임
+     * @return 내부 배열에서 해당 프레임이 시작하는 위치 (values()와 함께 사용)
+     */
+    public int offsetOf(int age) {
+        if (age < 0 || age >= size) {
+            throw new IndexOutOfBoundsException(age);
+        }
+        return slotOf(age) * frameSize;
+    }
+
+    public long timestampOf(int age) {
+        if (age < 0 || age >= size) {
+            throw new IndexOutOfBoundsException(age);
+        }
+        return timestamps[slotOf(age)];
+    }
+
+    /**
+     * 복사 없이 읽기 위한 내부 배열, 세션 잠금 안에서만 사용해야 한다
+     */
+    public float[] values() {
+        return values;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private int slotOf(int age) {
+        return (head - 1 - age + capacity) % capacity;
+    }
+}
@@ -0,0 +1,95 @@
+package com.capstone.samadhi.landmark.filter;
+
+/**
+ * 랜드마크 좌표(x, y, z)별 One-Euro 필터
+ * 상태는 생성 시 할당한 primitive 배열에만 두고, 프레임 처리 중에는 객체를 만들지 않는다
+ * (Casiez et al., "1€ Filter", CHI 2012)
+ */
+public final class OneEuroFilter {
+    private static final int COORDINATES = 3;
+
+    private final int landmarkCount;
+    private final int stride;
+    private final float minCutoff;
+    private final float beta;
+    private final float derivativeCutoff;
+    private final long resetGapMillis;
+
+    private final float[] filtered;
+    private final float[] derivative;
+    private long lastTimestamp;
+    private boolean initialized;
+
+    /**
+     * @param stride 한 랜드마크가 차지하는 float 수 (x, y, z 다음 값은 필터링하지 않는다)
+     */
+    public OneEuroFilter(int landmarkCount, int stride, float minCutoff, float beta,
+                         float derivativeCutoff, long resetGapMillis) {
+        this.landmarkCount = landmarkCount;
+        this.stride = stride;
+        this.minCutoff = minCutoff;
+        this.beta = beta;
+        this.derivativeCutoff = derivativeCutoff;
+        this.resetGapMillis = resetGapMillis;
+        this.filtered = new float[landmarkCount * COORDINATES];
+        this.derivative = new float[landmarkCount * COORDINATES];
+    }
+
+    /**
+     * frame[offset..]의 한 프레임을 제자리에서 필터링
+     */
+    public void apply(float[] frame, int offset, long timestampMillis) {
+        long gap = timestampMillis - lastTimestamp;
+        if (!initialized || gap > resetGapMillis || gap < 0) {
+            reset(frame, offset, timestampMillis);
+            return;
+        }
+        if (gap == 0) {
+            // 같은 시각의 중복 프레임은 직전 결과로 덮어쓴다
+            write(frame, offset);
+            return;
+        }
+
+        float dt = gap / 1000f;
+        float derivativeAlpha = alpha(derivativeCutoff, dt);
+        for (int l = 0; l < landmarkCount; l++) {
+            int src = offset + l * stride;
+            int state = l * COORDINATES;
+            for (int c = 0; c < COORDINATES; c++) {
+                float previous = filtered[state + c];
+                float raw = frame[src + c];
+                float dx = derivative[state + c] + derivativeAlpha * ((raw - previous) / dt - derivative[state + c]);
+                float cutoff = minCutoff + beta * Math.abs(dx);
+                float value = previous + alpha(cutoff, dt) * (raw - previous);
+                derivative[state + c] = dx;
+                filtered[state + c] = value;
+                frame[src + c] = value;
+            }
+        }
+        lastTimestamp = timestampMillis;
+    }
+
+    private void reset(float[] frame, int offset, long timestampMillis) {
+        for (int l = 0; l < landmarkCount; l++) {
+            int src = offset + l * stride;
+            int state = l * COORDINATES;
+            for (int c = 0; c < COORDINATES; c++) {
+                filtered[state + c] = frame[src + c];
+                derivative[state + c] = 0f;
+            }
+        }
+        lastTimestamp = timestampMillis;
+        initialized = true;
+    }
+
+    private void write(float[] frame, int offset) {
+        for (int l = 0; l < landmarkCount; l++) {
+            System.arraycopy(filtered, l * COORDINATES, frame, offset + l * stride, COORDINATES);
+        }
+    }
+
+    private static float alpha(float cutoff, float dt) {
+        float tau = (float) (1.0 / (2 * Math.PI * cutoff));
+        return 1f / (1f + tau / dt);
+    }
+}
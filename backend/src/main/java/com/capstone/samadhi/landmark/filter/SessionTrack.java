@@ -0,0 +1,99 @@
+package com.capstone.samadhi.landmark.filter;
+
+import com.capstone.samadhi.landmark.reference.PoseVectors;
+
+/**
+ * 세션 전체의 정규화 좌표를 영상 시각 기준 일정 간격으로 보관 (운동 후 강사 트랙과 정렬해 채점할 때 사용)
+ * 좌표는 0.001 단위 short로 줄여 저장하고, 간격마다 처음 들어온 프레임 하나만 남긴다
+ */
+public final class SessionTrack {
+    private static final float SCALE = 1000f;
+    private static final int INITIAL_FRAMES = 600;
+
+    private final int periodMillis;
+    private final int maxFrames;
+    private final int width;
+    private final int height;
+    private final float[] scratch = new float[PoseVectors.VECTOR_LENGTH];
+
+    private short[] values = new short[0];
+    private boolean[] present = new boolean[0];
+    private long firstSlot = -1;
+    private int frameCount;
+
+    public SessionTrack(int periodMillis, int maxFrames, int width, int height) {
+        this.periodMillis = periodMillis;
+        this.maxFrames = maxFrames;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * @param landmarks 프레임의 0~1 정규화 좌표, 랜드마크마다 stride개 값
+     */
+    public void accept(float[] landmarks, int offset, int stride, long timestampMillis) {
+        long slot = Math.floorDiv(timestampMillis, periodMillis);
+        if (firstSlot < 0) {
+            firstSlot = slot;
+        }
+        long index = slot - firstSlot;
+        // 이미 채운 간격이거나 앞선 시각, 또는 최대 길이를 넘은 프레임
+        if (index < frameCount || index >= maxFrames) {
+            return;
+        }
+        if (!PoseVectors.vectorize(landmarks, offset, stride, width, height, scratch, 0)) {
+            return;
+        }
+        int frame = (int) index;
+        ensureCapacity(frame + 1);
+        int base = frame * PoseVectors.VECTOR_LENGTH;
+        for (int i = 0; i < PoseVectors.VECTOR_LENGTH; i++) {
+            float scaled = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, Math.round(scratch[i] * SCALE)));
+            values[base + i] = (short) scaled;
+        }
+        present[frame] = true;
+        frameCount = frame + 1;
+    }
+
+    public int periodMillis() {
+        return periodMillis;
+    }
+
+    public int frameCount() {
+        return frameCount;
+    }
+
+    /**
+     * 첫 프레임의 영상 시각(ms), 프레임이 없으면 -1
+     */
+    public long startMillis() {
+        return firstSlot < 0 ? -1 : firstSlot * periodMillis;
+    }
+
+    public boolean isPresent(int frame) {
+        return present[frame];
+    }
+
+    /**
+     * 프레임 하나를 float로 풀어 target[targetOffset..]에 쓴다, 비어 있는 프레임은 0으로 채운다
+     */
+    public void copyFrame(int frame, float[] target, int targetOffset) {
+        int base = frame * PoseVectors.VECTOR_LENGTH;
+        for (int i = 0; i < PoseVectors.VECTOR_LENGTH; i++) {
+            target[targetOffset + i] = present[frame] ? values[base + i] / SCALE : 0f;
+        }
+    }
+
+    private void ensureCapacity(int frames) {
+        if (frames <= present.length) {
+            return;
+        }
+        int capacity = Math.min(maxFrames, Math.max(frames, Math.max(INITIAL_FRAMES, present.length * 2)));
+        short[] grownValues = new short[capacity * PoseVectors.VECTOR_LENGTH];
+        System.arraycopy(values, 0, grownValues, 0, values.length);
+        boolean[] grownPresent = new boolean[capacity];
+        System.arraycopy(present, 0, grownPresent, 0, present.length);
+        values = grownValues;
+        present = grownPresent;
+    }
+}
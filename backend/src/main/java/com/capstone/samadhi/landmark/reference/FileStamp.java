@@ -0,0 +1,26 @@
+package com.capstone.samadhi.landmark.reference;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * 파일이 교체되었는지 판단하는 값 (원자적 교체는 fileKey가, 덮어쓰기는 수정 시각과 크기가 바뀐다)
+ */
+record FileStamp(Object fileKey, FileTime modified, long size) {
+
+    /**
+     * @return 파일이 없으면 null
+     */
+    static FileStamp of(Path path) throws IOException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new FileStamp(attributes.fileKey(), attributes.lastModifiedTime(), attributes.size());
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.capstone.samadhi.landmark.reference;
+
+import static com.capstone.samadhi.landmark.reference.ReferencePoseFormat.COMPONENTS;
+import static com.capstone.samadhi.landmark.reference.ReferencePoseFormat.LANDMARK_COUNT;
+import static com.capstone.samadhi.landmark.reference.ReferencePoseFormat.LANDMARK_MIRROR_PAIRS;
+
+/**
+ * 프론트엔드 angle-calculator / similarity-calculator의 벡터 변환과 유사도를 평탄화한 float 배열 위에서 계산
+ * 할당 없이 오프셋으로만 읽고 쓴다
+ */
+public final class PoseVectors {
+    public static final int VECTOR_LENGTH = LANDMARK_COUNT * COMPONENTS;
+    // calculateCosAndEucMixedScore 기본 lambda (코사인 0.7 : 유클리드 0.3)
+    private static final float LAMBDA = 0.7f;
+    private static final float EPSILON = 1e-4f;
+
+    private static final int LEFT_SHOULDER = 11;
+    private static final int RIGHT_SHOULDER = 12;
+    private static final int LEFT_HIP = 23;
+    private static final int RIGHT_HIP = 24;
+
+    private PoseVectors() {
+    }
+
+    /**
+     * vectorize와 같은 정규화 (엉덩이 중점 기준, 어깨 사이 거리로 나눔)
+     *
+     * @param landmarks 0~1 정규화 좌표, 랜드마크마다 stride개 값 중 앞의 x, y, z를 쓴다
+     * @return 어깨 사이 거리가 0이면 false
+     */
+    public static boolean vectorize(float[] landmarks, int offset, int stride, int width, int height,
+                                    float[] target, int targetOffset) {
+        float ax = (landmarks[offset + LEFT_HIP * stride] + landmarks[offset + RIGHT_HIP * stride]) / 2 * width;
+        float ay = (landmarks[offset + LEFT_HIP * stride + 1] + landmarks[offset + RIGHT_HIP * stride + 1]) / 2 * height;
+        float az = (landmarks[offset + LEFT_HIP * stride + 2] + landmarks[offset + RIGHT_HIP * stride + 2]) / 2 * width;
+        float dx = (landmarks[offset + LEFT_SHOULDER * stride] - landmarks[offset + RIGHT_SHOULDER * stride]) * width;
+        float dy = (landmarks[offset + LEFT_SHOULDER * stride + 1] - landmarks[offset + RIGHT_SHOULDER * stride + 1]) * height;
+        float dz = (landmarks[offset + LEFT_SHOULDER * stride + 2] - landmarks[offset + RIGHT_SHOULDER * stride + 2]) * width;
+        float scale = (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (scale == 0) {
+            return false;
+        }
+        for (int l = 0; l < LANDMARK_COUNT; l++) {
+            int in = offset + l * stride;
+            int out = targetOffset + l * COMPONENTS;
+            target[out] = (landmarks[in] * width - ax) / scale;
+            target[out + 1] = (landmarks[in + 1] * height - ay) / scale;
+            target[out + 2] = (landmarks[in + 2] * width - az) / scale;
+        }
+        return true;
+    }
+
+    /**
+     * normalizeMirroredVectorized와 같은 좌우 반전 (x 부호 반전 후 좌우 랜드마크 교환)
+     */
+    public static void mirror(float[] vector, int offset) {
+        for (int i = 0; i < VECTOR_LENGTH; i += COMPONENTS) {
+            vector[offset + i] = -vector[offset + i];
+        }
+        for (int[] pair : LANDMARK_MIRROR_PAIRS) {
+            for (int c = 0; c < COMPONENTS; c++) {
+                int left = offset + pair[0] * COMPONENTS + c;
+                int right = offset + pair[1] * COMPONENTS + c;
+                float temp = vector[left];
+                vector[left] = vector[right];
+                vector[right] = temp;
+            }
+        }
+    }
+
+    /**
+     * calculateCosAndEucTotalJoint + calculateCosAndEucMixedScore
+     * 한쪽이라도 (0, 0, 0)인 랜드마크는 빼고 그 비율만큼 감점한다
+     *
+     * @return 0~100
+     */
+    public static float similarity(float[] a, int aOffset, float[] b, int bOffset) {
+        double dot = 0;
+        double sumA = 0;
+        double sumB = 0;
+        double diffSum = 0;
+        int invisible = 0;
+        for (int i = 0; i < VECTOR_LENGTH; i += COMPONENTS) {
+            float ax = a[aOffset + i], ay = a[aOffset + i + 1], az = a[aOffset + i + 2];
+            float bx = b[bOffset + i], by = b[bOffset + i + 1], bz = b[bOffset + i + 2];
+            if ((ax == 0 && ay == 0 && az == 0) || (bx == 0 && by == 0 && bz == 0)) {
+                invisible++;
+                continue;
+            }
+            dot += ax * bx + ay * by + az * bz;
+            sumA += ax * ax + ay * ay + az * az;
+            sumB += bx * bx + by * by + bz * bz;
+            float dx = ax - bx, dy = ay - by, dz = az - bz;
+            diffSum += dx * dx + dy * dy + dz * dz;
+        }
+        double magA = Math.sqrt(sumA);
+        double magB = Math.sqrt(sumB);
+        if (magA == 0 || magB == 0) {
+            return 0;
+        }
+        double cosine = Math.max(-1, Math.min(1, dot / (magA * magB)));
+        double normDiff = Math.sqrt(diffSum) / (magA + magB + 1e-12);
+        if (1 - cosine < EPSILON && normDiff < EPSILON) {
+            return 100;
+        }
+        double visibility = (double) (LANDMARK_COUNT - invisible) / LANDMARK_COUNT;
+        double cosineScore = (cosine + 1) / 2 * 100 * visibility;
+        double euclidScore = (1 - normDiff) * 100 * visibility;
+        return (float) Math.max(0, Math.min(100, LAMBDA * cosineScore + (1 - LAMBDA) * euclidScore));
+    }
+}
@@ -0,0 +1,80 @@
+package com.capstone.samadhi.landmark.reference;
+
+import java.util.List;
+
+/**
+ * 참조 자세 라이브러리 바이너리 파일 형식 (리틀 엔디언)
+ *
+ * <pre>
+ * [헤더 64바이트]
+ *   0  int   magic ("SPRL")
+ *   4  short 파일 형식 버전
+ *   6  short 예약
+ *   8  long  라이브러리 버전 (데이터가 바뀔 때마다 증가)
+ *  16  long  생성 시각 (epoch ms)
+ *  24  int   자세 수
+ *  28  int   랜드마크 수
+ *  32  int   각도 수
+ *  36  int   임계값 수
+ *  40  int   이름 섹션 오프셋
+ *  44  int   float 섹션 오프셋 (4바이트 정렬)
+ *  48  int   헤더 뒤 전체 바이트의 CRC32
+ *  52  int   파일 크기
+ * [이름 섹션] 자세 이름, 각도 이름 순서로 (u16 길이 + UTF-8)
+ * [float 섹션] 아래 블록이 자세 순서대로 연속 배치된다
+ *   정규화 벡터      poseCount x landmarkCount x 3
+ *   좌우 반전 벡터   poseCount x landmarkCount x 3
+ *   목표 각도        poseCount x angleCount
+ *   좌우 반전 각도   poseCount x angleCount
+ *   각도 가중치      poseCount x angleCount
+ *   임계값           poseCount x thresholdCount
+ * </pre>
+ */
+public final class ReferencePoseFormat {
+    public static final int MAGIC = 0x4C525053;
+    public static final short FORMAT_VERSION = 1;
+    public static final int HEADER_BYTES = 64;
+    public static final int COMPONENTS = 3;
+    public static final int LANDMARK_COUNT = 33;
+
+    // 프론트엔드 JointAngles 키 순서
+    public static final List<String> ANGLE_NAMES = List.of(
+            "leftElbow", "rightElbow", "leftShoulder", "rightShoulder",
+            "leftKnee", "rightKnee", "leftHip", "rightHip",
+            "spine", "leftHipShoulderAlign", "rightHipShoulderAlign",
+            "leftWrist", "rightWrist", "leftAnkle", "rightAnkle", "neckAngle");
+
+    // 임계값 슬롯: 벡터 유사도, 각도 유사도 (pose-classifier-with-vectorized 기준)
+    public static final int THRESHOLD_VECTOR = 0;
+    public static final int THRESHOLD_ANGLE = 1;
+    public static final int THRESHOLD_COUNT = 2;
+
+    // 좌우 반전 시 서로 바꾸는 랜드마크 쌍 (귀, 어깨, 팔꿈치, 손목, 검지, 엉덩이, 무릎, 발목, 뒤꿈치)
+    static final int[][] LANDMARK_MIRROR_PAIRS = {
+            {7, 8}, {11, 12}, {13, 14}, {15, 16}, {19, 20}, {23, 24}, {25, 26}, {27, 28}, {29, 30}
+    };
+
+    static final String[][] ANGLE_MIRROR_PAIRS = {
+            {"leftShoulder", "rightShoulder"}, {"leftElbow", "rightElbow"}, {"leftWrist", "rightWrist"},
+            {"leftHip", "rightHip"}, {"leftKnee", "rightKnee"}, {"leftAnkle", "rightAnkle"},
+            {"leftHipShoulderAlign", "rightHipShoulderAlign"}
+    };
+
+    // 좌우 반전 시 각 각도가 읽어야 할 원래 각도 번호
+    static final int[] MIRRORED_ANGLE_INDEX = new int[ANGLE_NAMES.size()];
+
+    static {
+        for (int i = 0; i < MIRRORED_ANGLE_INDEX.length; i++) {
+            MIRRORED_ANGLE_INDEX[i] = i;
+        }
+        for (String[] pair : ANGLE_MIRROR_PAIRS) {
+            int left = ANGLE_NAMES.indexOf(pair[0]);
+            int right = ANGLE_NAMES.indexOf(pair[1]);
+            MIRRORED_ANGLE_INDEX[left] = right;
+            MIRRORED_ANGLE_INDEX[right] = left;
+        }
+    }
+
+    private ReferencePoseFormat() {
+    }
+}
@@ -0,0 +1,189 @@
+package com.capstone.samadhi.landmark.reference;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import static com.capstone.samadhi.landmark.reference.ReferencePoseFormat.*;
+
+/**
+ * 메모리 매핑된 참조 자세 라이브러리의 불변 스냅샷
+ * float 데이터는 힙으로 복사하지 않고 매핑된 버퍼를 절대 위치로만 읽으므로 여러 스레드가 동시에 읽어도 안전하다
+ */
+public final class ReferencePoseLibrary {
+    private final Path path;
+    private final long version;
+    private final Instant createdAt;
+    private final List<String> poseNames;
+    private final Map<String, Integer> poseIndex;
+    private final int vectorLength;
+    private final int angleCount;
+    private final int thresholdCount;
+
+    private final FloatBuffer vectors;
+    private final FloatBuffer mirroredVectors;
+    private final FloatBuffer angles;
+    private final FloatBuffer mirroredAngles;
+    private final FloatBuffer angleWeights;
+    private final FloatBuffer thresholds;
+
+    private ReferencePoseLibrary(Path path, ByteBuffer buffer) throws IOException {
+        this.path = path;
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IOException("참조 자세 라이브러리 파일이 아닙니다: " + path);
+        }
+        short formatVersion = buffer.getShort(4);
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 라이브러리 형식 버전: " + formatVersion);
+        }
+        if (buffer.getInt(52) != buffer.capacity()) {
+            throw new IOException("라이브러리 파일 크기가 헤더와 다릅니다: " + path);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(HEADER_BYTES, buffer.capacity() - HEADER_BYTES));
+        if ((int) crc.getValue() != buffer.getInt(48)) {
+            throw new IOException("라이브러리 체크섬 불일치: " + path);
+        }
+
+        this.version = buffer.getLong(8);
+        this.createdAt = Instant.ofEpochMilli(buffer.getLong(16));
+        int poseCount = buffer.getInt(24);
+        int landmarkCount = buffer.getInt(28);
+        this.angleCount = buffer.getInt(32);
+        this.thresholdCount = buffer.getInt(36);
+        if (landmarkCount != LANDMARK_COUNT || angleCount != ANGLE_NAMES.size() || thresholdCount < THRESHOLD_COUNT) {
+            throw new IOException("라이브러리 차원이 맞지 않습니다: landmarks=" + landmarkCount + ", angles=" + angleCount);
+        }
+        this.vectorLength = landmarkCount * COMPONENTS;
+
+        ByteBuffer names = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN).position(buffer.getInt(40));
+        String[] poses = new String[poseCount];
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < poseCount; i++) {
+            poses[i] = readName(names);
+            index.put(poses[i], i);
+        }
+        for (String expected : ANGLE_NAMES) {
+            if (!expected.equals(readName(names))) {
+                throw new IOException("각도 순서가 맞지 않습니다: " + path);
+            }
+        }
+        this.poseNames = List.of(poses);
+        this.poseIndex = Collections.unmodifiableMap(index);
+
+        int offset = buffer.getInt(44);
+        int vectorBytes = poseCount * vectorLength * Float.BYTES;
+        int angleBytes = poseCount * angleCount * Float.BYTES;
+        int thresholdBytes = poseCount * thresholdCount * Float.BYTES;
+        if ((long) offset + 2L * vectorBytes + 3L * angleBytes + thresholdBytes != buffer.capacity()) {
+            throw new IOException("라이브러리 데이터 길이가 맞지 않습니다: " + path);
+        }
+        this.vectors = floats(buffer, offset, vectorBytes);
+        this.mirroredVectors = floats(buffer, offset += vectorBytes, vectorBytes);
+        this.angles = floats(buffer, offset += vectorBytes, angleBytes);
+        this.mirroredAngles = floats(buffer, offset += angleBytes, angleBytes);
+        this.angleWeights = floats(buffer, offset += angleBytes, angleBytes);
+        this.thresholds = floats(buffer, offset + angleBytes, thresholdBytes);
+    }
+
+    /**
+     * 파일을 읽기 전용으로 매핑, 채널을 닫아도 매핑은 스냅샷이 GC될 때까지 유지된다
+     */
+    public static ReferencePoseLibrary open(Path path) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        mapped.order(ByteOrder.LITTLE_ENDIAN);
+        return new ReferencePoseLibrary(path, mapped);
+    }
+
+    private static FloatBuffer floats(ByteBuffer buffer, int offset, int length) {
+        return buffer.slice(offset, length).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().asReadOnlyBuffer();
+    }
+
+    private static String readName(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public List<String> getPoseNames() {
+        return poseNames;
+    }
+
+    public int poseCount() {
+        return poseNames.size();
+    }
+
+    /**
+     * @return 자세 번호, 없으면 -1
+     */
+    public int indexOf(String poseName) {
+        return poseIndex.getOrDefault(poseName, -1);
+    }
+
+    public int vectorLength() {
+        return vectorLength;
+    }
+
+    public int angleCount() {
+        return angleCount;
+    }
+
+    public float vector(int pose, int i, boolean mirrored) {
+        return (mirrored ? mirroredVectors : vectors).get(pose * vectorLength + i);
+    }
+
+    public void copyVector(int pose, boolean mirrored, float[] target) {
+        (mirrored ? mirroredVectors : vectors).get(pose * vectorLength, target, 0, vectorLength);
+    }
+
+    public float angle(int pose, int angle, boolean mirrored) {
+        return (mirrored ? mirroredAngles : angles).get(pose * angleCount + angle);
+    }
+
+    /**
+     * 반전 각도의 가중치는 원래 각도 가중치를 좌우만 바꿔 읽는다
+     */
+    public float angleWeight(int pose, int angle, boolean mirrored) {
+        return angleWeights.get(pose * angleCount + (mirrored ? MIRRORED_ANGLE_INDEX[angle] : angle));
+    }
+
+    public float vectorThreshold(int pose) {
+        return thresholds.get(pose * thresholdCount + THRESHOLD_VECTOR);
+    }
+
+    public float angleThreshold(int pose) {
+        return thresholds.get(pose * thresholdCount + THRESHOLD_ANGLE);
+    }
+
+    @Override
+    public String toString() {
+        return "ReferencePoseLibrary{version=" + version + ", poses=" + poseNames.size() + ", path=" + path + "}";
+    }
+}
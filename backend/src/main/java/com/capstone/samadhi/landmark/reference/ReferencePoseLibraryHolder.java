@@ -0,0 +1,101 @@
+package com.capstone.samadhi.landmark.reference;
+
+import com.capstone.samadhi.landmark.LandmarkProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 현재 참조 자세 라이브러리 스냅샷을 보관하고 파일이 바뀌면 재시작 없이 교체한다
+ * 채점 작업은 시작할 때 current()를 한 번만 읽고 끝까지 그 스냅샷을 써야 중간에 교체되어도 일관된 값을 본다
+ */
+@Slf4j
+@Component
+public class ReferencePoseLibraryHolder {
+    static final String BUNDLED_LIBRARY = "reference-poses.bin";
+
+    private final Path path;
+    private final AtomicReference<ReferencePoseLibrary> current = new AtomicReference<>();
+    private final Counter reloadFailures;
+    private FileStamp stamp;
+    // 로드에 실패한 파일은 다시 바뀔 때까지 재시도하지 않는다
+    private FileStamp failedStamp;
+
+    public ReferencePoseLibraryHolder(LandmarkProperties properties, MeterRegistry meterRegistry) throws IOException {
+        this.path = Path.of(properties.getReference().getPath()).toAbsolutePath().normalize();
+        this.reloadFailures = Counter.builder("landmark.reference.reload.failures")
+                .description("참조 자세 라이브러리 교체 실패 수")
+                .register(meterRegistry);
+        Gauge.builder("landmark.reference.version", current, ref -> ref.get() == null ? Double.NaN : ref.get().getVersion())
+                .description("사용 중인 참조 자세 라이브러리 버전")
+                .register(meterRegistry);
+
+        if (!reload()) {
+            ReferencePoseLibrary bundled = openBundled();
+            current.set(bundled);
+            log.info("기본 참조 자세 라이브러리 사용: {}", bundled);
+        }
+    }
+
+    public ReferencePoseLibrary current() {
+        return current.get();
+    }
+
+    @Scheduled(fixedDelayString = "${landmark.reference.reload-interval-ms:30000}")
+    public void reloadIfChanged() {
+        reload();
+    }
+
+    /**
+     * 파일이 바뀌었으면 새로 매핑해 검증한 뒤 교체, 실패하면 기존 스냅샷을 유지한다
+     * @return 교체했으면 true
+     */
+    public synchronized boolean reload() {
+        FileStamp next = stampOf(path);
+        if (next == null || next.equals(stamp) || next.equals(failedStamp)) {
+            return false;
+        }
+        try {
+            ReferencePoseLibrary library = ReferencePoseLibrary.open(path);
+            ReferencePoseLibrary previous = current.getAndSet(library);
+            stamp = next;
+            log.info("참조 자세 라이브러리 교체: {} -> {}", previous == null ? "-" : previous.getVersion(), library);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            failedStamp = next;
+            reloadFailures.increment();
+            log.error("참조 자세 라이브러리 로드 실패 {}: {}", path, e.getMessage());
+            return false;
+        }
+    }
+
+    private static ReferencePoseLibrary openBundled() throws IOException {
+        // jar 안의 리소스는 매핑할 수 없으므로 임시 파일로 꺼낸다
+        Path temp = Files.createTempFile("reference-poses", ".bin");
+        temp.toFile().deleteOnExit();
+        try (InputStream in = new ClassPathResource(BUNDLED_LIBRARY).getInputStream()) {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return ReferencePoseLibrary.open(temp);
+    }
+
+    private static FileStamp stampOf(Path path) {
+        try {
+            return FileStamp.of(path);
+        } catch (IOException e) {
+            log.warn("참조 자세 라이브러리 확인 실패 {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+}
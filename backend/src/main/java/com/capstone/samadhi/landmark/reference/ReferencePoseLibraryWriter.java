@@ -0,0 +1,217 @@
+package com.capstone.samadhi.landmark.reference;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import static com.capstone.samadhi.landmark.reference.ReferencePoseFormat.*;
+
+/**
+ * 참조 자세 라이브러리 파일 생성기
+ * 프론트엔드 상수(poseVectorizedData.ts, poseData.ts)를 읽어 좌우 반전 데이터와 가중치까지 미리 계산해 둔다
+ *
+ * <pre>
+ * ./gradlew buildReferencePoses -PreferencePoseVersion=2
+ * </pre>
+ */
+public final class ReferencePoseLibraryWriter {
+    // pose-classifier-with-vectorized의 VEC_THRESHOLD, ANGLE_THRESHOLD
+    public static final float DEFAULT_VECTOR_THRESHOLD = 95f;
+    public static final float DEFAULT_ANGLE_THRESHOLD = 80f;
+
+    private static final Pattern VECTOR_ENTRY = Pattern.compile("(\\w+)\\s*:\\s*\\[([^\\]]*)]");
+    private static final Pattern ANGLE_ENTRY = Pattern.compile("(\\w+)\\s*:\\s*\\{([^}]*)}");
+    private static final Pattern ANGLE_VALUE = Pattern.compile("(\\w+)\\s*:\\s*(-?[\\d.]+)");
+
+    public record Pose(String name, float[] vector, float[] angles, float vectorThreshold, float angleThreshold) {
+    }
+
+    private ReferencePoseLibraryWriter() {
+    }
+
+    /**
+     * 같은 디렉터리의 임시 파일에 쓴 뒤 원자적으로 교체한다
+     * 기존 파일을 매핑 중인 스냅샷은 교체 전 파일을 계속 보므로 읽는 도중 내용이 바뀌지 않는다
+     */
+    public static void write(Path target, long version, List<Pose> poses) throws IOException {
+        Path dir = target.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path temp = Files.createTempFile(dir, "." + target.getFileName(), ".tmp");
+        try {
+            Files.write(temp, encode(version, System.currentTimeMillis(), poses));
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    static byte[] encode(long version, long createdAt, List<Pose> poses) {
+        int vectorLength = LANDMARK_COUNT * COMPONENTS;
+        int angleCount = ANGLE_NAMES.size();
+        List<byte[]> names = new ArrayList<>();
+        poses.forEach(pose -> names.add(pose.name().getBytes(StandardCharsets.UTF_8)));
+        ANGLE_NAMES.forEach(name -> names.add(name.getBytes(StandardCharsets.UTF_8)));
+
+        int namesBytes = names.stream().mapToInt(name -> Short.BYTES + name.length).sum();
+        int dataOffset = (HEADER_BYTES + namesBytes + 3) & ~3;
+        int floats = poses.size() * (2 * vectorLength + 3 * angleCount + THRESHOLD_COUNT);
+        ByteBuffer buffer = ByteBuffer.allocate(dataOffset + floats * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.putInt(MAGIC).putShort(FORMAT_VERSION).putShort((short) 0)
+                .putLong(version).putLong(createdAt)
+                .putInt(poses.size()).putInt(LANDMARK_COUNT).putInt(angleCount).putInt(THRESHOLD_COUNT)
+                .putInt(HEADER_BYTES).putInt(dataOffset)
+                .putInt(0).putInt(buffer.capacity());
+
+        buffer.position(HEADER_BYTES);
+        for (byte[] name : names) {
+            buffer.putShort((short) name.length).put(name);
+        }
+
+        buffer.position(dataOffset);
+        for (Pose pose : poses) {
+            checkLength(pose, pose.vector(), vectorLength);
+            putAll(buffer, pose.vector());
+        }
+        for (Pose pose : poses) putAll(buffer, mirrorVector(pose.vector()));
+        for (Pose pose : poses) {
+            checkLength(pose, pose.angles(), angleCount);
+            putAll(buffer, pose.angles());
+        }
+        for (Pose pose : poses) putAll(buffer, mirrorAngles(pose.angles()));
+        for (Pose pose : poses) putAll(buffer, angleWeights(pose.angles()));
+        for (Pose pose : poses) {
+            buffer.putFloat(pose.vectorThreshold()).putFloat(pose.angleThreshold());
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), HEADER_BYTES, buffer.capacity() - HEADER_BYTES);
+        buffer.putInt(48, (int) crc.getValue());
+        return buffer.array();
+    }
+
+    /**
+     * similarity-calculator의 normalizeMirroredVectorized와 같은 변환
+     */
+    static float[] mirrorVector(float[] vector) {
+        float[] mirrored = vector.clone();
+        PoseVectors.mirror(mirrored, 0);
+        return mirrored;
+    }
+
+    static float[] mirrorAngles(float[] angles) {
+        float[] mirrored = new float[angles.length];
+        for (int i = 0; i < angles.length; i++) {
+            mirrored[i] = angles[MIRRORED_ANGLE_INDEX[i]];
+        }
+        return mirrored;
+    }
+
+    /**
+     * calculateSimilarityWithAngles의 가중치 규칙 중 참조 각도에만 의존하는 부분
+     * spine 3배, 엉덩이-어깨 정렬 2배, 팔을 편 자세(팔꿈치 130도 초과)는 어깨 각도 제외
+     */
+    static float[] angleWeights(float[] angles) {
+        float[] weights = new float[angles.length];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = 1f;
+        }
+        weights[ANGLE_NAMES.indexOf("spine")] = 3f;
+        weights[ANGLE_NAMES.indexOf("leftHipShoulderAlign")] = 2f;
+        weights[ANGLE_NAMES.indexOf("rightHipShoulderAlign")] = 2f;
+        if (angles[ANGLE_NAMES.indexOf("leftElbow")] > 130) {
+            weights[ANGLE_NAMES.indexOf("leftShoulder")] = 0f;
+        }
+        if (angles[ANGLE_NAMES.indexOf("rightElbow")] > 130) {
+            weights[ANGLE_NAMES.indexOf("rightShoulder")] = 0f;
+        }
+        return weights;
+    }
+
+    private static void checkLength(Pose pose, float[] values, int expected) {
+        if (values.length != expected) {
+            throw new IllegalArgumentException(pose.name() + ": 길이 " + values.length + ", 기대값 " + expected);
+        }
+    }
+
+    private static void putAll(ByteBuffer buffer, float[] values) {
+        for (float value : values) {
+            buffer.putFloat(value);
+        }
+    }
+
+    /**
+     * 벡터와 각도가 모두 있는 자세만 포함한다 (주석 처리된 자세는 제외)
+     */
+    static List<Pose> parse(String vectorSource, String angleSource) {
+        Map<String, float[]> vectors = new LinkedHashMap<>();
+        Matcher vectorMatcher = VECTOR_ENTRY.matcher(stripComments(vectorSource));
+        while (vectorMatcher.find()) {
+            String[] tokens = vectorMatcher.group(2).split(",");
+            float[] vector = new float[LANDMARK_COUNT * COMPONENTS];
+            int n = 0;
+            for (String token : tokens) {
+                if (token.isBlank()) continue;
+                if (n == vector.length) {
+                    throw new IllegalArgumentException(vectorMatcher.group(1) + ": 벡터 길이 초과");
+                }
+                vector[n++] = Float.parseFloat(token.trim());
+            }
+            if (n != vector.length) {
+                throw new IllegalArgumentException(vectorMatcher.group(1) + ": 벡터 길이 " + n);
+            }
+            vectors.put(vectorMatcher.group(1), vector);
+        }
+
+        List<Pose> poses = new ArrayList<>();
+        Matcher angleMatcher = ANGLE_ENTRY.matcher(stripComments(angleSource));
+        while (angleMatcher.find()) {
+            float[] vector = vectors.get(angleMatcher.group(1));
+            if (vector == null) continue;
+            float[] angles = new float[ANGLE_NAMES.size()];
+            int found = 0;
+            Matcher value = ANGLE_VALUE.matcher(angleMatcher.group(2));
+            while (value.find()) {
+                int index = ANGLE_NAMES.indexOf(value.group(1));
+                if (index >= 0) {
+                    angles[index] = Float.parseFloat(value.group(2));
+                    found++;
+                }
+            }
+            if (found != angles.length) {
+                throw new IllegalArgumentException(angleMatcher.group(1) + ": 각도 " + found + "개");
+            }
+            poses.add(new Pose(angleMatcher.group(1), vector, angles, DEFAULT_VECTOR_THRESHOLD, DEFAULT_ANGLE_THRESHOLD));
+        }
+        return poses;
+    }
+
+    private static String stripComments(String source) {
+        return source.replaceAll("(?s)/\\*.*?\\*/", "").replaceAll("//[^\\n]*", "");
+    }
+
+    /**
+     * args: poseVectorizedData.ts poseData.ts 출력파일 [라이브러리 버전]
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("usage: ReferencePoseLibraryWriter <poseVectorizedData.ts> <poseData.ts> <output> [version]");
+            System.exit(2);
+        }
+        List<Pose> poses = parse(Files.readString(Path.of(args[0])), Files.readString(Path.of(args[1])));
+        long version = args.length > 3 ? Long.parseLong(args[3]) : 1L;
+        write(Path.of(args[2]), version, poses);
+        System.out.println("참조 자세 " + poses.size() + "개 기록 (version " + version + "): " + args[2]);
+    }
+}
@@ -0,0 +1,143 @@
+package com.capstone.samadhi.landmark.reference;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.zip.CRC32;
+
+import static com.capstone.samadhi.landmark.reference.ReferencePoseFormat.COMPONENTS;
+import static com.capstone.samadhi.landmark.reference.ReferencePoseFormat.LANDMARK_COUNT;
+import static com.capstone.samadhi.landmark.reference.ReferenceTrackFormat.*;
+
+/**
+ * 메모리 매핑된 강사 동작 트랙의 불변 스냅샷
+ * ReferencePoseLibrary와 같이 매핑된 버퍼를 절대 위치로만 읽으므로 여러 스레드가 동시에 읽어도 안전하다
+ */
+public final class ReferenceTrack {
+    private final Path path;
+    private final long videoId;
+    private final Instant createdAt;
+    private final int frameCount;
+    private final int periodMillis;
+    private final int vectorLength;
+    private final FloatBuffer vectors;
+    private final ByteBuffer present;
+
+    private ReferenceTrack(Path path, ByteBuffer buffer) throws IOException {
+        this.path = path;
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IOException("강사 동작 트랙 파일이 아닙니다: " + path);
+        }
+        short formatVersion = buffer.getShort(4);
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 트랙 형식 버전: " + formatVersion);
+        }
+        if (buffer.getInt(52) != buffer.capacity()) {
+            throw new IOException("트랙 파일 크기가 헤더와 다릅니다: " + path);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(HEADER_BYTES, buffer.capacity() - HEADER_BYTES));
+        if ((int) crc.getValue() != buffer.getInt(48)) {
+            throw new IOException("트랙 체크섬 불일치: " + path);
+        }
+
+        this.videoId = buffer.getLong(8);
+        this.createdAt = Instant.ofEpochMilli(buffer.getLong(16));
+        this.frameCount = buffer.getInt(24);
+        this.periodMillis = buffer.getInt(28);
+        int landmarkCount = buffer.getInt(32);
+        int components = buffer.getInt(36);
+        if (landmarkCount != LANDMARK_COUNT || components != COMPONENTS || periodMillis <= 0) {
+            throw new IOException("트랙 차원이 맞지 않습니다: landmarks=" + landmarkCount + ", period=" + periodMillis);
+        }
+        this.vectorLength = landmarkCount * components;
+
+        int vectorOffset = buffer.getInt(40);
+        int presentOffset = buffer.getInt(44);
+        int vectorBytes = frameCount * vectorLength * Float.BYTES;
+        if ((long) vectorOffset + vectorBytes != presentOffset || (long) presentOffset + frameCount != buffer.capacity()) {
+            throw new IOException("트랙 데이터 길이가 맞지 않습니다: " + path);
+        }
+        this.vectors = buffer.slice(vectorOffset, vectorBytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().asReadOnlyBuffer();
+        this.present = buffer.slice(presentOffset, frameCount).asReadOnlyBuffer();
+    }
+
+    public static ReferenceTrack open(Path path) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        mapped.order(ByteOrder.LITTLE_ENDIAN);
+        return new ReferenceTrack(path, mapped);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getVideoId() {
+        return videoId;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public int frameCount() {
+        return frameCount;
+    }
+
+    public int periodMillis() {
+        return periodMillis;
+    }
+
+    public long durationMillis() {
+        return (long) frameCount * periodMillis;
+    }
+
+    public int vectorLength() {
+        return vectorLength;
+    }
+
+    /**
+     * 영상 시각에 가장 가까운 프레임 번호
+     * @return 트랙 범위 밖이면 -1
+     */
+    public int frameAt(long videoMillis) {
+        if (videoMillis < 0) {
+            return -1;
+        }
+        long frame = (videoMillis + periodMillis / 2) / periodMillis;
+        return frame < frameCount ? (int) frame : -1;
+    }
+
+    public boolean isPresent(int frame) {
+        return present.get(frame) != 0;
+    }
+
+    public float value(int frame, int i) {
+        return vectors.get(frame * vectorLength + i);
+    }
+
+    public void copyFrame(int frame, float[] target) {
+        vectors.get(frame * vectorLength, target, 0, vectorLength);
+    }
+
+    /**
+     * 연속한 프레임을 한 번에 복사 (target에 count x vectorLength)
+     */
+    public void copyFrames(int from, int count, float[] target) {
+        vectors.get(from * vectorLength, target, 0, count * vectorLength);
+    }
+
+    @Override
+    public String toString() {
+        return "ReferenceTrack{videoId=" + videoId + ", frames=" + frameCount + ", period=" + periodMillis + "ms, path=" + path + "}";
+    }
+}
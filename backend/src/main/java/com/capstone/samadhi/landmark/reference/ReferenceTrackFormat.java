@@ -0,0 +1,39 @@
+package com.capstone.samadhi.landmark.reference;
+
+/**
+ * 샘플 영상별 강사 동작 트랙 바이너리 파일 형식 (리틀 엔디언)
+ * 프레임을 일정 간격으로 리샘플링해 두므로 영상 시각 t의 프레임 번호는 t / 간격으로 바로 구한다
+ *
+ * <pre>
+ * [헤더 64바이트]
+ *   0  int   magic ("SRTK")
+ *   4  short 파일 형식 버전
+ *   6  short 예약
+ *   8  long  샘플 영상 id (sample_video.videoId)
+ *  16  long  생성 시각 (epoch ms)
+ *  24  int   프레임 수
+ *  28  int   프레임 간격 (ms)
+ *  32  int   랜드마크 수
+ *  36  int   좌표 성분 수
+ *  40  int   벡터 섹션 오프셋 (4바이트 정렬)
+ *  44  int   존재 플래그 섹션 오프셋
+ *  48  int   헤더 뒤 전체 바이트의 CRC32
+ *  52  int   파일 크기
+ * [벡터 섹션] frameCount x landmarkCount x 3 float, 프론트엔드 vectorize와 같은 정규화 좌표
+ *             (엉덩이 중점 기준, 어깨 너비로 나눔), 사람이 없는 프레임은 0
+ * [존재 플래그 섹션] frameCount 바이트, 1이면 사람이 있는 프레임
+ * </pre>
+ */
+public final class ReferenceTrackFormat {
+    public static final int MAGIC = 0x4B545253;
+    public static final short FORMAT_VERSION = 1;
+    public static final int HEADER_BYTES = 64;
+    public static final String FILE_SUFFIX = ".track";
+
+    private ReferenceTrackFormat() {
+    }
+
+    public static String fileName(long videoId) {
+        return videoId + FILE_SUFFIX;
+    }
+}
@@ -0,0 +1,74 @@
+package com.capstone.samadhi.landmark.reference;
+
+import com.capstone.samadhi.landmark.LandmarkProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 샘플 영상별 강사 동작 트랙을 처음 요청될 때 매핑해 두고 파일이 바뀌면 다시 매핑한다
+ * 트랙 파일은 track-dir/{videoId}.track 에 ReferenceTrackWriter로 만들어 둔다
+ */
+@Slf4j
+@Component
+public class ReferenceTrackStore {
+    private final Path dir;
+    private final long recheckNanos;
+    private final ConcurrentHashMap<Long, Entry> tracks = new ConcurrentHashMap<>();
+
+    // 트랙이 없는 영상도 null 트랙으로 캐시해 매번 파일 시스템을 확인하지 않는다
+    private record Entry(FileStamp stamp, ReferenceTrack track, long checkedAt) {
+    }
+
+    public ReferenceTrackStore(LandmarkProperties properties, MeterRegistry meterRegistry) {
+        this.dir = Path.of(properties.getReference().getTrackDir()).toAbsolutePath().normalize();
+        this.recheckNanos = properties.getReference().getTrackRecheckInterval().toNanos();
+        Gauge.builder("landmark.reference.tracks", tracks, map -> map.values().stream().filter(e -> e.track() != null).count())
+                .description("매핑된 강사 동작 트랙 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청된 id마다 항목이 남으므로 sample_video에 있는 영상 id만 넘겨야 한다
+     * @return 트랙이 없으면 null
+     */
+    public ReferenceTrack find(long videoId) {
+        long now = System.nanoTime();
+        Entry entry = tracks.get(videoId);
+        if (entry != null && now - entry.checkedAt() < recheckNanos) {
+            return entry.track();
+        }
+        return tracks.compute(videoId, (id, previous) -> reload(id, previous, now)).track();
+    }
+
+    private Entry reload(long videoId, Entry previous, long now) {
+        if (previous != null && now - previous.checkedAt() < recheckNanos) {
+            return previous;
+        }
+        Path path = dir.resolve(ReferenceTrackFormat.fileName(videoId));
+        try {
+            FileStamp stamp = FileStamp.of(path);
+            if (previous != null && Objects.equals(stamp, previous.stamp())) {
+                return new Entry(previous.stamp(), previous.track(), now);
+            }
+            ReferenceTrack track = stamp == null ? null : ReferenceTrack.open(path);
+            if (track != null && track.getVideoId() != videoId) {
+                throw new IOException("트랙의 영상 id가 파일 이름과 다릅니다: " + track.getVideoId());
+            }
+            if (track != null) {
+                log.info("강사 동작 트랙 매핑: {}", track);
+            }
+            return new Entry(stamp, track, now);
+        } catch (IOException | RuntimeException e) {
+            // 깨진 파일이면 기존 트랙을 유지하고 다음 확인 때 다시 시도한다
+            log.error("강사 동작 트랙 로드 실패 {}: {}", path, e.getMessage());
+            return new Entry(previous == null ? null : previous.stamp(), previous == null ? null : previous.track(), now);
+        }
+    }
+}
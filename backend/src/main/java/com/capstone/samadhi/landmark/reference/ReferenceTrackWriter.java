@@ -0,0 +1,235 @@
+package com.capstone.samadhi.landmark.reference;
+
+import com.capstone.samadhi.landmark.LandmarkProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static com.capstone.samadhi.landmark.reference.ReferencePoseFormat.COMPONENTS;
+import static com.capstone.samadhi.landmark.reference.ReferencePoseFormat.LANDMARK_COUNT;
+import static com.capstone.samadhi.landmark.reference.ReferenceTrackFormat.*;
+
+/**
+ * 샘플 영상의 랜드마크 추출 결과로 강사 동작 트랙 파일을 만드는 오프라인 작업
+ * 입력은 영상 프레임마다 한 줄인 JSON Lines (MediaPipe Pose 결과)
+ *
+ * <pre>
+ * {"t": 1033, "landmarks": [[x, y, z, visibility], ... 33개]}
+ *
+ * ./gradlew buildReferenceTrack -PreferenceTrackInput=video-3.jsonl -PreferenceTrackVideo=3
+ * </pre>
+ */
+public final class ReferenceTrackWriter {
+    public static final int DEFAULT_PERIOD_MS = 100;
+    // 이보다 멀리 떨어진 원본 프레임 사이는 보간하지 않고 비워 둔다
+    public static final long DEFAULT_MAX_GAP_MS = 500;
+
+    private static final int LANDMARK_VALUES = 4;
+
+    /**
+     * @param vector 정규화 좌표, 사람이 없는 프레임이면 null
+     */
+    public record Frame(long timestampMillis, float[] vector) {
+    }
+
+    record Track(int periodMillis, float[] vectors, boolean[] present) {
+        int frameCount() {
+            return present.length;
+        }
+    }
+
+    private ReferenceTrackWriter() {
+    }
+
+    /**
+     * 같은 디렉터리의 임시 파일에 쓴 뒤 원자적으로 교체한다
+     */
+    public static void write(Path target, long videoId, int periodMillis, long maxGapMillis, List<Frame> frames)
+            throws IOException {
+        Track track = resample(frames, periodMillis, maxGapMillis);
+        Path dir = target.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path temp = Files.createTempFile(dir, "." + target.getFileName(), ".tmp");
+        try {
+            Files.write(temp, encode(videoId, System.currentTimeMillis(), track));
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    static byte[] encode(long videoId, long createdAt, Track track) {
+        int frameCount = track.frameCount();
+        int vectorBytes = track.vectors().length * Float.BYTES;
+        int presentOffset = HEADER_BYTES + vectorBytes;
+        ByteBuffer buffer = ByteBuffer.allocate(presentOffset + frameCount).order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.putInt(MAGIC).putShort(FORMAT_VERSION).putShort((short) 0)
+                .putLong(videoId).putLong(createdAt)
+                .putInt(frameCount).putInt(track.periodMillis()).putInt(LANDMARK_COUNT).putInt(COMPONENTS)
+                .putInt(HEADER_BYTES).putInt(presentOffset)
+                .putInt(0).putInt(buffer.capacity());
+
+        buffer.position(HEADER_BYTES);
+        for (float value : track.vectors()) {
+            buffer.putFloat(value);
+        }
+        for (boolean present : track.present()) {
+            buffer.put((byte) (present ? 1 : 0));
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), HEADER_BYTES, buffer.capacity() - HEADER_BYTES);
+        buffer.putInt(48, (int) crc.getValue());
+        return buffer.array();
+    }
+
+    /**
+     * 원본 프레임을 periodMillis 간격으로 리샘플링
+     * 양쪽 원본 프레임이 모두 있고 maxGapMillis 이내면 선형 보간, 한쪽만 있으면 가까운 프레임을 쓴다
+     */
+    static Track resample(List<Frame> frames, int periodMillis, long maxGapMillis) {
+        if (periodMillis <= 0) {
+            throw new IllegalArgumentException("프레임 간격은 양수여야 합니다: " + periodMillis);
+        }
+        List<Frame> sorted = new ArrayList<>(frames);
+        sorted.sort(Comparator.comparingLong(Frame::timestampMillis));
+        if (sorted.isEmpty()) {
+            return new Track(periodMillis, new float[0], new boolean[0]);
+        }
+
+        int vectorLength = PoseVectors.VECTOR_LENGTH;
+        int frameCount = (int) (sorted.get(sorted.size() - 1).timestampMillis() / periodMillis) + 1;
+        float[] vectors = new float[frameCount * vectorLength];
+        boolean[] present = new boolean[frameCount];
+
+        int next = 0;
+        for (int k = 0; k < frameCount; k++) {
+            long t = (long) k * periodMillis;
+            while (next < sorted.size() && sorted.get(next).timestampMillis() <= t) {
+                next++;
+            }
+            Frame before = next > 0 ? sorted.get(next - 1) : null;
+            Frame after = next < sorted.size() ? sorted.get(next) : null;
+            int offset = k * vectorLength;
+
+            if (before != null && after != null && before.vector() != null && after.vector() != null
+                    && after.timestampMillis() - before.timestampMillis() <= maxGapMillis) {
+                float ratio = (float) (t - before.timestampMillis()) / (after.timestampMillis() - before.timestampMillis());
+                for (int i = 0; i < vectorLength; i++) {
+                    vectors[offset + i] = before.vector()[i] + (after.vector()[i] - before.vector()[i]) * ratio;
+                }
+                present[k] = true;
+                continue;
+            }
+            Frame nearest = nearest(before, after, t, maxGapMillis / 2);
+            if (nearest != null) {
+                System.arraycopy(nearest.vector(), 0, vectors, offset, vectorLength);
+                present[k] = true;
+            }
+        }
+        return new Track(periodMillis, vectors, present);
+    }
+
+    private static Frame nearest(Frame before, Frame after, long t, long maxDistance) {
+        Frame best = null;
+        long bestDistance = Long.MAX_VALUE;
+        for (Frame frame : new Frame[]{before, after}) {
+            if (frame == null || frame.vector() == null) continue;
+            long distance = Math.abs(frame.timestampMillis() - t);
+            if (distance <= maxDistance && distance < bestDistance) {
+                best = frame;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 프론트엔드 vectorize와 같은 정규화 (엉덩이 중점 기준, 어깨 사이 거리로 나눔)
+     * isPersonInFrame 기준으로 사람이 없는 프레임이면 null
+     *
+     * @param landmarks landmarkCount x (x, y, z, visibility), 0~1 정규화 좌표
+     */
+    static float[] vectorize(float[] landmarks, int width, int height, LandmarkProperties.Presence presence) {
+        int invisible = 0;
+        for (int i = 0; i < LANDMARK_COUNT; i++) {
+            if (landmarks[i * LANDMARK_VALUES + 3] < presence.getMinVisibility()) {
+                invisible++;
+            }
+        }
+        if (invisible >= presence.getMaxInvisible()) {
+            return null;
+        }
+
+        float[] vector = new float[PoseVectors.VECTOR_LENGTH];
+        return PoseVectors.vectorize(landmarks, 0, LANDMARK_VALUES, width, height, vector, 0) ? vector : null;
+    }
+
+    static List<Frame> read(Path input, int width, int height) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        LandmarkProperties.Presence presence = new LandmarkProperties.Presence();
+        List<Frame> frames = new ArrayList<>();
+        float[] landmarks = new float[LANDMARK_COUNT * LANDMARK_VALUES];
+        try (BufferedReader reader = Files.newBufferedReader(input)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+                JsonNode node = objectMapper.readTree(line);
+                JsonNode points = node.path("landmarks");
+                long t = node.path("t").asLong(-1);
+                if (t < 0) {
+                    throw new IllegalArgumentException(lineNumber + "행: 시각(t)이 없습니다");
+                }
+                if (!points.isArray() || points.isEmpty()) {
+                    // 사람을 찾지 못한 프레임
+                    frames.add(new Frame(t, null));
+                    continue;
+                }
+                if (points.size() != LANDMARK_COUNT) {
+                    throw new IllegalArgumentException(lineNumber + "행: 랜드마크 " + points.size() + "개");
+                }
+                for (int i = 0; i < LANDMARK_COUNT; i++) {
+                    JsonNode point = points.get(i);
+                    for (int v = 0; v < LANDMARK_VALUES; v++) {
+                        landmarks[i * LANDMARK_VALUES + v] = (float) point.path(v).asDouble(v == 3 ? 1 : 0);
+                    }
+                }
+                frames.add(new Frame(t, vectorize(landmarks, width, height, presence)));
+            }
+        }
+        return frames;
+    }
+
+    /**
+     * args: 랜드마크.jsonl 샘플영상id 출력디렉터리 [영상너비 영상높이 간격ms]
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("usage: ReferenceTrackWriter <landmarks.jsonl> <videoId> <outputDir> [width height periodMs]");
+            System.exit(2);
+        }
+        long videoId = Long.parseLong(args[1]);
+        int width = args.length > 3 ? Integer.parseInt(args[3]) : 1280;
+        int height = args.length > 4 ? Integer.parseInt(args[4]) : 720;
+        int period = args.length > 5 ? Integer.parseInt(args[5]) : DEFAULT_PERIOD_MS;
+
+        List<Frame> frames = read(Path.of(args[0]), width, height);
+        Path target = Path.of(args[2]).resolve(fileName(videoId));
+        write(target, videoId, period, DEFAULT_MAX_GAP_MS, frames);
+        System.out.println("강사 동작 트랙 기록 (영상 " + videoId + ", 원본 프레임 " + frames.size() + "개, " + period + "ms 간격): " + target);
+    }
+}
@@ -0,0 +1,127 @@
+package com.capstone.samadhi.landmark.service;
+
+import com.capstone.samadhi.common.ResponseDto;
+import com.capstone.samadhi.exception.BadRequestException;
+import com.capstone.samadhi.exception.LoginTokenException;
+import com.capstone.samadhi.exception.TooManyRequestsException;
+import com.capstone.samadhi.landmark.LandmarkProperties;
+import com.capstone.samadhi.landmark.dto.LandmarkIngestResponse;
+import com.capstone.samadhi.landmark.filter.LandmarkFilterStage;
+import com.capstone.samadhi.record.dto.LandmarkBatchRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 운동 세션별 랜드마크 전처리 단계 관리
+ * 세션은 (사용자, sessionId) 단위로 메모리에 두고 일정 시간 입력이 없으면 제거한다
+ */
+@Slf4j
+@Service
+public class LandmarkService {
+    // 한 배치에 담을 수 있는 최대 프레임 수 (30fps 기준 약 10초)
+    private static final int MAX_FRAMES_PER_BATCH = 300;
+    private static final int MAX_LANDMARKS = 64;
+
+    private final ConcurrentHashMap<String, LandmarkFilterStage> sessions = new ConcurrentHashMap<>();
+    private final LandmarkProperties properties;
+    private final Counter acceptedCounter;
+    private final Counter droppedCounter;
+
+    public LandmarkService(LandmarkProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.acceptedCounter = Counter.builder("landmark.frames")
+                .description("전처리 단계를 통과한 프레임 수")
+                .tag("result", "accepted")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("landmark.frames")
+                .description("사람이 없어 버린 프레임 수")
+                .tag("result", "dropped")
+                .register(meterRegistry);
+        Gauge.builder("landmark.sessions", sessions, ConcurrentHashMap::size)
+                .description("진행 중인 랜드마크 세션 수")
+                .register(meterRegistry);
+    }
+
+    public ResponseDto<LandmarkIngestResponse> ingest(String userId, LandmarkBatchRequest request) {
+        if (userId == null) {
+            throw new LoginTokenException("유효한 토큰이 존재하지 않습니다");
+        }
+        validate(request);
+
+        LandmarkFilterStage stage = stageOf(userId, request);
+        int frames = request.frameCount();
+        int accepted = stage.process(request.timestamps(), request.values());
+        acceptedCounter.increment(accepted);
+        droppedCounter.increment(frames - accepted);
+
+        return new ResponseDto<>(true, new LandmarkIngestResponse(
+                request.sessionId(), accepted, frames - accepted,
+                stage.getRawJitter(), stage.getFilteredJitter()));
+    }
+
+    /**
+     * 진행 중인 세션의 전처리 단계, 없으면 null
+     */
+    public LandmarkFilterStage find(String userId, Long sessionId) {
+        return sessions.get(keyOf(userId, sessionId));
+    }
+
+    public void end(String userId, Long sessionId) {
+        sessions.remove(keyOf(userId, sessionId));
+    }
+
+    @Scheduled(fixedDelayString = "${landmark.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        int before = sessions.size();
+        sessions.values().removeIf(stage -> stage.isIdle(now, idleNanos));
+        log.debug("유휴 랜드마크 세션 정리: {} -> {}", before, sessions.size());
+    }
+
+    private LandmarkFilterStage stageOf(String userId, LandmarkBatchRequest request) {
+        String key = keyOf(userId, request.sessionId());
+        LandmarkFilterStage stage = sessions.get(key);
+        if (stage == null) {
+            if (sessions.size() >= properties.getMaxSessions()) {
+                throw new TooManyRequestsException("진행 중인 세션이 너무 많습니다", 30);
+            }
+            LandmarkProperties.Track track = properties.getTrack();
+            int width = request.width() == null ? track.getDefaultWidth() : request.width();
+            int height = request.height() == null ? track.getDefaultHeight() : request.height();
+            stage = sessions.computeIfAbsent(key, k -> new LandmarkFilterStage(request.landmarkCount(), properties, width, height));
+        }
+        if (stage.getLandmarkCount() != request.landmarkCount()) {
+            throw new BadRequestException("세션의 랜드마크 수와 다릅니다");
+        }
+        return stage;
+    }
+
+    private void validate(LandmarkBatchRequest request) {
+        if (request.sessionId() == null || request.timestamps() == null || request.values() == null) {
+            throw new BadRequestException("세션 식별자, 타임스탬프, 좌표는 필수입니다");
+        }
+        if (request.landmarkCount() <= 0 || request.landmarkCount() > MAX_LANDMARKS) {
+            throw new BadRequestException("랜드마크 수가 올바르지 않습니다");
+        }
+        if ((request.width() != null && request.width() <= 0) || (request.height() != null && request.height() <= 0)) {
+            throw new BadRequestException("영상 크기가 올바르지 않습니다");
+        }
+        if (request.frameCount() > MAX_FRAMES_PER_BATCH) {
+            throw new BadRequestException("한 번에 보낼 수 있는 프레임은 " + MAX_FRAMES_PER_BATCH + "개까지입니다");
+        }
+        if (!request.isWellFormed()) {
+            throw new BadRequestException("좌표 개수가 프레임 수, 랜드마크 수와 맞지 않습니다");
+        }
+    }
+
+    private String keyOf(String userId, Long sessionId) {
+        return userId + ":" + sessionId;
+    }
+}
@@ -2,10 +2,27 @@ package com.capstone.samadhi.record.controller;
 
 import com.capstone.samadhi.common.ResponseDto;
 import com.capstone.samadhi.common.SecurityUtil;
+import com.capstone.samadhi.record.dto.AlignedScoreResponse;
+import com.capstone.samadhi.record.dto.PoseFrameBatchRequest;
+import com.capstone.samadhi.record.dto.RecordChunkRequest;
+import com.capstone.samadhi.record.dto.RecordChunkResponse;
+import com.capstone.samadhi.record.dto.RecordOpenRequest;
 import com.capstone.samadhi.record.dto.RecordRequest;
 import com.capstone.samadhi.record.dto.RecordResponse;
+import com.capstone.samadhi.record.dto.ScoreSamplesRequest;
+import com.capstone.samadhi.record.dto.ScoreSeriesResponse;
+import com.capstone.samadhi.record.dto.SessionComparisonResponse;
+import com.capstone.samadhi.record.dto.TimeLineResponse;
+import com.capstone.samadhi.record.dto.VideoAggregateResponse;
+import com.capstone.samadhi.record.dto.VideoHistoryResponse;
+import com.capstone.samadhi.record.service.AlignedScoringService;
+import com.capstone.samadhi.record.service.PoseSegmentationService;
+import com.capstone.samadhi.record.service.RecordChunkService;
 import com.capstone.samadhi.record.service.RecordService;
+import com.capstone.samadhi.record.service.ScoreSeriesService;
+import com.capstone.samadhi.record.service.SessionComparisonService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -31,6 +48,11 @@ import java.util.List;
 @RequestMapping("/api/record")
 public class RecordController {
     private final RecordService recordService;
+    private final PoseSegmentationService poseSegmentationService;
+    private final SessionComparisonService sessionComparisonService;
+    private final RecordChunkService recordChunkService;
+    private final ScoreSeriesService scoreSeriesService;
+    private final AlignedScoringService alignedScoringService;
 
     @PostMapping("/")
     @Operation(summary = "레포트 생성", description = "레포트를 생성할 때 사용하는 API")
@@ -47,6 +69,160 @@ public class RecordController {
                 .body(recordService.save(SecurityUtil.getCurrentUser(), request));
     }
 
+    @PostMapping("/open")
+    @Operation(summary = "구간 업로드용 레코드 생성", description = "운동 시작 시 빈 레코드를 만듭니다. 타임라인은 운동 중 chunks API로 나눠 보내고 끝나면 complete를 호출합니다.")
+    @ApiResponses(value={
+            @ApiResponse(responseCode="201", description = "레코드 생성 성공"),
+            @ApiResponse(responseCode="400", description = "입력값 유효성 검사 실패")
+    })
+    public ResponseEntity<ResponseDto<RecordResponse>> openRecord(
+            @Valid @RequestBody RecordOpenRequest request
+    ) {
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(recordChunkService.open(SecurityUtil.getCurrentUser(), request));
+    }
+
+    @PostMapping("/{record_id}/chunks")
+    @Operation(summary = "타임라인 구간 업로드", description = "운동 중 타임라인을 작은 묶음으로 보내 바로 저장합니다. 같은 sequence를 다시 보내면 무시됩니다.")
+    @ApiResponses(value={
+            @ApiResponse(responseCode="200", description = "저장 성공 또는 이미 반영된 구간"),
+            @ApiResponse(responseCode="400", description = "입력값 오류 또는 이미 종료된 레코드"),
+            @ApiResponse(responseCode="403", description = "접근 권한 없음")
+    })
+    public ResponseEntity<ResponseDto<RecordChunkResponse>> appendChunk(
+            @PathVariable("record_id") Long id,
+            @Valid @RequestBody RecordChunkRequest request
+    ) throws AccessDeniedException {
+        return ResponseEntity.ok(recordChunkService.append(SecurityUtil.getCurrentUser(), id, request));
+    }
+
+    @PostMapping("/{record_id}/complete")
+    @Operation(summary = "구간 업로드 종료", description = "저장된 타임라인으로 총점과 운동 시간만 계산합니다. 이미 종료된 레코드면 그대로 반환합니다.")
+    @ApiResponses(value={
+            @ApiResponse(responseCode="200", description = "종료 성공"),
+            @ApiResponse(responseCode="403", description = "접근 권한 없음")
+    })
+    public ResponseEntity<ResponseDto<RecordResponse>> completeRecord(
+            @PathVariable("record_id") Long id
+    ) throws AccessDeniedException {
+        return ResponseEntity.ok(recordChunkService.complete(SecurityUtil.getCurrentUser(), id));
+    }
+
+    @PostMapping("/{record_id}/frames")
+    @Operation(summary = "프레임별 자세 판정 전송", description = "운동 중 프레임별 자세와 점수를 보내면 서버가 구간을 나눠 타임라인으로 저장합니다. 레코드는 빈 타임라인으로 먼저 생성합니다.")
+    @ApiResponses(value={
+            @ApiResponse(responseCode="200", description = "이번 배치에서 확정된 타임라인"),
+            @ApiResponse(responseCode="400", description = "배치 형식 오류"),
+            @ApiResponse(responseCode="403", description = "접근 권한 없음")
+    })
+    public ResponseEntity<ResponseDto<List<TimeLineResponse>>> appendFrames(
+            @PathVariable("record_id") Long id,
+            @RequestBody PoseFrameBatchRequest request
+    ) throws AccessDeniedException {
+        return ResponseEntity.ok(poseSegmentationService.accept(SecurityUtil.getCurrentUser(), id, request));
+    }
+
+    @PostMapping("/{record_id}/frames/finish")
+    @Operation(summary = "프레임 전송 종료", description = "진행 중인 구간을 저장하고 총점을 타임라인 점수 평균으로 갱신합니다.")
+    public ResponseEntity<ResponseDto<List<TimeLineResponse>>> finishFrames(
+            @PathVariable("record_id") Long id
+    ) throws AccessDeniedException {
+        return ResponseEntity.ok(poseSegmentationService.finish(SecurityUtil.getCurrentUser(), id));
+    }
+
+    @PostMapping("/{record_id}/aligned-score")
+    @Operation(summary = "강사 동작과 정렬해 채점", description = "랜드마크 세션(sessionId = 레코드 id)으로 모은 동작을 샘플 영상의 강사 트랙에 DTW로 정렬해 점수를 다시 계산하고 레코드에 저장합니다. 랜드마크 세션을 끝내기 전에 호출합니다.")
+    @ApiResponses(value={
+            @ApiResponse(responseCode="200", description = "채점 성공"),
+            @ApiResponse(responseCode="400", description = "샘플 영상 기록이 아니거나 강사 트랙 또는 랜드마크 세션 없음"),
+            @ApiResponse(responseCode="403", description = "접근 권한 없음")
+    })
+    public ResponseEntity<ResponseDto<AlignedScoreResponse>> scoreAligned(
+            @PathVariable("record_id") Long id
+    ) throws AccessDeniedException {
+        return ResponseEntity.ok(alignedScoringService.score(SecurityUtil.getCurrentUser(), id));
+    }
+
+    @PostMapping("/{record_id}/series")
+    @Operation(summary = "유사도 점수 전송", description = "운동 중 프레임별 유사도 점수를 보내 시계열로 저장합니다. frames API로 보낸 점수는 따로 보내지 않아도 됩니다. 이미 저장된 시각의 점수는 무시됩니다.")
+    @ApiResponses(value={
+            @ApiResponse(responseCode="200", description = "새로 저장된 점 수"),
+            @ApiResponse(responseCode="400", description = "배열 길이 불일치 또는 배치 크기 초과"),
+            @ApiResponse(responseCode="403", description = "접근 권한 없음")
+    })
+    public ResponseEntity<ResponseDto<Integer>> appendScores(
+            @PathVariable("record_id") Long id,
+            @RequestBody ScoreSamplesRequest request
+    ) throws AccessDeniedException {
+        return ResponseEntity.ok(scoreSeriesService.append(SecurityUtil.getCurrentUser(), id, request));
+    }
+
+    @GetMapping("/{record_id}/series")
+    @Operation(summary = "유사도 곡선 조회", description = "운동 시작 기준 [from, to) ms 구간의 유사도 곡선을 points개 이하의 구간별 최소/최대/평균으로 조회합니다. 세션 길이와 관계없이 차트에 그릴 점 수가 일정합니다.")
+    @ApiResponses(value={
+            @ApiResponse(responseCode="200", description = "조회 성공"),
+            @ApiResponse(responseCode="400", description = "조회 구간 또는 points 오류"),
+            @ApiResponse(responseCode="403", description = "접근 권한 없음")
+    })
+    public ResponseEntity<ResponseDto<ScoreSeriesResponse>> getScoreSeries(
+            @PathVariable("record_id") Long id,
+            @Parameter(description = "구간 시작(ms), 기본 0") @RequestParam(value = "from", required = false) Long from,
+            @Parameter(description = "구간 끝(ms, 미포함), 기본 마지막 점까지") @RequestParam(value = "to", required = false) Long to,
+            @Parameter(description = "최대 점 수, 기본 300") @RequestParam(value = "points", required = false) Integer points
+    ) throws AccessDeniedException {
+        return ResponseEntity.ok(scoreSeriesService.find(SecurityUtil.getCurrentUser(), id, from, to, points));
+    }
+
+    @GetMapping("/summary")
+    @Operation(summary = "내 레포트 요약 목록 조회", description = "사용자 정보와 타임라인을 제외한 요약 목록을 조회합니다. 상세 정보는 특정 레코드 조회 API를 사용합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 필드")
+    })
+    public ResponseEntity<ResponseDto<?>> getMyRecordSummaries(
+            @Parameter(description = "응답에 포함할 필드 (콤마 구분)", example = "id,dateTime,total_score,best_pose")
+            @RequestParam(value = "fields", required = false) String fields
+    ) {
+        return ResponseEntity.ok(recordService.findSummariesByUser(SecurityUtil.getCurrentUser(), fields));
+    }
+
+    @GetMapping("/videos")
+    @Operation(summary = "영상별 운동 기록 집계", description = "유튜브 영상별 운동 횟수, 최고/평균 총점, 마지막 운동 시각을 최근에 운동한 영상 순으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    public ResponseEntity<ResponseDto<List<VideoAggregateResponse>>> getMyVideoAggregates() {
+        return ResponseEntity.ok(recordService.findVideoAggregates(SecurityUtil.getCurrentUser()));
+    }
+
+    @GetMapping("/videos/history")
+    @Operation(summary = "영상별 내 운동 기록 조회", description = "같은 영상의 기록을 URL 형식(watch?v=, youtu.be, 타임스탬프 등)과 관계없이 모아 집계와 요약 목록을 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유튜브 영상 id 또는 URL이 아님")
+    })
+    public ResponseEntity<ResponseDto<VideoHistoryResponse>> getMyVideoHistory(
+            @Parameter(description = "유튜브 영상 id 또는 URL", example = "https://youtu.be/dQw4w9WgXcQ?t=42")
+            @RequestParam("video") String video
+    ) {
+        return ResponseEntity.ok(recordService.findVideoHistory(SecurityUtil.getCurrentUser(), video));
+    }
+
+    @GetMapping("/compare")
+    @Operation(summary = "같은 영상 세션 비교", description = "같은 유튜브 영상의 레코드 2개 이상을 영상 시각 기준으로 맞춰 구간별 점수 차이와 자세 불일치를 조회합니다. 첫 번째 레코드가 기준입니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "비교 성공"),
+            @ApiResponse(responseCode = "400", description = "레코드 수가 맞지 않거나 다른 영상의 레코드"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    public ResponseEntity<ResponseDto<SessionComparisonResponse>> compareRecords(
+            @Parameter(description = "비교할 레코드 id 목록 (첫 번째가 기준)", example = "3,7")
+            @RequestParam(value = "ids", required = false) List<Long> ids
+    ) throws AccessDeniedException {
+        return ResponseEntity.ok(sessionComparisonService.compare(SecurityUtil.getCurrentUser(), ids));
+    }
+
     @GetMapping("/{record_id}")
     @Operation(summary = "특정 레코드 조회", description = "특정 레코드를 조회할 때 사용하는 API")
     @ApiResponses(value={
@@ -72,4 +248,30 @@ public class RecordController {
 
         return ResponseEntity.ok(responseBody);
     }
+
+    @DeleteMapping("/{record_id}")
+    @Operation(summary = "레코드 삭제", description = "레코드와 타임라인, 스냅샷 이미지를 삭제합니다.")
+    @ApiResponses(value={
+            @ApiResponse(responseCode="200", description = "삭제 성공"),
+            @ApiResponse(responseCode="403", description = "접근 권한 없음"),
+            @ApiResponse(responseCode="404", description = "레코드 찾을 수 없음")
+    })
+    public ResponseEntity<ResponseDto<String>> deleteRecord(
+            @PathVariable("record_id") Long id
+    ) throws AccessDeniedException {
+        return ResponseEntity.ok(recordService.delete(SecurityUtil.getCurrentUser(), id));
+    }
+
+    @DeleteMapping("")
+    @Operation(summary = "레코드 일괄 삭제", description = "지정한 레코드 중 본인 소유인 것을 삭제하고 삭제된 개수를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "삭제 성공"),
+            @ApiResponse(responseCode = "400", description = "삭제할 레코드 미지정")
+    })
+    public ResponseEntity<ResponseDto<Integer>> deleteRecords(
+            @Parameter(description = "삭제할 레코드 id 목록", example = "1,2,3")
+            @RequestParam(value = "ids", required = false) List<Long> ids
+    ) {
+        return ResponseEntity.ok(recordService.deleteAll(SecurityUtil.getCurrentUser(), ids));
+    }
 }
@@ -0,0 +1,26 @@
+package com.capstone.samadhi.record.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 강사 동작 트랙과 시간 정렬한 운동 후 채점 결과
+ */
+public record AlignedScoreResponse(
+        Long record_id,
+        Long video_id,
+        @Schema(description = "사용자와 강사가 모두 화면에 있어 비교한 프레임 수")
+        int compared_frames,
+        @Schema(description = "DTW로 지연/앞섬을 맞춘 뒤 평균 유사도 (레코드에 저장)", example = "88.4")
+        float aligned_score,
+        @Schema(description = "같은 영상 시각끼리 비교한 평균 유사도", example = "81.2")
+        float strict_score,
+        @Schema(description = "강사 대비 평균 지연(ms), 음수면 앞섬")
+        long mean_lag_ms,
+        @Schema(description = "가장 크게 어긋난 지연(ms, 절댓값)")
+        long max_lag_ms,
+        @Schema(description = "사용자 동작을 좌우 반전해 비교했으면 true")
+        boolean mirrored,
+        @Schema(description = "정렬에 걸린 시간(ms)")
+        long elapsed_ms
+) {
+}
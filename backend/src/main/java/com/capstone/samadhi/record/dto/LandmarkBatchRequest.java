@@ -0,0 +1,47 @@
+package com.capstone.samadhi.record.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 여러 프레임의 MediaPipe 랜드마크 묶음
+ * 객체 배열 대신 평탄화한 primitive 배열을 사용해 CBOR/Smile 전송 시 float가 4바이트로 그대로 인코딩된다
+ */
+public record LandmarkBatchRequest(
+        @Schema(description = "세션(레코드) 식별자", example = "1")
+        @NotNull(message = "세션 식별자는 필수입니다.")
+        Long sessionId,
+
+        @Schema(description = "프레임당 랜드마크 수", example = "33")
+        @Positive(message = "랜드마크 수는 1 이상이어야 합니다.")
+        int landmarkCount,
+
+        @Schema(description = "프레임별 영상 기준 타임스탬프(ms)")
+        @NotNull(message = "타임스탬프는 필수입니다.")
+        long[] timestamps,
+
+        @Schema(description = "프레임 x 랜드마크 x (x, y, z, visibility) 순서로 평탄화한 좌표")
+        @NotNull(message = "좌표는 필수입니다.")
+        float[] values,
+
+        @Schema(description = "영상 너비(px), 세션 첫 배치에만 반영", example = "1280")
+        Integer width,
+
+        @Schema(description = "영상 높이(px), 세션 첫 배치에만 반영", example = "720")
+        Integer height
+) {
+    public static final int COMPONENTS = 4;
+
+    public LandmarkBatchRequest(Long sessionId, int landmarkCount, long[] timestamps, float[] values) {
+        this(sessionId, landmarkCount, timestamps, values, null, null);
+    }
+
+    public int frameCount() {
+        return timestamps.length;
+    }
+
+    public boolean isWellFormed() {
+        return values.length == (long) timestamps.length * landmarkCount * COMPONENTS;
+    }
+}
@@ -0,0 +1,28 @@
+package com.capstone.samadhi.record.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 클라이언트가 프레임별로 판정한 자세와 점수 묶음
+ * 자세 이름은 poses에 한 번씩만 담고 프레임에는 그 인덱스를 담는다
+ */
+public record PoseFrameBatchRequest(
+        @Schema(description = "이 배치에 등장하는 자세 이름 목록", example = "[\"Downward Dog\", \"Warrior II\"]")
+        List<String> poses,
+
+        @Schema(description = "프레임별 자세 인덱스 (poses 기준, 판정 불가면 -1)")
+        int[] poseIndex,
+
+        @Schema(description = "프레임별 유사도 점수 (0~100)")
+        float[] scores,
+
+        @Schema(description = "프레임별 운동 시작 기준 시각(ms)")
+        long[] timestamps
+) {
+    public boolean isWellFormed() {
+        return poses != null && poseIndex != null && scores != null && timestamps != null
+                && poseIndex.length == timestamps.length && scores.length == timestamps.length;
+    }
+}
@@ -0,0 +1,28 @@
+package com.capstone.samadhi.record.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 운동 중 업로드하는 타임라인 묶음
+ * 같은 sequence를 다시 보내면 무시되므로 응답을 받지 못한 구간은 그대로 재전송하면 된다
+ */
+public record RecordChunkRequest(
+        @Schema(description = "레코드 안에서 구간마다 다른 번호 (0부터), 순서가 바뀌어 도착해도 각각 한 번씩 반영된다", example = "0")
+        @NotNull(message = "구간 번호는 필수입니다.")
+        @PositiveOrZero(message = "구간 번호는 0 이상이어야 합니다.")
+        Integer sequence,
+
+        @Schema(description = "이번 구간의 타임라인, 스냅샷은 pre-signed URL로 올린 imageKey만 사용")
+        @Valid
+        @NotEmpty(message = "타임라인 정보는 최소 1개 이상 포함되어야 합니다.")
+        @Size(max = 50, message = "한 번에 보낼 수 있는 타임라인은 50개까지입니다.")
+        List<TimeLineRequest> timeLineList
+) {
+}
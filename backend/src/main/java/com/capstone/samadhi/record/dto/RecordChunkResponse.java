@@ -0,0 +1,15 @@
+package com.capstone.samadhi.record.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record RecordChunkResponse(
+        @Schema(description = "구간 번호", example = "0")
+        int sequence,
+
+        @Schema(description = "이번 요청으로 반영되었는지 여부, 이미 반영된 구간의 재전송이면 false", example = "true")
+        boolean applied,
+
+        @Schema(description = "저장된 타임라인 수", example = "5")
+        int timeline_count
+) {
+}
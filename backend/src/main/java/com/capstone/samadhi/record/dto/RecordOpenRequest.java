@@ -0,0 +1,34 @@
+package com.capstone.samadhi.record.dto;
+
+import com.capstone.samadhi.common.YoutubeVideoId;
+import com.capstone.samadhi.record.entity.Record;
+import com.capstone.samadhi.security.entity.User;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+import java.time.Duration;
+import java.util.ArrayList;
+
+/**
+ * 운동 시작 시 빈 레코드 생성, 타임라인은 운동 중 구간 업로드로 추가한다
+ */
+public record RecordOpenRequest(
+        @Schema(description = "유튜브 영상 URL", example = "https://www.youtube.com/watch?v=example")
+        @NotBlank(message = "유튜브 URL은 필수입니다.")
+        String youtube_url
+) {
+
+    public Record toEntity(User user) {
+        Record record = Record.builder()
+                .workingout_time(Duration.ZERO)
+                .youtube_url(this.youtube_url)
+                .youtube_video_id(YoutubeVideoId.parse(this.youtube_url))
+                .total_score(0)
+                .in_progress(true)
+                .timeLineList(new ArrayList<>())
+                .build();
+        record.addUser(user);
+
+        return record;
+    }
+}
@@ -1,5 +1,6 @@
 package com.capstone.samadhi.record.dto;
 
+import com.capstone.samadhi.common.YoutubeVideoId;
 import com.capstone.samadhi.record.entity.Record;
 import com.capstone.samadhi.security.entity.User;
 import jakarta.validation.Valid;
@@ -33,6 +34,7 @@ public record RecordRequest(
         Record record = Record.builder()
                 .workingout_time(Duration.ofSeconds(workingout_time))
                 .youtube_url(this.youtube_url)
+                .youtube_video_id(YoutubeVideoId.parse(this.youtube_url))
                 .total_score(this.total_score)
                 .timeLineList(new ArrayList<>())
                 .build();
@@ -1,6 +1,7 @@
 package com.capstone.samadhi.record.dto;
 
 import com.capstone.samadhi.record.entity.Record;
+import com.capstone.samadhi.record.service.PoseDictionary;
 import com.capstone.samadhi.security.dto.UserInfoDto;
 import io.swagger.v3.oas.annotations.media.Schema;
 
@@ -24,6 +25,9 @@ public record RecordResponse(
         @Schema(description = "총 평균 점수", example = "92")
         float total_score,
 
+        @Schema(description = "강사 동작과 시간 정렬 후 점수, 계산 전이면 null", example = "88.4")
+        Float aligned_score,
+
         @Schema(description = "자세별 타임라인 목록")
         List<TimeLineResponse> timelines,
 
@@ -31,10 +35,10 @@ public record RecordResponse(
 
 ) {
 
-    public static RecordResponse from(Record record) {
+    public static RecordResponse from(Record record, PoseDictionary poseDictionary) {
 
         List<TimeLineResponse> timelines = record.getTimeLineList().stream()
-                .map(TimeLineResponse::from) // TimeLineResponse의 정적 메소드 사용
+                .map(timeLine -> TimeLineResponse.from(timeLine, poseDictionary))
                 .collect(Collectors.toList());
 
         return new RecordResponse(
@@ -43,6 +47,7 @@ public record RecordResponse(
                 record.getWorkingout_time().toSeconds(),
                 record.getYoutube_url(),
                 record.getTotal_score(),
+                record.getAligned_score(),
                 timelines,
                 new UserInfoDto(record.getUser())
 
@@ -0,0 +1,71 @@
+package com.capstone.samadhi.record.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 레코드 목록용 요약 응답 (사용자 정보, 타임라인 제외)
+ */
+public record RecordSummaryResponse(
+        @Schema(description = "레코드 ID", example = "1")
+        Long id,
+
+        @Schema(description = "레코드 생성 날짜/시간 (ISO-8601)", example = "2025-11-01T15:00:00")
+        String dateTime,
+
+        @Schema(description = "총 운동 시간 (초)", example = "1800")
+        long workingout_time,
+
+        @Schema(description = "유튜브 영상 URL", example = "https://www.youtube.com/watch?v=example")
+        String youtube_url,
+
+        @Schema(description = "총 평균 점수", example = "92")
+        float total_score,
+
+        @Schema(description = "타임라인 개수", example = "12")
+        long timeline_count,
+
+        @Schema(description = "가장 점수가 높은 자세", example = "Downward Dog")
+        String best_pose
+) {
+    public static final List<String> FIELDS = List.of(
+            "id", "dateTime", "workingout_time", "youtube_url", "total_score", "timeline_count", "best_pose"
+    );
+
+    /**
+     * JPQL constructor expression 용 생성자
+     */
+    public RecordSummaryResponse(Long id, LocalDateTime createdAt, Duration workingoutTime, String youtubeUrl,
+                                 float totalScore, Long timelineCount, String bestPose) {
+        this(
+                id,
+                createdAt == null ? null : createdAt.toString(),
+                workingoutTime == null ? 0 : workingoutTime.toSeconds(),
+                youtubeUrl,
+                totalScore,
+                timelineCount == null ? 0 : timelineCount,
+                bestPose
+        );
+    }
+
+    /**
+     * fields 파라미터로 요청한 필드만 담은 Map
+     */
+    public Map<String, Object> toMap(Set<String> fields) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        if (fields.contains("id")) map.put("id", id);
+        if (fields.contains("dateTime")) map.put("dateTime", dateTime);
+        if (fields.contains("workingout_time")) map.put("workingout_time", workingout_time);
+        if (fields.contains("youtube_url")) map.put("youtube_url", youtube_url);
+        if (fields.contains("total_score")) map.put("total_score", total_score);
+        if (fields.contains("timeline_count")) map.put("timeline_count", timeline_count);
+        if (fields.contains("best_pose")) map.put("best_pose", best_pose);
+        return map;
+    }
+}
@@ -0,0 +1,18 @@
+package com.capstone.samadhi.record.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 프레임별 유사도 점수 묶음, 시각 순서로 보낸다
+ */
+public record ScoreSamplesRequest(
+        @Schema(description = "운동 시작 기준 시각(ms)")
+        long[] timestamps,
+
+        @Schema(description = "유사도 점수 (0~100)")
+        float[] scores
+) {
+    public boolean isWellFormed() {
+        return timestamps != null && scores != null && timestamps.length == scores.length;
+    }
+}
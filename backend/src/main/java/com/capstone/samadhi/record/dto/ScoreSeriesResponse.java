@@ -0,0 +1,29 @@
+package com.capstone.samadhi.record.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 유사도 시계열 조회 결과, 요청한 점 개수 이하로 구간별 최소/최대/평균을 담는다
+ */
+public record ScoreSeriesResponse(
+        Long record_id,
+        @Schema(description = "저장 주기(ms)")
+        int period_ms,
+        @Schema(description = "구간 하나의 길이(ms), 원본 점을 그대로 돌려주면 저장 주기와 같다")
+        long bucket_ms,
+        long from,
+        long to,
+        List<Bucket> points
+) {
+    public record Bucket(
+            @Schema(description = "구간 시작 시각(ms)")
+            long t,
+            float min,
+            float max,
+            float avg,
+            int count
+    ) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.capstone.samadhi.record.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 같은 영상의 세션 비교 결과, 첫 번째 레코드가 기준 세션
+ */
+public record SessionComparisonResponse(
+        @Schema(description = "유튜브 영상 id", example = "dQw4w9WgXcQ")
+        String video_id,
+
+        @Schema(description = "세션별 요약 (요청한 순서, 첫 번째가 기준)")
+        List<Session> sessions,
+
+        @Schema(description = "영상 시각 기준으로 맞춘 구간, 모든 세션의 자세와 점수가 변하지 않는 초 단위 구간")
+        List<Segment> segments
+) {
+    public record Session(
+            @Schema(description = "레코드 ID", example = "1")
+            Long record_id,
+
+            @Schema(description = "레코드 생성 날짜/시간 (ISO-8601)", example = "2025-11-01T15:00:00")
+            String dateTime,
+
+            @Schema(description = "총 평균 점수", example = "92")
+            float total_score,
+
+            @Schema(description = "기준 세션과 함께 구간이 있는 시간 (초)", example = "540")
+            int compared_seconds,
+
+            @Schema(description = "겹치는 시간 기준 기준 세션 대비 평균 점수 차이", example = "4.5")
+            float mean_delta,
+
+            @Schema(description = "겹치는 시간 중 기준 세션과 자세가 다른 시간 (초)", example = "30")
+            int pose_mismatch_seconds
+    ) {
+    }
+
+    public record Segment(
+            @Schema(description = "유튜브 영상 시작 초", example = "0")
+            int youtube_start_sec,
+
+            @Schema(description = "유튜브 영상 종료 초", example = "60")
+            int youtube_end_sec,
+
+            @Schema(description = "세션별 자세, 구간이 없으면 null")
+            List<String> poses,
+
+            @Schema(description = "세션별 점수, 구간이 없으면 null")
+            List<Float> scores,
+
+            @Schema(description = "세션별 기준 세션 대비 초당 점수 차이, 어느 한쪽이라도 구간이 없으면 null")
+            List<Float> deltas,
+
+            @Schema(description = "구간이 있는 세션끼리 자세가 다른지 여부", example = "false")
+            boolean pose_mismatch
+    ) {
+    }
+}
@@ -25,7 +25,10 @@ public record TimeLineRequest(
         @PositiveOrZero(message = "점수는 0 이상이어야 합니다.")
         int score,
 
-        MultipartFile image
+        MultipartFile image,
+
+        // pre-signed URL로 업로드한 스냅샷의 객체 key (image보다 우선)
+        String imageKey
 ) {
 
 }
@@ -1,6 +1,7 @@
 package com.capstone.samadhi.record.dto;
 
 import com.capstone.samadhi.record.entity.TimeLine;
+import com.capstone.samadhi.record.service.PoseDictionary;
 import io.swagger.v3.oas.annotations.media.Schema; // <-- import 추가
 
 public record TimeLineResponse(
@@ -20,11 +21,11 @@ public record TimeLineResponse(
         String image
 ) {
 
-    public static TimeLineResponse from(TimeLine timeLine) {
+    public static TimeLineResponse from(TimeLine timeLine, PoseDictionary poseDictionary) {
         return new TimeLineResponse(
                 timeLine.getYoutube_start_sec(),
                 timeLine.getYoutube_end_sec(),
-                timeLine.getPose(),
+                poseDictionary.nameOf(timeLine.getPose_id()),
                 timeLine.getScore(),
                 timeLine.getImage()
         );
@@ -0,0 +1,7 @@
+package com.capstone.samadhi.record.dto;
+
+/**
+ * 세션 비교용 타임라인 조회 결과 (이미지, 레코드 엔티티 제외)
+ */
+public record TimeLineSlice(Long recordId, int youtube_start_sec, int youtube_end_sec, Short poseId, float score) {
+}
@@ -0,0 +1,39 @@
+package com.capstone.samadhi.record.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원의 영상별 운동 기록 집계
+ */
+public record VideoAggregateResponse(
+        @Schema(description = "유튜브 영상 id", example = "dQw4w9WgXcQ")
+        String video_id,
+
+        @Schema(description = "운동 횟수", example = "5")
+        long session_count,
+
+        @Schema(description = "최고 총점", example = "95")
+        float best_total_score,
+
+        @Schema(description = "평균 총점", example = "87.4")
+        double average_total_score,
+
+        @Schema(description = "마지막 운동 날짜/시간 (ISO-8601)", example = "2025-11-01T15:00:00")
+        String last_session
+) {
+    /**
+     * JPQL constructor expression 용 생성자
+     */
+    public VideoAggregateResponse(String videoId, Long sessionCount, Float bestTotalScore,
+                                  Double averageTotalScore, LocalDateTime lastSession) {
+        this(
+                videoId,
+                sessionCount == null ? 0 : sessionCount,
+                bestTotalScore == null ? 0 : bestTotalScore,
+                averageTotalScore == null ? 0 : averageTotalScore,
+                lastSession == null ? null : lastSession.toString()
+        );
+    }
+}
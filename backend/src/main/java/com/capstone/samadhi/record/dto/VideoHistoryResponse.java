@@ -0,0 +1,17 @@
+package com.capstone.samadhi.record.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 한 영상에 대한 내 운동 기록 (집계 + 최신순 요약 목록)
+ */
+public record VideoHistoryResponse(
+        @Schema(description = "영상별 집계")
+        VideoAggregateResponse aggregate,
+
+        @Schema(description = "이 영상으로 운동한 레코드 요약 (최신순)")
+        List<RecordSummaryResponse> records
+) {
+}
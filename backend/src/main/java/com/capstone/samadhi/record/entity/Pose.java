@@ -1,4 +1,24 @@
 package com.capstone.samadhi.record.entity;
 
-public enum Pose {
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 자세 이름 사전, 타임라인은 이름 대신 이 id(smallint)를 저장한다
+ */
+@Getter
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name="pose", uniqueConstraints = @UniqueConstraint(name = "uk_pose_name", columnNames = "name"))
+public class Pose {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name="poseId")
+    private Short id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
 }
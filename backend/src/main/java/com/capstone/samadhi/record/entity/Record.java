@@ -17,7 +17,10 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@Table(name="record")
+@Table(name="record", indexes = {
+        // 회원별 영상 기록 조회와 영상별 집계 (집계에 쓰는 컬럼까지 포함)
+        @Index(name = "idx_record_user_video", columnList = "id, youtube_video_id, createdAt, total_score")
+})
 public class Record extends TimeStamp {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,8 +29,18 @@ public class Record extends TimeStamp {
 
     private Duration workingout_time;
     private String youtube_url;
+
+    // youtube_url에서 꺼낸 영상 id, 유튜브 URL이 아니면 null
+    @Column(length = 11)
+    private String youtube_video_id;
     private float total_score;
 
+    // 샘플 영상 강사 트랙과 DTW로 정렬해 다시 계산한 점수, 계산 전이면 null
+    private Float aligned_score;
+
+    // 운동 중 구간 업로드로 쌓고 있는 레코드 (open 후 finalize 전), 한 번에 저장한 레코드는 null
+    private Boolean in_progress;
+
     @ManyToOne
     @JoinColumn(name="id")
     private User user;
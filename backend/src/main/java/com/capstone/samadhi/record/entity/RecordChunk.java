@@ -0,0 +1,33 @@
+package com.capstone.samadhi.record.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반영한 업로드 구간 번호, 재전송된 구간만 걸러내고 늦게 도착한 이전 구간은 그대로 반영한다
+ */
+@Data
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name="record_chunk", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_record_chunk_seq", columnNames = {"recordId", "chunk_seq"})
+})
+public class RecordChunk {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name="recordId", nullable = false)
+    private Long record_id;
+
+    private int chunk_seq;
+
+    private LocalDateTime applied_at;
+}
@@ -0,0 +1,33 @@
+package com.capstone.samadhi.record.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 레코드별 유사도 시계열, ScoreSeriesCodec 형식으로 한 컬럼에 이어 붙인다
+ */
+@Data
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name="score_series")
+public class ScoreSeries {
+    @Id
+    @Column(name="recordId")
+    private Long id;
+
+    // 리샘플링 주기(ms), 저장 후 바뀌지 않는다
+    private int period_ms;
+    private int sample_count;
+    // 마지막 점의 운동 시작 기준 시각(ms), 이보다 이른 점은 재전송으로 보고 버린다
+    private long last_ts;
+
+    // 16MB (mediumblob)
+    @Lob
+    @Column(length = 16_777_215)
+    private byte[] data;
+}
@@ -1,6 +1,7 @@
 package com.capstone.samadhi.record.entity;
 
 import com.capstone.samadhi.common.TimeStamp;
+import com.capstone.samadhi.common.storage.OrphanBlobListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,6 +15,7 @@ import org.springframework.web.multipart.MultipartFile;
 @NoArgsConstructor
 @Builder
 @Table(name="timeline")
+@EntityListeners(OrphanBlobListener.class)
 public class TimeLine extends TimeStamp {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,7 +24,8 @@ public class TimeLine extends TimeStamp {
 
     private int youtube_start_sec;
     private int youtube_end_sec;
-    private String pose;
+    // 자세 사전(pose) id, API 경계에서 PoseDictionary로 이름과 변환한다
+    private Short pose_id;
     private float score;
     private String image;
 
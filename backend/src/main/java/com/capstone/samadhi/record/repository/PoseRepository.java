@@ -0,0 +1,9 @@
+package com.capstone.samadhi.record.repository;
+
+import com.capstone.samadhi.record.entity.Pose;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PoseRepository extends JpaRepository<Pose, Short> {
+}
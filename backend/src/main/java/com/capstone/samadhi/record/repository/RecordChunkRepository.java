@@ -0,0 +1,21 @@
+package com.capstone.samadhi.record.repository;
+
+import com.capstone.samadhi.record.entity.RecordChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface RecordChunkRepository extends JpaRepository<RecordChunk, Long> {
+
+    @Query("select count(c) > 0 from RecordChunk c where c.record_id = :recordId and c.chunk_seq = :sequence")
+    boolean existsByRecordIdAndSequence(@Param("recordId") Long recordId, @Param("sequence") int sequence);
+
+    @Modifying
+    @Query("delete from RecordChunk c where c.record_id in :recordIds")
+    int deleteByRecordIds(@Param("recordIds") Collection<Long> recordIds);
+}
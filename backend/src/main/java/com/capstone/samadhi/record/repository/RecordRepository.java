@@ -1,16 +1,146 @@
 package com.capstone.samadhi.record.repository;
 
+import com.capstone.samadhi.record.dto.RecordSummaryResponse;
+import com.capstone.samadhi.record.dto.VideoAggregateResponse;
 import com.capstone.samadhi.record.entity.Record;
 import com.capstone.samadhi.security.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RecordRepository extends JpaRepository<Record, Long> {
 
-    List<Record> findByUser(User user);
+    /**
+     * 기록 목록 (GET /api/record), 요약 조회처럼 진행 중인 레코드는 빼고 끝난 레코드만 돌려준다
+     */
+    @Query("select r from Record r where r.user = :user and (r.in_progress is null or r.in_progress = false)")
+    List<Record> findByUser(@Param("user") User user);
+
+    /**
+     * 목록 화면용 요약 조회 (User, TimeLine 엔티티를 로딩하지 않음)
+     * 목록과 집계는 끝난 레코드만 본다, 진행 중인 레코드는 총점이 아직 0이다
+     */
+    @Query("""
+            select new com.capstone.samadhi.record.dto.RecordSummaryResponse(
+                r.id, r.createdAt, r.workingout_time, r.youtube_url, r.total_score,
+                (select count(t) from TimeLine t where t.record = r),
+                (select p.name from TimeLine t join Pose p on p.id = t.pose_id where t.record = r order by t.score desc, t.id asc limit 1)
+            )
+            from Record r
+            where r.user.id = :userId and (r.in_progress is null or r.in_progress = false)
+            order by r.createdAt desc
+            """)
+    List<RecordSummaryResponse> findSummariesByUserId(@Param("userId") String userId);
+
+    /**
+     * 한 영상에 대한 목록 화면용 요약 조회 (youtube_video_id 인덱스 사용)
+     */
+    @Query("""
+            select new com.capstone.samadhi.record.dto.RecordSummaryResponse(
+                r.id, r.createdAt, r.workingout_time, r.youtube_url, r.total_score,
+                (select count(t) from TimeLine t where t.record = r),
+                (select p.name from TimeLine t join Pose p on p.id = t.pose_id where t.record = r order by t.score desc, t.id asc limit 1)
+            )
+            from Record r
+            where r.user.id = :userId and r.youtube_video_id = :videoId and (r.in_progress is null or r.in_progress = false)
+            order by r.createdAt desc
+            """)
+    List<RecordSummaryResponse> findSummariesByUserIdAndVideoId(@Param("userId") String userId,
+                                                                @Param("videoId") String videoId);
+
+    /**
+     * 영상별 집계, 마지막 운동 시각 최신순
+     */
+    @Query("""
+            select new com.capstone.samadhi.record.dto.VideoAggregateResponse(
+                r.youtube_video_id, count(r), max(r.total_score), avg(r.total_score), max(r.createdAt)
+            )
+            from Record r
+            where r.user.id = :userId and r.youtube_video_id is not null and (r.in_progress is null or r.in_progress = false)
+            group by r.youtube_video_id
+            order by max(r.createdAt) desc
+            """)
+    List<VideoAggregateResponse> findVideoAggregatesByUserId(@Param("userId") String userId);
+
+    @Query("""
+            select new com.capstone.samadhi.record.dto.VideoAggregateResponse(
+                r.youtube_video_id, count(r), max(r.total_score), avg(r.total_score), max(r.createdAt)
+            )
+            from Record r
+            where r.user.id = :userId and r.youtube_video_id = :videoId and (r.in_progress is null or r.in_progress = false)
+            group by r.youtube_video_id
+            """)
+    Optional<VideoAggregateResponse> findVideoAggregate(@Param("userId") String userId, @Param("videoId") String videoId);
+
+    /**
+     * 영상 id 컬럼 추가 전에 저장된 레코드 (id 순서로 이어서 조회)
+     */
+    @Query("""
+            select r.id, r.youtube_url from Record r
+            where r.youtube_video_id is null and r.youtube_url is not null and r.id > :afterId
+            order by r.id
+            """)
+    List<Object[]> findWithoutVideoId(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("update Record r set r.youtube_video_id = :videoId where r.id = :id")
+    int updateVideoId(@Param("id") Long id, @Param("videoId") String videoId);
+
+    /**
+     * 진행 중인 레코드의 마지막 업로드 시각 갱신, 진행 중이 아니면 0
+     * 같은 트랜잭션에서 구간을 저장하는 동안 레코드 행 잠금이 유지되어 같은 레코드의 업로드와 finalize가 겹치지 않는다
+     */
+    @Modifying
+    @Query("update Record r set r.updatedAt = :now where r.id = :id and r.in_progress = true")
+    int touchInProgress(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Record r where r.id = :id")
+    Optional<Record> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 마지막 업로드 이후 before까지 finalize 되지 않은 레코드
+     */
+    @Query("select r.id from Record r where r.in_progress = true and r.updatedAt < :before order by r.id")
+    List<Long> findStaleInProgressIds(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Query("select r.id from Record r where r.user.id = :userId order by r.id")
+    List<Long> findIdsByUserId(@Param("userId") String userId, Pageable pageable);
+
+    @Query("select r.id from Record r where r.user.id = :userId and r.id in :ids")
+    List<Long> findIdsByUserIdAndIdIn(@Param("userId") String userId, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from Record r where r.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select r.user.id from Record r where r.id = :id")
+    Optional<String> findOwnerIdById(@Param("id") Long id);
+
+    /**
+     * 서버에서 구간을 나눈 레코드의 총점을 타임라인 점수 평균으로 갱신 (프론트엔드와 같은 방식)
+     */
+    @Modifying
+    @Query("""
+            update Record r
+            set r.total_score = coalesce((select round(avg(t.score)) from TimeLine t where t.record = r), 0)
+            where r.id = :id
+            """)
+    int updateTotalScoreFromTimeLines(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Record r set r.aligned_score = :score where r.id = :id")
+    int updateAlignedScore(@Param("id") Long id, @Param("score") Float score);
 }
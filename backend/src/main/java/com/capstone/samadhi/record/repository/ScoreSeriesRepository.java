@@ -0,0 +1,25 @@
+package com.capstone.samadhi.record.repository;
+
+import com.capstone.samadhi.record.entity.ScoreSeries;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface ScoreSeriesRepository extends JpaRepository<ScoreSeries, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ScoreSeries s where s.id = :id")
+    Optional<ScoreSeries> findByIdForUpdate(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from ScoreSeries s where s.id in :recordIds")
+    int deleteByRecordIds(@Param("recordIds") Collection<Long> recordIds);
+}
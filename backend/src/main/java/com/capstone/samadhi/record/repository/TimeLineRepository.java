@@ -1,9 +1,36 @@
 package com.capstone.samadhi.record.repository;
 
+import com.capstone.samadhi.record.dto.TimeLineSlice;
 import com.capstone.samadhi.record.entity.TimeLine;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface TimeLineRepository extends JpaRepository<TimeLine, Long> {
+
+    /**
+     * 세션 비교용, 영상 시작 초 순서
+     */
+    @Query("""
+            select new com.capstone.samadhi.record.dto.TimeLineSlice(
+                t.record.id, t.youtube_start_sec, t.youtube_end_sec, t.pose_id, t.score
+            )
+            from TimeLine t
+            where t.record.id in :recordIds
+            order by t.youtube_start_sec, t.youtube_end_sec, t.id
+            """)
+    List<TimeLineSlice> findSlicesByRecordIds(@Param("recordIds") Collection<Long> recordIds);
+
+    @Query("select avg(t.score) from TimeLine t where t.record.id = :recordId")
+    Double averageScoreByRecordId(@Param("recordId") Long recordId);
+
+    @Modifying
+    @Query("delete from TimeLine t where t.record.id in :recordIds")
+    int deleteByRecordIds(@Param("recordIds") Collection<Long> recordIds);
 }
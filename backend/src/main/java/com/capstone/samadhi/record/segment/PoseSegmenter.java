@@ -0,0 +1,137 @@
+package com.capstone.samadhi.record.segment;
+
+import java.util.Objects;
+
+/**
+ * 프레임별 자세 판정을 받아 자세 구간(타임라인)을 잘라내는 온라인 세그멘터
+ * 새 자세가 일정 프레임 수와 시간 이상 이어져야 전환으로 보는 히스테리시스를 적용해
+ * 분류 결과가 잠깐 튀는 것으로는 구간이 나뉘지 않는다. 프레임당 O(1), 할당 없음
+ */
+public final class PoseSegmenter {
+
+    @FunctionalInterface
+    public interface Sink {
+        void segment(String pose, long startMillis, long endMillis, float meanScore);
+    }
+
+    private final int minSwitchFrames;
+    private final long minSwitchMillis;
+    private final long minSegmentMillis;
+    private final long maxGapMillis;
+
+    // 현재 구간 (pose가 null이면 자세 없음 구간)
+    private String current;
+    private long start;
+    private long last;
+    private double scoreSum;
+    private int frames;
+
+    // 전환 후보
+    private String candidate;
+    private long candidateStart;
+    private double candidateScoreSum;
+    private int candidateFrames;
+
+    public PoseSegmenter(int minSwitchFrames, long minSwitchMillis, long minSegmentMillis, long maxGapMillis) {
+        this.minSwitchFrames = minSwitchFrames;
+        this.minSwitchMillis = minSwitchMillis;
+        this.minSegmentMillis = minSegmentMillis;
+        this.maxGapMillis = maxGapMillis;
+    }
+
+    /**
+     * 같은 상태의 사본, 배치를 사본에 넣어 보고 저장에 성공한 뒤에만 바꿔 끼울 때 쓴다
+     */
+    public PoseSegmenter copy() {
+        PoseSegmenter copy = new PoseSegmenter(minSwitchFrames, minSwitchMillis, minSegmentMillis, maxGapMillis);
+        copy.current = current;
+        copy.start = start;
+        copy.last = last;
+        copy.scoreSum = scoreSum;
+        copy.frames = frames;
+        copy.candidate = candidate;
+        copy.candidateStart = candidateStart;
+        copy.candidateScoreSum = candidateScoreSum;
+        copy.candidateFrames = candidateFrames;
+        return copy;
+    }
+
+    /**
+     * @param pose 판정된 자세, 판정 불가면 null
+     * @param timestampMillis 운동 시작 기준 시각
+     */
+    public void accept(String pose, float score, long timestampMillis, Sink sink) {
+        if (frames > 0 && (timestampMillis < last || timestampMillis - last > maxGapMillis)) {
+            // 끊긴 구간 앞뒤는 이어 붙이지 않는다
+            flush(sink);
+        }
+        if (frames == 0) {
+            begin(pose, timestampMillis, score, 1);
+            last = timestampMillis;
+            return;
+        }
+        last = timestampMillis;
+
+        if (Objects.equals(pose, current)) {
+            absorbCandidate();
+            scoreSum += score;
+            frames++;
+            return;
+        }
+
+        if (candidateFrames == 0 || !Objects.equals(pose, candidate)) {
+            absorbCandidate();
+            candidate = pose;
+            candidateStart = timestampMillis;
+        }
+        candidateScoreSum += score;
+        candidateFrames++;
+
+        if (candidateFrames >= minSwitchFrames && timestampMillis - candidateStart >= minSwitchMillis) {
+            emit(candidateStart, sink);
+            begin(candidate, candidateStart, candidateScoreSum, candidateFrames);
+            clearCandidate();
+        }
+    }
+
+    /**
+     * 진행 중인 구간을 마지막 프레임 시각에서 닫는다 (세션 종료, 긴 공백)
+     */
+    public void flush(Sink sink) {
+        if (frames == 0) {
+            return;
+        }
+        absorbCandidate();
+        emit(last, sink);
+        frames = 0;
+        current = null;
+    }
+
+    private void begin(String pose, long startMillis, double initialScoreSum, int initialFrames) {
+        current = pose;
+        start = startMillis;
+        scoreSum = initialScoreSum;
+        frames = initialFrames;
+    }
+
+    private void emit(long endMillis, Sink sink) {
+        if (current != null && endMillis - start >= minSegmentMillis) {
+            sink.segment(current, start, endMillis, (float) (scoreSum / frames));
+        }
+    }
+
+    // 전환으로 인정되지 않은 후보 프레임은 현재 구간에 포함한다
+    private void absorbCandidate() {
+        if (candidateFrames > 0) {
+            scoreSum += candidateScoreSum;
+            frames += candidateFrames;
+            clearCandidate();
+        }
+    }
+
+    private void clearCandidate() {
+        candidate = null;
+        candidateScoreSum = 0;
+        candidateFrames = 0;
+    }
+}
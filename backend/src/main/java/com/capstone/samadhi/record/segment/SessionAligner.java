@@ -0,0 +1,119 @@
+package com.capstone.samadhi.record.segment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 같은 영상을 여러 번 운동한 세션의 타임라인 구간을 영상 시각 기준으로 맞춘다
+ * 모든 세션의 구간 경계를 정렬된 순서로 한 번 훑으며, 어느 세션의 구간도 바뀌지 않는 동안을 한 조각으로 낸다
+ * 세션 k개, 구간 n개일 때 O(n·k), 구간은 세션별로 시작 초 순서여야 한다
+ */
+public final class SessionAligner {
+
+    /**
+     * [start, end) 초 구간
+     */
+    public record Interval(int start, int end, String pose, float score) {
+    }
+
+    /**
+     * 모든 세션의 구간이 변하지 않는 [start, end) 초 구간
+     * 해당 세션에 구간이 없으면 pose는 null, score는 NaN
+     */
+    public record Slice(int start, int end, String[] poses, float[] scores) {
+        public int seconds() {
+            return end - start;
+        }
+
+        public boolean covered(int session) {
+            return poses[session] != null;
+        }
+
+        /**
+         * 구간이 있는 세션끼리 자세가 다르면 true
+         */
+        public boolean poseMismatch() {
+            String first = null;
+            for (String pose : poses) {
+                if (pose == null) continue;
+                if (first == null) {
+                    first = pose;
+                } else if (!first.equals(pose)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean sameContent(Slice other) {
+            return Arrays.equals(poses, other.poses) && Arrays.equals(scores, other.scores);
+        }
+    }
+
+    private SessionAligner() {
+    }
+
+    public static List<Slice> align(List<List<Interval>> sessions) {
+        int k = sessions.size();
+        int[] next = new int[k];
+        Interval[] active = new Interval[k];
+        List<Slice> slices = new ArrayList<>();
+
+        int cursor = Integer.MAX_VALUE;
+        for (List<Interval> session : sessions) {
+            if (!session.isEmpty()) {
+                cursor = Math.min(cursor, session.get(0).start());
+            }
+        }
+
+        while (cursor != Integer.MAX_VALUE) {
+            int boundary = Integer.MAX_VALUE;
+            boolean any = false;
+            for (int i = 0; i < k; i++) {
+                List<Interval> session = sessions.get(i);
+                // cursor 이전에 시작한 구간 중 마지막 것이 활성 (겹치면 나중 구간이 우선)
+                while (next[i] < session.size() && session.get(next[i]).start() <= cursor) {
+                    active[i] = session.get(next[i]++);
+                }
+                if (active[i] != null && active[i].end() <= cursor) {
+                    active[i] = null;
+                }
+                if (active[i] != null) {
+                    any = true;
+                    boundary = Math.min(boundary, active[i].end());
+                }
+                if (next[i] < session.size()) {
+                    boundary = Math.min(boundary, session.get(next[i]).start());
+                }
+            }
+            if (any) {
+                add(slices, snapshot(cursor, boundary, active));
+            }
+            cursor = boundary;
+        }
+        return slices;
+    }
+
+    private static Slice snapshot(int start, int end, Interval[] active) {
+        String[] poses = new String[active.length];
+        float[] scores = new float[active.length];
+        for (int i = 0; i < active.length; i++) {
+            poses[i] = active[i] == null ? null : active[i].pose();
+            scores[i] = active[i] == null ? Float.NaN : active[i].score();
+        }
+        return new Slice(start, end, poses, scores);
+    }
+
+    // 이어지는 조각의 내용이 같으면 합친다 (구간이 같은 경계에서 끝나고 시작하는 경우)
+    private static void add(List<Slice> slices, Slice slice) {
+        if (!slices.isEmpty()) {
+            Slice last = slices.get(slices.size() - 1);
+            if (last.end() == slice.start() && last.sameContent(slice)) {
+                slices.set(slices.size() - 1, new Slice(last.start(), slice.end(), last.poses(), last.scores()));
+                return;
+            }
+        }
+        slices.add(slice);
+    }
+}
@@ -0,0 +1,57 @@
+package com.capstone.samadhi.record.series;
+
+import com.capstone.samadhi.record.dto.ScoreSeriesResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 디코딩한 점을 고정 폭 구간으로 모아 최소/최대/평균을 계산
+ * 점이 없는 구간은 결과에서 빠진다 (차트에서 끊어 그린다)
+ */
+public final class ScoreDownsampler implements ScoreSeriesCodec.PointSink {
+    private final long from;
+    private final long width;
+    private final float[] min;
+    private final float[] max;
+    private final double[] sum;
+    private final int[] count;
+
+    public ScoreDownsampler(long from, long width, int buckets) {
+        this.from = from;
+        this.width = width;
+        this.min = new float[buckets];
+        this.max = new float[buckets];
+        this.sum = new double[buckets];
+        this.count = new int[buckets];
+    }
+
+    @Override
+    public void point(long timestampMillis, float score) {
+        long index = (timestampMillis - from) / width;
+        if (timestampMillis < from || index >= count.length) {
+            return;
+        }
+        int i = (int) index;
+        if (count[i] == 0) {
+            min[i] = score;
+            max[i] = score;
+        } else {
+            min[i] = Math.min(min[i], score);
+            max[i] = Math.max(max[i], score);
+        }
+        sum[i] += score;
+        count[i]++;
+    }
+
+    public List<ScoreSeriesResponse.Bucket> buckets() {
+        List<ScoreSeriesResponse.Bucket> buckets = new ArrayList<>();
+        for (int i = 0; i < count.length; i++) {
+            if (count[i] > 0) {
+                buckets.add(new ScoreSeriesResponse.Bucket(from + i * width, min[i], max[i],
+                        (float) (sum[i] / count[i]), count[i]));
+            }
+        }
+        return buckets;
+    }
+}
@@ -0,0 +1,252 @@
+package com.capstone.samadhi.record.series;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 레코드별 유사도 시계열의 압축 형식
+ *
+ * <pre>
+ * [버전 u8] [블록]*
+ * 블록: varint 개수, varint 첫 시각, varint 마지막 시각, varint 첫 값, varint 비트열 길이(byte), 비트열
+ * 비트열 (두 번째 점부터):
+ *   시각 delta-of-delta  0 | 10+7bit | 110+12bit | 1110+20bit | 1111+64bit
+ *   값 차이 (0.1점 단위) 0 | 10+5bit  | 11+11bit
+ * </pre>
+ * 일정 주기로 리샘플링한 값이라 시각은 대부분 '0' 한 비트, 값은 점당 몇 비트로 줄어든다
+ * 블록은 업로드 묶음마다 하나씩 뒤에 이어 붙이고, 조회 범위 밖 블록은 비트열을 읽지 않고 건너뛴다
+ */
+public final class ScoreSeriesCodec {
+    public static final byte VERSION = 1;
+    // 0.1점 단위로 양자화 (0~100점 -> 0~1000)
+    private static final float SCALE = 10f;
+    private static final int MAX_QUANTIZED = 1000;
+
+    @FunctionalInterface
+    public interface PointSink {
+        void point(long timestampMillis, float score);
+    }
+
+    private ScoreSeriesCodec() {
+    }
+
+    public static byte[] empty() {
+        return new byte[]{VERSION};
+    }
+
+    public static int quantize(float score) {
+        return Math.max(0, Math.min(MAX_QUANTIZED, Math.round(score * SCALE)));
+    }
+
+    public static float dequantize(int value) {
+        return value / SCALE;
+    }
+
+    /**
+     * @param timestamps 증가하는 시각(ms, 0 이상)
+     * @param values     quantize 한 값
+     */
+    public static byte[] encodeBlock(long[] timestamps, int[] values, int count) {
+        if (count <= 0) {
+            return new byte[0];
+        }
+        BitWriter bits = new BitWriter();
+        long previousTime = timestamps[0];
+        long previousDelta = 0;
+        int previousValue = values[0];
+        for (int i = 1; i < count; i++) {
+            long delta = timestamps[i] - previousTime;
+            writeDeltaOfDelta(bits, delta - previousDelta);
+            writeValueDelta(bits, values[i] - previousValue);
+            previousTime = timestamps[i];
+            previousDelta = delta;
+            previousValue = values[i];
+        }
+        byte[] payload = bits.toByteArray();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length + 24);
+        writeVarint(out, count);
+        writeVarint(out, timestamps[0]);
+        writeVarint(out, timestamps[count - 1]);
+        writeVarint(out, values[0]);
+        writeVarint(out, payload.length);
+        out.write(payload, 0, payload.length);
+        return out.toByteArray();
+    }
+
+    public static byte[] append(byte[] series, byte[] block) {
+        byte[] base = series == null || series.length == 0 ? empty() : series;
+        byte[] joined = new byte[base.length + block.length];
+        System.arraycopy(base, 0, joined, 0, base.length);
+        System.arraycopy(block, 0, joined, base.length, block.length);
+        return joined;
+    }
+
+    /**
+     * [fromMillis, toMillis) 범위의 점을 시각 순서로 전달
+     */
+    public static void decode(byte[] series, long fromMillis, long toMillis, PointSink sink) {
+        if (series == null || series.length == 0) {
+            return;
+        }
+        if (series[0] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 시계열 버전: " + series[0]);
+        }
+        int[] position = {1};
+        while (position[0] < series.length) {
+            int count = (int) readVarint(series, position);
+            long firstTime = readVarint(series, position);
+            long lastTime = readVarint(series, position);
+            int firstValue = (int) readVarint(series, position);
+            int payloadLength = (int) readVarint(series, position);
+            int payloadStart = position[0];
+            position[0] += payloadLength;
+            if (lastTime < fromMillis || firstTime >= toMillis) {
+                continue;
+            }
+
+            BitReader bits = new BitReader(series, payloadStart, payloadLength);
+            long time = firstTime;
+            long delta = 0;
+            int value = firstValue;
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    delta += readDeltaOfDelta(bits);
+                    time += delta;
+                    value += readValueDelta(bits);
+                }
+                if (time >= toMillis) {
+                    break;
+                }
+                if (time >= fromMillis) {
+                    sink.point(time, dequantize(value));
+                }
+            }
+        }
+    }
+
+    private static void writeDeltaOfDelta(BitWriter bits, long dod) {
+        if (dod == 0) {
+            bits.write(0b0, 1);
+        } else if (fits(dod, 7)) {
+            bits.write(0b10, 2);
+            bits.write(dod, 7);
+        } else if (fits(dod, 12)) {
+            bits.write(0b110, 3);
+            bits.write(dod, 12);
+        } else if (fits(dod, 20)) {
+            bits.write(0b1110, 4);
+            bits.write(dod, 20);
+        } else {
+            bits.write(0b1111, 4);
+            bits.write(dod, 64);
+        }
+    }
+
+    private static long readDeltaOfDelta(BitReader bits) {
+        if (bits.read(1) == 0) return 0;
+        if (bits.read(1) == 0) return bits.readSigned(7);
+        if (bits.read(1) == 0) return bits.readSigned(12);
+        if (bits.read(1) == 0) return bits.readSigned(20);
+        return bits.read(64);
+    }
+
+    private static void writeValueDelta(BitWriter bits, int delta) {
+        if (delta == 0) {
+            bits.write(0b0, 1);
+        } else if (fits(delta, 5)) {
+            bits.write(0b10, 2);
+            bits.write(delta, 5);
+        } else {
+            bits.write(0b11, 2);
+            bits.write(delta, 11);
+        }
+    }
+
+    private static int readValueDelta(BitReader bits) {
+        if (bits.read(1) == 0) return 0;
+        if (bits.read(1) == 0) return (int) bits.readSigned(5);
+        return (int) bits.readSigned(11);
+    }
+
+    // n비트 2의 보수로 표현 가능한지
+    private static boolean fits(long value, int n) {
+        long min = -(1L << (n - 1));
+        long max = (1L << (n - 1)) - 1;
+        return value >= min && value <= max;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(byte[] bytes, int[] position) {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            byte b = bytes[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    private static final class BitWriter {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private int current;
+        private int used;
+
+        void write(long value, int n) {
+            for (int i = n - 1; i >= 0; i--) {
+                current = (current << 1) | (int) ((value >>> i) & 1);
+                if (++used == 8) {
+                    out.write(current);
+                    current = 0;
+                    used = 0;
+                }
+            }
+        }
+
+        byte[] toByteArray() {
+            if (used > 0) {
+                out.write(current << (8 - used));
+                current = 0;
+                used = 0;
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static final class BitReader {
+        private final byte[] bytes;
+        private final long end;
+        private long bit;
+
+        BitReader(byte[] bytes, int offset, int length) {
+            this.bytes = bytes;
+            this.bit = (long) offset * 8;
+            this.end = (long) (offset + length) * 8;
+        }
+
+        long read(int n) {
+            if (bit + n > end) {
+                throw new IllegalArgumentException("시계열 블록이 손상되었습니다");
+            }
+            long value = 0;
+            for (int i = 0; i < n; i++, bit++) {
+                value = (value << 1) | ((bytes[(int) (bit >>> 3)] >>> (7 - (bit & 7))) & 1);
+            }
+            return value;
+        }
+
+        long readSigned(int n) {
+            long value = read(n);
+            return (value << (64 - n)) >> (64 - n);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.capstone.samadhi.record.service;
+
+import com.capstone.samadhi.common.ResponseDto;
+import com.capstone.samadhi.exception.BadRequestException;
+import com.capstone.samadhi.exception.LoginTokenException;
+import com.capstone.samadhi.landmark.align.BandedDtw;
+import com.capstone.samadhi.landmark.filter.LandmarkFilterStage;
+import com.capstone.samadhi.landmark.filter.SessionTrack;
+import com.capstone.samadhi.landmark.reference.PoseVectors;
+import com.capstone.samadhi.landmark.reference.ReferenceTrack;
+import com.capstone.samadhi.landmark.reference.ReferenceTrackStore;
+import com.capstone.samadhi.landmark.service.LandmarkService;
+import com.capstone.samadhi.record.dto.AlignedScoreResponse;
+import com.capstone.samadhi.record.entity.Record;
+import com.capstone.samadhi.record.repository.RecordRepository;
+import com.capstone.samadhi.video.entity.Video;
+import com.capstone.samadhi.video.repository.VideoRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.AccessDeniedException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 운동 후 채점: 랜드마크 세션 트랙을 샘플 영상의 강사 트랙에 DTW로 정렬해 점수를 다시 계산
+ * 사용자가 강사보다 1~2초 늦거나 빨라도 같은 동작끼리 비교하므로 영상 시각 그대로 비교할 때보다 공정하다
+ *
+ * 사용자 트랙은 메모리의 랜드마크 세션에 있으므로 세션을 끝내기(DELETE /api/landmark/{id}) 전에 호출해야 한다
+ */
+@Slf4j
+@Service
+public class AlignedScoringService {
+    private static final int D = PoseVectors.VECTOR_LENGTH;
+
+    private final RecordRepository recordRepository;
+    private final VideoRepository videoRepository;
+    private final ReferenceTrackStore referenceTrackStore;
+    private final LandmarkService landmarkService;
+    private final TransactionTemplate transactionTemplate;
+    // 역추적 배열(프레임 수 x 폭)을 요청마다 새로 만들지 않도록 정렬기를 돌려 쓴다
+    private final ConcurrentLinkedQueue<BandedDtw> engines = new ConcurrentLinkedQueue<>();
+
+    @Value("${record.alignment.max-lag-ms:2000}")
+    private long maxLagMillis;
+
+    // 프론트엔드처럼 사용자(셀카 화면)를 좌우 반전해 먼저 비교한다
+    @Value("${record.alignment.mirror-user:true}")
+    private boolean mirrorUser;
+
+    public AlignedScoringService(RecordRepository recordRepository, VideoRepository videoRepository,
+                                 ReferenceTrackStore referenceTrackStore, LandmarkService landmarkService,
+                                 TransactionTemplate transactionTemplate) {
+        this.recordRepository = recordRepository;
+        this.videoRepository = videoRepository;
+        this.referenceTrackStore = referenceTrackStore;
+        this.landmarkService = landmarkService;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public ResponseDto<AlignedScoreResponse> score(String userId, Long recordId) throws AccessDeniedException {
+        if (userId == null) {
+            throw new LoginTokenException("유효한 토큰이 존재하지 않습니다");
+        }
+        Record record = recordRepository.findById(recordId)
+                .orElseThrow(() -> new EntityNotFoundException("Record not found"));
+        if (!record.getUser().getId().equals(userId)) {
+            throw new AccessDeniedException("접근 권한이 없습니다.");
+        }
+        Video video = sampleVideoOf(record);
+        ReferenceTrack track = referenceTrackStore.find(video.getId());
+        if (track == null) {
+            throw new BadRequestException("강사 동작 트랙이 없는 영상입니다");
+        }
+        LandmarkFilterStage stage = landmarkService.find(userId, recordId);
+        if (stage == null || stage.getTrack() == null) {
+            throw new BadRequestException("진행 중인 랜드마크 세션이 없습니다");
+        }
+
+        int period = track.periodMillis();
+        int radius = (int) Math.max(1, maxLagMillis / period);
+        UserFrames user;
+        synchronized (stage) {
+            user = resample(stage.getTrack(), track);
+        }
+
+        // 폭 밖의 강사 프레임은 읽지 않는다
+        int from = Math.max(0, user.offset - radius);
+        int to = Math.min(track.frameCount(), user.offset + user.frames + radius);
+        float[] reference = new float[(to - from) * D];
+        boolean[] referencePresent = new boolean[to - from];
+        track.copyFrames(from, to - from, reference);
+        for (int j = from; j < to; j++) {
+            referencePresent[j - from] = track.isPresent(j);
+        }
+        int offset = user.offset - from;
+
+        long started = System.nanoTime();
+        float[] mirrored = user.vectors.clone();
+        for (int i = 0; i < user.frames; i++) {
+            if (user.present[i]) {
+                PoseVectors.mirror(mirrored, i * D);
+            }
+        }
+        float[] preferred = mirrorUser ? mirrored : user.vectors;
+        float[] other = mirrorUser ? user.vectors : mirrored;
+
+        BandedDtw dtw = engines.poll();
+        if (dtw == null) {
+            dtw = new BandedDtw();
+        }
+        BandedDtw.Result best;
+        boolean bestMirrored = mirrorUser;
+        try {
+            best = dtw.align(preferred, user.present, user.frames, reference, referencePresent, to - from,
+                    offset, radius, Double.POSITIVE_INFINITY);
+            // 반대 방향은 지금까지의 최소 비용을 넘는 순간 멈춘다
+            BandedDtw.Result flipped = dtw.align(other, user.present, user.frames, reference, referencePresent, to - from,
+                    offset, radius, best.cost());
+            if (!flipped.abandoned() && flipped.cost() < best.cost()) {
+                best = flipped;
+                bestMirrored = !mirrorUser;
+            }
+        } finally {
+            engines.offer(dtw);
+        }
+        float[] vectors = bestMirrored ? mirrored : user.vectors;
+
+        int compared = 0;
+        double aligned = 0;
+        double strict = 0;
+        long lagSum = 0;
+        long maxLag = 0;
+        for (int i = 0; i < user.frames; i++) {
+            int nominal = offset + i;
+            int matched = best.match()[i];
+            if (!user.present[i] || nominal >= to - from || !referencePresent[nominal] || !referencePresent[matched]) {
+                continue;
+            }
+            compared++;
+            aligned += PoseVectors.similarity(vectors, i * D, reference, matched * D);
+            strict += PoseVectors.similarity(vectors, i * D, reference, nominal * D);
+            // 사용자 프레임이 더 앞선 강사 프레임과 맞으면 사용자가 늦은 것
+            long lag = (long) (nominal - matched) * period;
+            lagSum += lag;
+            maxLag = Math.max(maxLag, Math.abs(lag));
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        if (compared == 0) {
+            throw new BadRequestException("강사와 함께 화면에 잡힌 프레임이 없습니다");
+        }
+
+        float alignedScore = Math.round(aligned / compared * 10) / 10f;
+        float strictScore = Math.round(strict / compared * 10) / 10f;
+        transactionTemplate.executeWithoutResult(status -> recordRepository.updateAlignedScore(recordId, alignedScore));
+        log.info("정렬 채점 recordId={}, video={}, frames={}, aligned={}, strict={}, {}ms",
+                recordId, video.getId(), user.frames, alignedScore, strictScore, elapsed);
+
+        return new ResponseDto<>(true, new AlignedScoreResponse(recordId, video.getId(), compared, alignedScore,
+                strictScore, lagSum / compared, maxLag, bestMirrored, elapsed));
+    }
+
+    private Video sampleVideoOf(Record record) {
+        String path = record.getYoutube_url();
+        if (path == null || path.isBlank()) {
+            throw new BadRequestException("샘플 영상으로 운동한 기록이 아닙니다");
+        }
+        return videoRepository.findFirstByPath(path)
+                .orElseThrow(() -> new BadRequestException("샘플 영상으로 운동한 기록이 아닙니다"));
+    }
+
+    private record UserFrames(int offset, int frames, float[] vectors, boolean[] present) {
+    }
+
+    /**
+     * 세션 트랙을 강사 트랙 간격에 맞춰 다시 뽑는다 (가장 가까운 프레임)
+     */
+    private static UserFrames resample(SessionTrack session, ReferenceTrack track) {
+        if (session.frameCount() == 0) {
+            throw new BadRequestException("기록된 랜드마크가 없습니다");
+        }
+        int period = track.periodMillis();
+        int offset = track.frameAt(session.startMillis());
+        if (offset < 0) {
+            throw new BadRequestException("강사 트랙 범위를 벗어난 기록입니다");
+        }
+        long end = session.startMillis() + (long) session.frameCount() * session.periodMillis();
+        int frames = (int) Math.min((end - (long) offset * period + period - 1) / period, track.frameCount() - offset);
+
+        float[] vectors = new float[frames * D];
+        boolean[] present = new boolean[frames];
+        for (int i = 0; i < frames; i++) {
+            long t = (long) (offset + i) * period;
+            long u = Math.round((t - session.startMillis()) / (double) session.periodMillis());
+            if (u >= 0 && u < session.frameCount() && session.isPresent((int) u)) {
+                session.copyFrame((int) u, vectors, i * D);
+                present[i] = true;
+            }
+        }
+        return new UserFrames(offset, frames, vectors, present);
+    }
+}
@@ -0,0 +1,171 @@
+package com.capstone.samadhi.record.service;
+
+import com.capstone.samadhi.exception.BadRequestException;
+import com.capstone.samadhi.landmark.reference.ReferencePoseLibrary;
+import com.capstone.samadhi.landmark.reference.ReferencePoseLibraryHolder;
+import com.capstone.samadhi.record.entity.Pose;
+import com.capstone.samadhi.record.repository.PoseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 자세 이름 <-> id 양방향 사전 (pose 테이블의 메모리 사본)
+ * 처음 쓸 때 전체를 읽고, 조회는 잠금 없이 불변 스냅샷에서 한다
+ * 컨텍스트 갱신 중에는 DB를 읽지 않는다 (AppCDS 학습 실행은 DB 없이 onRefresh에서 끝난다)
+ * 처음 보는 이름은 참조 자세 라이브러리에 있는 자세나 고정된 예약 이름일 때만 별도 트랜잭션으로 추가하고,
+ * 다른 인스턴스가 추가한 자세는 주기적으로 다시 읽는다
+ * 그 밖의 이름은 400으로 거절하므로 클라이언트가 보낸 임의의 이름으로 행이 늘어나지 않는다
+ * 같은 자세 이름은 항상 같은 String 인스턴스로 돌려준다
+ */
+@Slf4j
+@Component
+public class PoseDictionary {
+    private static final int MAX_NAME_LENGTH = 100;
+    // 라이브러리에 없어도 받는 이름, 프론트엔드 분류기가 어느 자세와도 맞지 않을 때 쓰는 값
+    static final Set<String> RESERVED_NAMES = Set.of("unknown");
+
+    private final PoseRepository poseRepository;
+    private final ReferencePoseLibraryHolder referenceLibrary;
+    private final TransactionTemplate insertTransaction;
+
+    // 아직 읽지 않았으면 null
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(Map<String, Short> ids, String[] names) {
+    }
+
+    public PoseDictionary(PoseRepository poseRepository, ReferencePoseLibraryHolder referenceLibrary,
+                          PlatformTransactionManager transactionManager) {
+        this.poseRepository = poseRepository;
+        this.referenceLibrary = referenceLibrary;
+        // 타임라인을 저장하는 트랜잭션이 롤백되어도 사전 항목은 남긴다
+        this.insertTransaction = new TransactionTemplate(transactionManager);
+        this.insertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    synchronized void load() {
+        if (snapshot == null) {
+            reload();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${record.pose-dictionary.refresh-interval-ms:60000}")
+    public void refresh() {
+        Snapshot current = snapshot;
+        // 아직 쓴 적이 없으면 처음 쓸 때 읽는다
+        if (current != null && poseRepository.count() != current.ids().size()) {
+            reload();
+        }
+    }
+
+    /**
+     * @return 자세 id (name이 null이면 null)
+     * @throws BadRequestException 사전, 참조 자세 라이브러리, 예약 이름 어디에도 없는 이름
+     */
+    public Short idOf(String name) {
+        if (name == null) {
+            return null;
+        }
+        Short id = snapshot().ids().get(name);
+        if (id != null) {
+            return id;
+        }
+        if (!RESERVED_NAMES.contains(name)) {
+            ReferencePoseLibrary library = referenceLibrary.current();
+            if (library == null || library.indexOf(name) < 0) {
+                throw new BadRequestException("알 수 없는 자세 이름입니다: " + abbreviate(name));
+            }
+        }
+        return register(name);
+    }
+
+    /**
+     * 예전 timeline.pose 컬럼에 이미 저장된 이름 옮기기 전용, 라이브러리에 없는 이름도 추가한다
+     */
+    Short idOfLegacy(String name) {
+        if (name == null) {
+            return null;
+        }
+        Short id = snapshot().ids().get(name);
+        return id != null ? id : register(name);
+    }
+
+    /**
+     * @return 자세 이름, 모르는 id면 null
+     */
+    public String nameOf(Short id) {
+        if (id == null || id <= 0) {
+            return null;
+        }
+        String[] names = snapshot().names();
+        if (id >= names.length) {
+            // 다른 인스턴스가 추가한 자세
+            reload();
+            names = snapshot().names();
+        }
+        return id < names.length ? names[id] : null;
+    }
+
+    private static String abbreviate(String name) {
+        return name.length() > 40 ? name.substring(0, 40) + "..." : name;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            load();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private synchronized Short register(String name) {
+        Short id = snapshot().ids().get(name);
+        if (id != null) {
+            return id;
+        }
+        if (name.length() > MAX_NAME_LENGTH) {
+            throw new BadRequestException("자세 이름은 " + MAX_NAME_LENGTH + "자까지입니다");
+        }
+        if (snapshot().ids().size() >= Short.MAX_VALUE) {
+            throw new BadRequestException("더 이상 새 자세를 등록할 수 없습니다");
+        }
+        try {
+            insertTransaction.executeWithoutResult(status -> poseRepository.saveAndFlush(new Pose(null, name)));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 추가
+        }
+        reload();
+        id = snapshot().ids().get(name);
+        if (id == null) {
+            throw new IllegalStateException("자세 사전 등록 실패: " + name);
+        }
+        return id;
+    }
+
+    private synchronized void reload() {
+        List<Pose> poses = poseRepository.findAll();
+        Map<String, Short> ids = new HashMap<>(poses.size() * 2);
+        int maxId = 0;
+        for (Pose pose : poses) {
+            maxId = Math.max(maxId, pose.getId());
+        }
+        String[] names = new String[maxId + 1];
+        for (Pose pose : poses) {
+            String name = pose.getName().intern();
+            ids.put(name, pose.getId());
+            names[pose.getId()] = name;
+        }
+        snapshot = new Snapshot(Map.copyOf(ids), names);
+    }
+}
@@ -0,0 +1,73 @@
+package com.capstone.samadhi.record.service;
+
+import com.capstone.samadhi.common.scheduling.LeasedJobScheduler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * 자세 사전 도입 전 timeline.pose(문자열) 컬럼에 저장된 자세를 pose_id로 옮긴다
+ * 예전 컬럼은 엔티티에 매핑되지 않으므로 JDBC로 직접 읽고, 옮긴 뒤에도 지우지 않는다
+ * 여러 인스턴스가 함께 떠도 한 곳에서만 실행하고, 남은 행 없이 끝나면 job_lease에 기록해 이후 기동에서는 다시 훑지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PoseIdBackfill {
+    private static final String LEGACY_COLUMN = "pose";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PoseDictionary poseDictionary;
+    private final LeasedJobScheduler jobScheduler;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        jobScheduler.runOnceUntilDone("timeline-pose-id-backfill", this::fill);
+    }
+
+    /**
+     * @return 옮길 행이 더 없으면 true
+     */
+    private boolean fill() {
+        if (!hasLegacyColumn()) {
+            return true;
+        }
+        List<String> names = jdbcTemplate.queryForList(
+                "select distinct pose from timeline where pose_id is null and pose is not null", String.class);
+        int updated = 0;
+        for (String name : names) {
+            updated += jdbcTemplate.update("update timeline set pose_id = ? where pose_id is null and pose = ?",
+                    poseDictionary.idOfLegacy(name), name);
+        }
+        if (updated > 0) {
+            log.info("타임라인 자세 id 채움: 자세 {}종, {}건", names.size(), updated);
+        }
+        // 자세 이름마다 id를 받았으므로 남은 행이 없다, 등록에 실패하면 예외로 빠져 다음 기동에 다시 한다
+        return true;
+    }
+
+    private boolean hasLegacyColumn() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            // 식별자 대소문자 처리가 DB마다 달라서 두 가지 모두 확인
+            for (String table : new String[]{"timeline", "TIMELINE"}) {
+                try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, null)) {
+                    while (columns.next()) {
+                        if (LEGACY_COLUMN.equalsIgnoreCase(columns.getString("COLUMN_NAME"))) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+}
@@ -0,0 +1,216 @@
+package com.capstone.samadhi.record.service;
+
+import com.capstone.samadhi.common.ResponseDto;
+import com.capstone.samadhi.exception.BadRequestException;
+import com.capstone.samadhi.exception.LoginTokenException;
+import com.capstone.samadhi.record.dto.PoseFrameBatchRequest;
+import com.capstone.samadhi.record.dto.TimeLineResponse;
+import com.capstone.samadhi.record.entity.Record;
+import com.capstone.samadhi.record.entity.TimeLine;
+import com.capstone.samadhi.record.repository.RecordRepository;
+import com.capstone.samadhi.record.repository.TimeLineRepository;
+import com.capstone.samadhi.record.segment.PoseSegmenter;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.AccessDeniedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 운동 중 전송되는 프레임별 자세 판정을 구간으로 나눠 TimeLine으로 바로 저장
+ * 운동이 끝날 때 전체 타임라인을 한 번에 보내지 않아도 된다
+ */
+@Slf4j
+@Service
+public class PoseSegmentationService {
+    // 한 배치에 담을 수 있는 최대 프레임 수
+    private static final int MAX_FRAMES_PER_BATCH = 600;
+
+    private final ConcurrentHashMap<Long, Session> sessions = new ConcurrentHashMap<>();
+    private final RecordRepository recordRepository;
+    private final TimeLineRepository timeLineRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PoseDictionary poseDictionary;
+    private final ScoreSeriesService scoreSeriesService;
+
+    @Value("${segmentation.min-switch-frames:5}")
+    private int minSwitchFrames;
+
+    @Value("${segmentation.min-switch-ms:300}")
+    private long minSwitchMillis;
+
+    @Value("${segmentation.min-segment-ms:1000}")
+    private long minSegmentMillis;
+
+    @Value("${segmentation.max-gap-ms:3000}")
+    private long maxGapMillis;
+
+    @Value("${segmentation.idle-timeout-ms:600000}")
+    private long idleTimeoutMillis;
+
+    public PoseSegmentationService(RecordRepository recordRepository, TimeLineRepository timeLineRepository,
+                                   TransactionTemplate transactionTemplate, PoseDictionary poseDictionary,
+                                   ScoreSeriesService scoreSeriesService) {
+        this.recordRepository = recordRepository;
+        this.timeLineRepository = timeLineRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.poseDictionary = poseDictionary;
+        this.scoreSeriesService = scoreSeriesService;
+    }
+
+    /**
+     * 프레임 배치를 세그멘터에 넣고, 이번 배치에서 확정된 구간을 저장
+     * @return 새로 저장된 타임라인
+     */
+    public ResponseDto<List<TimeLineResponse>> accept(String userId, Long recordId, PoseFrameBatchRequest request)
+            throws AccessDeniedException {
+        if (request == null || !request.isWellFormed()) {
+            throw new BadRequestException("프레임 배열의 길이가 서로 다릅니다");
+        }
+        if (request.timestamps().length > MAX_FRAMES_PER_BATCH) {
+            throw new BadRequestException("한 번에 보낼 수 있는 프레임은 " + MAX_FRAMES_PER_BATCH + "개까지입니다");
+        }
+        String[] poses = request.poses().toArray(new String[0]);
+        int[] poseIndex = request.poseIndex();
+        float[] scores = request.scores();
+        long[] timestamps = request.timestamps();
+        // 세션을 건드리기 전에 배치 전체를 검사한다, 중간에 거절하면 앞 프레임만 소비된 채 남는다
+        boolean[] used = new boolean[poses.length];
+        for (int index : poseIndex) {
+            if (index >= poses.length) {
+                throw new BadRequestException("자세 인덱스가 범위를 벗어났습니다");
+            }
+            if (index >= 0 && !used[index]) {
+                used[index] = true;
+                poseDictionary.idOf(poses[index]);
+            }
+        }
+        Session session = sessionOf(userId, recordId);
+
+        List<TimeLine> segments = new ArrayList<>();
+        synchronized (session) {
+            session.lastSeen = System.currentTimeMillis();
+            // 사본에 넣고 저장에 성공해야 바꿔 끼운다, 저장이 실패하면 세션은 배치 전 상태라 재전송을 그대로 받는다
+            PoseSegmenter segmenter = session.segmenter.copy();
+            // 판정 불가 프레임은 유사도 곡선에서 비워 둔다
+            float[] curve = new float[timestamps.length];
+            for (int f = 0; f < timestamps.length; f++) {
+                int index = poseIndex[f];
+                segmenter.accept(index < 0 ? null : poses[index], scores[f], timestamps[f], toTimeLine(segments));
+                curve[f] = index < 0 ? Float.NaN : scores[f];
+            }
+            save(recordId, segments);
+            session.segmenter = segmenter;
+            try {
+                scoreSeriesService.append(recordId, timestamps, curve);
+            } catch (RuntimeException e) {
+                // 세그멘터는 이미 프레임을 소비했으므로 요청을 실패시키지 않는다
+                log.error("유사도 시계열 저장 실패 recordId={}: {}", recordId, e.getMessage());
+            }
+        }
+        return new ResponseDto<>(true, segments.stream().map(timeLine -> TimeLineResponse.from(timeLine, poseDictionary)).toList());
+    }
+
+    /**
+     * 진행 중인 구간을 닫아 저장하고, 레코드 총점을 타임라인 점수 평균으로 갱신
+     */
+    public ResponseDto<List<TimeLineResponse>> finish(String userId, Long recordId) throws AccessDeniedException {
+        Session session = sessionOf(userId, recordId);
+        List<TimeLine> segments = new ArrayList<>();
+        synchronized (session) {
+            session.segmenter.flush(toTimeLine(segments));
+            sessions.remove(recordId, session);
+            transactionTemplate.executeWithoutResult(status -> {
+                persist(recordId, segments);
+                recordRepository.updateTotalScoreFromTimeLines(recordId);
+            });
+        }
+        return new ResponseDto<>(true, segments.stream().map(timeLine -> TimeLineResponse.from(timeLine, poseDictionary)).toList());
+    }
+
+    /**
+     * 종료 요청 없이 끊긴 세션은 진행 중이던 구간까지 저장하고 정리
+     */
+    @Scheduled(fixedDelayString = "${segmentation.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        sessions.forEach((recordId, session) -> {
+            synchronized (session) {
+                if (now - session.lastSeen <= idleTimeoutMillis) {
+                    return;
+                }
+                List<TimeLine> segments = new ArrayList<>();
+                session.segmenter.flush(toTimeLine(segments));
+                sessions.remove(recordId, session);
+                try {
+                    save(recordId, segments);
+                } catch (RuntimeException e) {
+                    log.error("유휴 세그먼트 저장 실패 recordId={}: {}", recordId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private Session sessionOf(String userId, Long recordId) throws AccessDeniedException {
+        if (userId == null) {
+            throw new LoginTokenException("유효한 토큰이 존재하지 않습니다");
+        }
+        Session session = sessions.get(recordId);
+        if (session == null) {
+            String ownerId = recordRepository.findOwnerIdById(recordId)
+                    .orElseThrow(() -> new EntityNotFoundException("Record not found"));
+            if (!ownerId.equals(userId)) {
+                throw new AccessDeniedException("접근 권한이 없습니다.");
+            }
+            session = sessions.computeIfAbsent(recordId, id -> new Session(ownerId,
+                    new PoseSegmenter(minSwitchFrames, minSwitchMillis, minSegmentMillis, maxGapMillis)));
+        }
+        if (!session.userId.equals(userId)) {
+            throw new AccessDeniedException("접근 권한이 없습니다.");
+        }
+        return session;
+    }
+
+    private PoseSegmenter.Sink toTimeLine(List<TimeLine> segments) {
+        return (pose, startMillis, endMillis, meanScore) -> segments.add(TimeLine.builder()
+                .youtube_start_sec((int) (startMillis / 1000))
+                .youtube_end_sec((int) (endMillis / 1000))
+                .pose_id(poseDictionary.idOf(pose))
+                .score(Math.round(meanScore))
+                .build());
+    }
+
+    private void save(Long recordId, List<TimeLine> segments) {
+        if (!segments.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> persist(recordId, segments));
+        }
+    }
+
+    private void persist(Long recordId, List<TimeLine> segments) {
+        if (segments.isEmpty()) {
+            return;
+        }
+        Record record = recordRepository.getReferenceById(recordId);
+        for (TimeLine segment : segments) {
+            segment.setRecord(record);
+        }
+        timeLineRepository.saveAll(segments);
+    }
+
+    private static final class Session {
+        private final String userId;
+        private PoseSegmenter segmenter;
+        private long lastSeen = System.currentTimeMillis();
+
+        private Session(String userId, PoseSegmenter segmenter) {
+            this.userId = userId;
+            this.segmenter = segmenter;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.capstone.samadhi.record.service;
+
+import com.capstone.samadhi.common.repository.BlobTombstoneRepository;
+import com.capstone.samadhi.common.storage.BlobStore;
+import com.capstone.samadhi.record.repository.RecordChunkRepository;
+import com.capstone.samadhi.record.repository.RecordRepository;
+import com.capstone.samadhi.record.repository.ScoreSeriesRepository;
+import com.capstone.samadhi.record.repository.TimeLineRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * 레코드와 타임라인을 엔티티 로딩 없이 집합 단위 DELETE로 삭제
+ * 잠금을 오래 잡지 않도록 chunk-size개 레코드씩 별도 트랜잭션으로 나눠 처리하고,
+ * 타임라인 스냅샷 이미지는 같은 트랜잭션에서 blob_tombstone에 기록해 OrphanBlobSweeper가 정리하게 한다
+ */
+@Slf4j
+@Service
+public class RecordBulkDeleteService {
+    private final RecordRepository recordRepository;
+    private final TimeLineRepository timeLineRepository;
+    private final ScoreSeriesRepository scoreSeriesRepository;
+    private final RecordChunkRepository recordChunkRepository;
+    private final BlobTombstoneRepository tombstoneRepository;
+    private final BlobStore blobStore;
+    private final TransactionTemplate chunkTransaction;
+
+    @Value("${bulk-delete.chunk-size:200}")
+    private int chunkSize;
+
+    public RecordBulkDeleteService(RecordRepository recordRepository, TimeLineRepository timeLineRepository,
+                                   ScoreSeriesRepository scoreSeriesRepository, RecordChunkRepository recordChunkRepository,
+                                   BlobTombstoneRepository tombstoneRepository, BlobStore blobStore,
+                                   PlatformTransactionManager transactionManager) {
+        this.recordRepository = recordRepository;
+        this.timeLineRepository = timeLineRepository;
+        this.scoreSeriesRepository = scoreSeriesRepository;
+        this.recordChunkRepository = recordChunkRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.blobStore = blobStore;
+        // 호출자가 트랜잭션 안에 있어도 chunk마다 바로 커밋되도록 한다
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 지정한 레코드 중 본인 소유인 것만 삭제
+     * @return 삭제된 레코드 수
+     */
+    public int deleteRecords(String userId, Collection<Long> recordIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(recordIds));
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            deleted += chunkTransaction.execute(status ->
+                    deleteChunk(recordRepository.findIdsByUserIdAndIdIn(userId, chunk)));
+        }
+        return deleted;
+    }
+
+    /**
+     * 사용자의 모든 레코드 삭제
+     * @return 삭제된 레코드 수
+     */
+    public int deleteAllRecords(String userId) {
+        int deleted = 0;
+        int n;
+        do {
+            n = chunkTransaction.execute(status ->
+                    deleteChunk(recordRepository.findIdsByUserId(userId, PageRequest.of(0, chunkSize))));
+            deleted += n;
+        } while (n > 0);
+        log.info("레코드 일괄 삭제: userId={}, {}건", userId, deleted);
+        return deleted;
+    }
+
+    private int deleteChunk(List<Long> recordIds) {
+        if (recordIds.isEmpty()) {
+            return 0;
+        }
+        tombstoneRepository.insertTimeLineImages(blobStore.getPublicUrl(""), recordIds);
+        timeLineRepository.deleteByRecordIds(recordIds);
+        scoreSeriesRepository.deleteByRecordIds(recordIds);
+        recordChunkRepository.deleteByRecordIds(recordIds);
+        return recordRepository.deleteByIds(recordIds);
+    }
+}
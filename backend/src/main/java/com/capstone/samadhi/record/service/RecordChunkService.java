@@ -0,0 +1,209 @@
+package com.capstone.samadhi.record.service;
+
+import com.capstone.samadhi.common.ResponseDto;
+import com.capstone.samadhi.common.dto.PresignRequest;
+import com.capstone.samadhi.common.scheduling.LeasedJobScheduler;
+import com.capstone.samadhi.common.service.UploadService;
+import com.capstone.samadhi.exception.BadRequestException;
+import com.capstone.samadhi.exception.LoginTokenException;
+import com.capstone.samadhi.record.dto.RecordChunkRequest;
+import com.capstone.samadhi.record.dto.RecordChunkResponse;
+import com.capstone.samadhi.record.dto.RecordOpenRequest;
+import com.capstone.samadhi.record.dto.RecordResponse;
+import com.capstone.samadhi.record.dto.TimeLineRequest;
+import com.capstone.samadhi.record.entity.Record;
+import com.capstone.samadhi.record.entity.RecordChunk;
+import com.capstone.samadhi.record.entity.TimeLine;
+import com.capstone.samadhi.record.repository.RecordChunkRepository;
+import com.capstone.samadhi.record.repository.RecordRepository;
+import com.capstone.samadhi.record.repository.TimeLineRepository;
+import com.capstone.samadhi.security.entity.User;
+import com.capstone.samadhi.security.repo.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.AccessDeniedException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 운동 중 구간 업로드: open -> append(여러 번) -> complete
+ * 타임라인은 구간마다 짧은 트랜잭션으로 바로 저장되고, complete는 총점과 운동 시간만 계산한다
+ * 종료 요청 없이 끊긴 레코드는 마지막 업로드 시각 기준으로 자동 종료한다
+ */
+@Slf4j
+@Service
+public class RecordChunkService {
+    private final RecordRepository recordRepository;
+    private final RecordChunkRepository recordChunkRepository;
+    private final TimeLineRepository timeLineRepository;
+    private final UserRepository userRepository;
+    private final UploadService uploadService;
+    private final PoseDictionary poseDictionary;
+    private final TransactionTemplate transactionTemplate;
+    private final LeasedJobScheduler jobScheduler;
+
+    // 마지막 업로드 후 이 시간이 지나도록 종료하지 않은 레코드는 자동 종료
+    @Value("${record.chunked.idle-timeout-ms:1800000}")
+    private long idleTimeoutMillis;
+
+    @Value("${record.chunked.sweep-interval-ms:300000}")
+    private long sweepIntervalMillis;
+
+    @Value("${record.chunked.sweep-batch-size:100}")
+    private int sweepBatchSize;
+
+    public RecordChunkService(RecordRepository recordRepository, RecordChunkRepository recordChunkRepository,
+                              TimeLineRepository timeLineRepository,
+                              UserRepository userRepository, UploadService uploadService,
+                              PoseDictionary poseDictionary, TransactionTemplate transactionTemplate,
+                              LeasedJobScheduler jobScheduler) {
+        this.recordRepository = recordRepository;
+        this.recordChunkRepository = recordChunkRepository;
+        this.timeLineRepository = timeLineRepository;
+        this.userRepository = userRepository;
+        this.uploadService = uploadService;
+        this.poseDictionary = poseDictionary;
+        this.transactionTemplate = transactionTemplate;
+        this.jobScheduler = jobScheduler;
+    }
+
+    public ResponseDto<RecordResponse> open(String userId, RecordOpenRequest request) {
+        requireLogin(userId);
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.findById(userId).orElseThrow(EntityNotFoundException::new);
+            Record record = recordRepository.save(request.toEntity(user));
+            return new ResponseDto<>(true, RecordResponse.from(record, poseDictionary));
+        });
+    }
+
+    /**
+     * 타임라인 묶음 저장, 이미 반영한 sequence면 저장하지 않고 applied=false
+     */
+    public ResponseDto<RecordChunkResponse> append(String userId, Long recordId, RecordChunkRequest request)
+            throws AccessDeniedException {
+        requireLogin(userId);
+        checkOwner(userId, recordId);
+
+        // 스냅샷 존재 확인(저장소 호출)은 트랜잭션 밖에서 끝낸다
+        List<TimeLine> timeLines = new ArrayList<>(request.timeLineList().size());
+        for (TimeLineRequest timeLine : request.timeLineList()) {
+            String image = null;
+            if (timeLine.imageKey() != null && !timeLine.imageKey().isBlank()) {
+                image = uploadService.resolve(PresignRequest.UploadType.snapshot, userId, timeLine.imageKey());
+            }
+            timeLines.add(TimeLine.builder()
+                    .youtube_start_sec(timeLine.youtube_start_sec())
+                    .youtube_end_sec(timeLine.youtube_end_sec())
+                    .pose_id(poseDictionary.idOf(timeLine.pose()))
+                    .score(timeLine.score())
+                    .image(image)
+                    .build());
+        }
+
+        int sequence = request.sequence();
+        // null: 진행 중이 아님, false: 이미 반영한 구간
+        Boolean applied;
+        try {
+            applied = transactionTemplate.execute(status -> {
+                if (recordRepository.touchInProgress(recordId, LocalDateTime.now()) == 0) {
+                    return null;
+                }
+                if (recordChunkRepository.existsByRecordIdAndSequence(recordId, sequence)) {
+                    return false;
+                }
+                recordChunkRepository.save(RecordChunk.builder()
+                        .record_id(recordId)
+                        .chunk_seq(sequence)
+                        .applied_at(LocalDateTime.now())
+                        .build());
+                Record record = recordRepository.getReferenceById(recordId);
+                timeLines.forEach(timeLine -> timeLine.setRecord(record));
+                timeLineRepository.saveAll(timeLines);
+                return true;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 구간이 동시에 들어와 uk_record_chunk_seq에 걸린 경우, 먼저 들어온 쪽이 반영했다
+            applied = false;
+        }
+
+        if (!Boolean.TRUE.equals(applied)) {
+            // 종료 후 도착한 재전송은 중복으로 응답하고, 반영한 적 없는 구간이면 거절한다
+            boolean duplicate = applied != null || recordChunkRepository.existsByRecordIdAndSequence(recordId, sequence);
+            if (!duplicate) {
+                throw new BadRequestException("이미 종료된 레코드입니다");
+            }
+            return new ResponseDto<>(true, new RecordChunkResponse(sequence, false, 0));
+        }
+        return new ResponseDto<>(true, new RecordChunkResponse(sequence, true, timeLines.size()));
+    }
+
+    /**
+     * 총점(타임라인 점수 평균)과 운동 시간(open부터 지금까지) 계산, 이미 종료된 레코드면 그대로 반환
+     */
+    public ResponseDto<RecordResponse> complete(String userId, Long recordId) throws AccessDeniedException {
+        requireLogin(userId);
+        checkOwner(userId, recordId);
+        return transactionTemplate.execute(status -> {
+            Record record = recordRepository.findByIdForUpdate(recordId)
+                    .orElseThrow(() -> new EntityNotFoundException("Record not found"));
+            if (Boolean.TRUE.equals(record.getIn_progress())) {
+                complete(record, LocalDateTime.now());
+            }
+            return new ResponseDto<>(true, RecordResponse.from(record, poseDictionary));
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${record.chunked.sweep-interval-ms:300000}")
+    public void completeIdle() {
+        jobScheduler.runExclusive("record-complete-idle", Duration.ofMillis(sweepIntervalMillis), chunk -> completeIdleRecords());
+    }
+
+    private void completeIdleRecords() {
+        LocalDateTime before = LocalDateTime.now().minus(Duration.ofMillis(idleTimeoutMillis));
+        List<Long> ids = recordRepository.findStaleInProgressIds(before, PageRequest.of(0, sweepBatchSize));
+        for (Long id : ids) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> recordRepository.findByIdForUpdate(id)
+                        .filter(record -> Boolean.TRUE.equals(record.getIn_progress()))
+                        .ifPresent(record -> complete(record, record.getUpdatedAt())));
+            } catch (RuntimeException e) {
+                log.error("미종료 레코드 자동 종료 실패 recordId={}: {}", id, e.getMessage());
+            }
+        }
+        if (!ids.isEmpty()) {
+            log.info("미종료 레코드 자동 종료: {}건", ids.size());
+        }
+    }
+
+    // 호출하는 쪽에서 레코드 행을 잠근 트랜잭션 안에서 실행
+    private void complete(Record record, LocalDateTime end) {
+        Double average = timeLineRepository.averageScoreByRecordId(record.getId());
+        Duration workingoutTime = Duration.between(record.getCreatedAt(), end);
+        record.setTotal_score(average == null ? 0 : Math.round(average));
+        record.setWorkingout_time(workingoutTime.isNegative() ? Duration.ZERO : workingoutTime.withNanos(0));
+        record.setIn_progress(false);
+    }
+
+    private void checkOwner(String userId, Long recordId) throws AccessDeniedException {
+        String ownerId = recordRepository.findOwnerIdById(recordId)
+                .orElseThrow(() -> new EntityNotFoundException("Record not found"));
+        if (!ownerId.equals(userId)) {
+            throw new AccessDeniedException("접근 권한이 없습니다.");
+        }
+    }
+
+    private static void requireLogin(String userId) {
+        if (userId == null) {
+            throw new LoginTokenException("유효한 토큰이 존재하지 않습니다");
+        }
+    }
+}
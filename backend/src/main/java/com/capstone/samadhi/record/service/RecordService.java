@@ -1,9 +1,15 @@
 package com.capstone.samadhi.record.service;
 
 import com.capstone.samadhi.common.ResponseDto;
+import com.capstone.samadhi.common.YoutubeVideoId;
 import com.capstone.samadhi.record.dto.RecordRequest;
+import com.capstone.samadhi.exception.BadRequestException;
+import com.capstone.samadhi.exception.LoginTokenException;
 import com.capstone.samadhi.record.dto.RecordResponse;
+import com.capstone.samadhi.record.dto.RecordSummaryResponse;
 import com.capstone.samadhi.record.dto.TimeLineRequest;
+import com.capstone.samadhi.record.dto.VideoAggregateResponse;
+import com.capstone.samadhi.record.dto.VideoHistoryResponse;
 import com.capstone.samadhi.record.entity.Record;
 import com.capstone.samadhi.record.entity.TimeLine;
 import com.capstone.samadhi.record.repository.RecordRepository;
@@ -14,11 +20,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,25 +39,27 @@ public class RecordService {
     private final TimeLineService timeLineService;
     private final RecordRepository recordRepository;
     private final UserRepository userRepository;
+    private final RecordBulkDeleteService recordBulkDeleteService;
+    private final PoseDictionary poseDictionary;
     @Transactional
     public ResponseDto<RecordResponse> save(String userId, RecordRequest request) throws IOException {
         User user = userRepository.findById(userId).orElseThrow(EntityNotFoundException::new);
         Record record = request.toEntity(user);
         recordRepository.save(record);
         for (TimeLineRequest timeLineRequest : request.timeLineList()) {
-            TimeLine timeLine = timeLineService.saveTimeLine(timeLineRequest);
+            TimeLine timeLine = timeLineService.saveTimeLine(userId, timeLineRequest);
             timeLine.addRecord(record);
         }
-        return new ResponseDto<>(true, RecordResponse.from(record));
+        return new ResponseDto<>(true, RecordResponse.from(record, poseDictionary));
     }
 
     public ResponseDto<RecordResponse> findById(String userId, Long id) throws AccessDeniedException {
         Record record = recordRepository.findById(id).orElseThrow(()-> new EntityNotFoundException("Record not found"));
-        if(!record.getUser().getId().equals(record)){
+        if(!record.getUser().getId().equals(userId)){
            throw new AccessDeniedException("접근 권한이 없습니다.");
         }
 
-        RecordResponse response = RecordResponse.from(record);
+        RecordResponse response = RecordResponse.from(record, poseDictionary);
         return new ResponseDto<>(true, response);
     }
     public ResponseDto<List<RecordResponse>> findByUser(String userId) {
@@ -56,9 +69,90 @@ public class RecordService {
         List<Record> recordPage = recordRepository.findByUser(user);
 
         List<RecordResponse> responseList = recordPage.stream()
-                .map(RecordResponse::from)
+                .map(record -> RecordResponse.from(record, poseDictionary))
                 .collect(Collectors.toList());
 
         return new ResponseDto<>(true, responseList);
     }
+
+    /**
+     * 목록 화면용 요약 조회
+     * @param fields 콤마로 구분된 응답 필드 (null이면 전체)
+     */
+    public ResponseDto<?> findSummariesByUser(String userId, String fields) {
+        List<RecordSummaryResponse> summaries = recordRepository.findSummariesByUserId(userId);
+        if (fields == null || fields.isBlank()) {
+            return new ResponseDto<>(true, summaries);
+        }
+
+        Set<String> selected = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        for (String field : selected) {
+            if (!RecordSummaryResponse.FIELDS.contains(field)) {
+                throw new BadRequestException("지원하지 않는 필드입니다: " + field);
+            }
+        }
+
+        List<Map<String, Object>> responseList = summaries.stream()
+                .map(summary -> summary.toMap(selected))
+                .collect(Collectors.toList());
+        return new ResponseDto<>(true, responseList);
+    }
+
+    /**
+     * 영상별 운동 횟수, 최고/평균 총점, 마지막 운동 시각
+     */
+    public ResponseDto<List<VideoAggregateResponse>> findVideoAggregates(String userId) {
+        return new ResponseDto<>(true, recordRepository.findVideoAggregatesByUserId(userId));
+    }
+
+    /**
+     * 한 영상에 대한 내 기록
+     * @param video 영상 id 또는 유튜브 URL
+     */
+    public ResponseDto<VideoHistoryResponse> findVideoHistory(String userId, String video) {
+        String videoId = YoutubeVideoId.parse(video);
+        if (videoId == null) {
+            throw new BadRequestException("유튜브 영상 id 또는 URL이 아닙니다: " + video);
+        }
+        VideoAggregateResponse aggregate = recordRepository.findVideoAggregate(userId, videoId)
+                .orElseGet(() -> new VideoAggregateResponse(videoId, 0, 0, 0, null));
+        List<RecordSummaryResponse> records = aggregate.session_count() == 0
+                ? List.of()
+                : recordRepository.findSummariesByUserIdAndVideoId(userId, videoId);
+        return new ResponseDto<>(true, new VideoHistoryResponse(aggregate, records));
+    }
+
+    /**
+     * 레코드 삭제, 타임라인과 스냅샷 이미지도 함께 정리된다
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseDto<String> delete(String userId, Long id) throws AccessDeniedException {
+        if (userId == null) {
+            throw new LoginTokenException("유효한 토큰이 존재하지 않습니다");
+        }
+        Record record = recordRepository.findById(id).orElseThrow(()-> new EntityNotFoundException("Record not found"));
+        if(!record.getUser().getId().equals(userId)){
+            throw new AccessDeniedException("접근 권한이 없습니다.");
+        }
+        recordBulkDeleteService.deleteRecords(userId, List.of(id));
+        return new ResponseDto<>();
+    }
+
+    /**
+     * 여러 레코드 일괄 삭제, 본인 소유가 아닌 id는 무시한다
+     * @return 삭제된 레코드 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseDto<Integer> deleteAll(String userId, List<Long> ids) {
+        if (userId == null) {
+            throw new LoginTokenException("유효한 토큰이 존재하지 않습니다");
+        }
+        if (ids == null || ids.isEmpty()) {
+            throw new BadRequestException("삭제할 레코드를 지정해주세요");
+        }
+        return new ResponseDto<>(true, recordBulkDeleteService.deleteRecords(userId, ids));
+    }
 }
@@ -0,0 +1,74 @@
+package com.capstone.samadhi.record.service;
+
+import com.capstone.samadhi.common.YoutubeVideoId;
+import com.capstone.samadhi.common.scheduling.LeasedJobScheduler;
+import com.capstone.samadhi.record.repository.RecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * youtube_video_id 컬럼이 생기기 전에 저장된 레코드의 영상 id를 기동 후 한 번 채운다
+ * 유튜브 URL이 아닌 레코드(샘플 영상 등)는 null로 남고 id 커서로 넘어가므로 한 번 실행 안에서는 다시 읽지 않는다
+ * 여러 인스턴스가 함께 떠도 한 곳에서만 실행하고, 끝까지 훑으면 job_lease에 기록해 이후 기동에서는 다시 훑지 않는다
+ * (새 레코드는 생성할 때 영상 id를 채운다)
+ */
+@Slf4j
+@Component
+public class RecordVideoIdBackfill {
+    private final RecordRepository recordRepository;
+    private final TransactionTemplate batchTransaction;
+    private final LeasedJobScheduler jobScheduler;
+
+    @Value("${record.video-id-backfill.batch-size:500}")
+    private int batchSize;
+
+    public RecordVideoIdBackfill(RecordRepository recordRepository, PlatformTransactionManager transactionManager,
+                                 LeasedJobScheduler jobScheduler) {
+        this.recordRepository = recordRepository;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.jobScheduler = jobScheduler;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        jobScheduler.runOnceUntilDone("record-video-id-backfill", this::fill);
+    }
+
+    /**
+     * @return 끝까지 훑었으면 true, 도중에 실패하면 예외로 빠져 다음 기동에 다시 한다
+     */
+    private boolean fill() {
+        long cursor = 0;
+        int updated = 0;
+        while (true) {
+            List<Object[]> rows = recordRepository.findWithoutVideoId(cursor, PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+            cursor = (Long) rows.get(rows.size() - 1)[0];
+            Integer count = batchTransaction.execute(status -> {
+                int changed = 0;
+                for (Object[] row : rows) {
+                    String videoId = YoutubeVideoId.parse((String) row[1]);
+                    if (videoId != null) {
+                        changed += recordRepository.updateVideoId((Long) row[0], videoId);
+                    }
+                }
+                return changed;
+            });
+            updated += count == null ? 0 : count;
+        }
+        if (updated > 0) {
+            log.info("레코드 영상 id 채움: {}건", updated);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,183 @@
+package com.capstone.samadhi.record.service;
+
+import com.capstone.samadhi.common.ResponseDto;
+import com.capstone.samadhi.exception.BadRequestException;
+import com.capstone.samadhi.exception.LoginTokenException;
+import com.capstone.samadhi.record.dto.ScoreSamplesRequest;
+import com.capstone.samadhi.record.dto.ScoreSeriesResponse;
+import com.capstone.samadhi.record.entity.ScoreSeries;
+import com.capstone.samadhi.record.repository.RecordRepository;
+import com.capstone.samadhi.record.repository.ScoreSeriesRepository;
+import com.capstone.samadhi.record.series.ScoreDownsampler;
+import com.capstone.samadhi.record.series.ScoreSeriesCodec;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.AccessDeniedException;
+import java.util.List;
+
+/**
+ * 레코드별 유사도 시계열 저장과 구간 조회
+ * 프레임 점수를 sample-period-ms 간격으로 평균 내 ScoreSeriesCodec 블록으로 이어 붙이고,
+ * 조회할 때는 요청한 점 개수 이하로 구간별 최소/최대/평균을 돌려준다
+ */
+@Slf4j
+@Service
+public class ScoreSeriesService {
+    // 한 번에 보낼 수 있는 최대 점 수
+    private static final int MAX_SAMPLES_PER_BATCH = 6000;
+
+    private final ScoreSeriesRepository scoreSeriesRepository;
+    private final RecordRepository recordRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${record.score-series.sample-period-ms:200}")
+    private int samplePeriodMillis;
+
+    @Value("${record.score-series.max-samples:72000}")
+    private int maxSamples;
+
+    @Value("${record.score-series.default-points:300}")
+    private int defaultPoints;
+
+    @Value("${record.score-series.max-points:1000}")
+    private int maxPoints;
+
+    public ScoreSeriesService(ScoreSeriesRepository scoreSeriesRepository, RecordRepository recordRepository,
+                              TransactionTemplate transactionTemplate) {
+        this.scoreSeriesRepository = scoreSeriesRepository;
+        this.recordRepository = recordRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 클라이언트가 보낸 점수 묶음 저장
+     * @return 새로 저장된 점 수 (재전송으로 이미 저장된 구간은 0)
+     */
+    public ResponseDto<Integer> append(String userId, Long recordId, ScoreSamplesRequest request)
+            throws AccessDeniedException {
+        requireLogin(userId);
+        if (request == null || !request.isWellFormed()) {
+            throw new BadRequestException("timestamps와 scores의 길이가 서로 다릅니다");
+        }
+        if (request.timestamps().length > MAX_SAMPLES_PER_BATCH) {
+            throw new BadRequestException("한 번에 보낼 수 있는 점수는 " + MAX_SAMPLES_PER_BATCH + "개까지입니다");
+        }
+        checkOwner(userId, recordId);
+        return new ResponseDto<>(true, append(recordId, request.timestamps(), request.scores()));
+    }
+
+    /**
+     * 소유권 확인이 끝난 레코드에 프레임 점수 추가
+     * 마지막 저장 시각 이하의 점은 버리므로 같은 묶음을 다시 보내도 중복 저장되지 않는다
+     */
+    public int append(Long recordId, long[] timestamps, float[] scores) {
+        try {
+            return appendOnce(recordId, timestamps, scores);
+        } catch (DataIntegrityViolationException e) {
+            // 첫 묶음이 동시에 들어와 행을 같이 만든 경우, 이제 행이 있으니 잠그고 다시 붙인다
+            return appendOnce(recordId, timestamps, scores);
+        }
+    }
+
+    private int appendOnce(Long recordId, long[] timestamps, float[] scores) {
+        return transactionTemplate.execute(status -> {
+            ScoreSeries series = scoreSeriesRepository.findByIdForUpdate(recordId)
+                    .orElseGet(() -> ScoreSeries.builder()
+                            .id(recordId)
+                            .period_ms(samplePeriodMillis)
+                            .last_ts(-1)
+                            .data(ScoreSeriesCodec.empty())
+                            .build());
+
+            int capacity = maxSamples - series.getSample_count();
+            long period = series.getPeriod_ms();
+            long[] bucketTimes = new long[Math.min(timestamps.length, Math.max(capacity, 0))];
+            int[] values = new int[bucketTimes.length];
+            int n = 0;
+            long bucket = Long.MIN_VALUE;
+            double sum = 0;
+            int count = 0;
+            for (int i = 0; i < timestamps.length && n < bucketTimes.length; i++) {
+                long current = Math.floorDiv(timestamps[i], period) * period;
+                // 재전송된 구간, 순서가 뒤바뀐 프레임, 판정 불가 프레임은 건너뛴다
+                if (current <= series.getLast_ts() || current < bucket || Float.isNaN(scores[i])) {
+                    continue;
+                }
+                if (current != bucket && count > 0) {
+                    bucketTimes[n] = bucket;
+                    values[n++] = ScoreSeriesCodec.quantize((float) (sum / count));
+                    sum = 0;
+                    count = 0;
+                }
+                bucket = current;
+                sum += scores[i];
+                count++;
+            }
+            if (count > 0 && n < bucketTimes.length) {
+                bucketTimes[n] = bucket;
+                values[n++] = ScoreSeriesCodec.quantize((float) (sum / count));
+            }
+            if (n == 0) {
+                return 0;
+            }
+
+            series.setData(ScoreSeriesCodec.append(series.getData(), ScoreSeriesCodec.encodeBlock(bucketTimes, values, n)));
+            series.setSample_count(series.getSample_count() + n);
+            series.setLast_ts(bucketTimes[n - 1]);
+            scoreSeriesRepository.save(series);
+            return n;
+        });
+    }
+
+    /**
+     * [from, to) 구간의 유사도 곡선을 points개 이하의 구간으로 줄여서 조회
+     * 저장된 점이 points개 이하면 원본 점을 그대로 돌려준다
+     */
+    public ResponseDto<ScoreSeriesResponse> find(String userId, Long recordId, Long from, Long to, Integer points)
+            throws AccessDeniedException {
+        requireLogin(userId);
+        checkOwner(userId, recordId);
+        int limit = points == null ? defaultPoints : points;
+        if (limit < 1 || limit > maxPoints) {
+            throw new BadRequestException("points는 1 이상 " + maxPoints + " 이하여야 합니다");
+        }
+
+        ScoreSeries series = scoreSeriesRepository.findById(recordId).orElse(null);
+        if (series == null || series.getSample_count() == 0) {
+            return new ResponseDto<>(true, new ScoreSeriesResponse(recordId, samplePeriodMillis, samplePeriodMillis,
+                    from == null ? 0 : from, to == null ? 0 : to, List.of()));
+        }
+        long period = series.getPeriod_ms();
+        long start = from == null ? 0 : from;
+        long end = to == null ? series.getLast_ts() + period : to;
+        if (start < 0 || end <= start) {
+            throw new BadRequestException("조회 구간이 올바르지 않습니다");
+        }
+
+        // 저장 주기보다 잘게 나누지 않는다
+        long width = Math.max(period, -Math.floorDiv(start - end, limit));
+        ScoreDownsampler downsampler = new ScoreDownsampler(start, width, (int) -Math.floorDiv(start - end, width));
+        ScoreSeriesCodec.decode(series.getData(), start, end, downsampler);
+        return new ResponseDto<>(true, new ScoreSeriesResponse(recordId, series.getPeriod_ms(), width, start, end,
+                downsampler.buckets()));
+    }
+
+    private void checkOwner(String userId, Long recordId) throws AccessDeniedException {
+        String ownerId = recordRepository.findOwnerIdById(recordId)
+                .orElseThrow(() -> new EntityNotFoundException("Record not found"));
+        if (!ownerId.equals(userId)) {
+            throw new AccessDeniedException("접근 권한이 없습니다.");
+        }
+    }
+
+    private static void requireLogin(String userId) {
+        if (userId == null) {
+            throw new LoginTokenException("유효한 토큰이 존재하지 않습니다");
+        }
+    }
+}
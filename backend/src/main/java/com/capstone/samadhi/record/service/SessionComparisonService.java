@@ -0,0 +1,143 @@
+package com.capstone.samadhi.record.service;
+
+import com.capstone.samadhi.common.ResponseDto;
+import com.capstone.samadhi.exception.BadRequestException;
+import com.capstone.samadhi.record.dto.SessionComparisonResponse;
+import com.capstone.samadhi.record.dto.TimeLineSlice;
+import com.capstone.samadhi.record.entity.Record;
+import com.capstone.samadhi.record.repository.RecordRepository;
+import com.capstone.samadhi.record.repository.TimeLineRepository;
+import com.capstone.samadhi.record.segment.SessionAligner;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.AccessDeniedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 같은 영상의 레코드끼리 타임라인을 영상 시각 기준으로 맞춰 점수 차이와 자세 불일치를 계산
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class SessionComparisonService {
+    private static final int MAX_SESSIONS = 10;
+
+    private final RecordRepository recordRepository;
+    private final TimeLineRepository timeLineRepository;
+    private final PoseDictionary poseDictionary;
+
+    /**
+     * @param ids 비교할 레코드, 첫 번째가 기준 세션
+     */
+    public ResponseDto<SessionComparisonResponse> compare(String userId, List<Long> ids) throws AccessDeniedException {
+        List<Long> recordIds = ids == null ? List.of() : List.copyOf(new LinkedHashSet<>(ids));
+        if (recordIds.size() < 2) {
+            throw new BadRequestException("비교할 레코드를 2개 이상 지정해주세요");
+        }
+        if (recordIds.size() > MAX_SESSIONS) {
+            throw new BadRequestException("한 번에 비교할 수 있는 레코드는 " + MAX_SESSIONS + "개까지입니다");
+        }
+
+        Map<Long, Record> byId = recordRepository.findAllById(recordIds).stream()
+                .collect(Collectors.toMap(Record::getId, Function.identity()));
+        List<Record> records = new ArrayList<>(recordIds.size());
+        for (Long id : recordIds) {
+            Record record = byId.get(id);
+            if (record == null) {
+                throw new EntityNotFoundException("Record not found");
+            }
+            if (!record.getUser().getId().equals(userId)) {
+                throw new AccessDeniedException("접근 권한이 없습니다.");
+            }
+            if (Boolean.TRUE.equals(record.getIn_progress())) {
+                throw new BadRequestException("아직 진행 중인 레코드는 비교할 수 없습니다");
+            }
+            records.add(record);
+        }
+        String videoId = records.get(0).getYoutube_video_id();
+        for (Record record : records) {
+            if (videoId == null || !videoId.equals(record.getYoutube_video_id())) {
+                throw new BadRequestException("같은 유튜브 영상의 레코드만 비교할 수 있습니다");
+            }
+        }
+
+        // 한 번의 조회로 시작 초 순서로 받아 세션별로 나눈다 (순서 유지)
+        Map<Long, Integer> sessionOf = new HashMap<>();
+        List<List<SessionAligner.Interval>> sessions = new ArrayList<>();
+        for (Long id : recordIds) {
+            sessionOf.put(id, sessions.size());
+            sessions.add(new ArrayList<>());
+        }
+        for (TimeLineSlice slice : timeLineRepository.findSlicesByRecordIds(recordIds)) {
+            sessions.get(sessionOf.get(slice.recordId())).add(new SessionAligner.Interval(
+                    slice.youtube_start_sec(), slice.youtube_end_sec(), poseDictionary.nameOf(slice.poseId()), slice.score()));
+        }
+
+        List<SessionAligner.Slice> slices = SessionAligner.align(sessions);
+        return new ResponseDto<>(true, new SessionComparisonResponse(videoId, summarize(records, slices), toSegments(slices)));
+    }
+
+    private static List<SessionComparisonResponse.Session> summarize(List<Record> records, List<SessionAligner.Slice> slices) {
+        int k = records.size();
+        int[] comparedSeconds = new int[k];
+        double[] deltaSum = new double[k];
+        int[] mismatchSeconds = new int[k];
+        for (SessionAligner.Slice slice : slices) {
+            if (!slice.covered(0)) continue;
+            for (int i = 0; i < k; i++) {
+                if (!slice.covered(i)) continue;
+                comparedSeconds[i] += slice.seconds();
+                deltaSum[i] += (double) (slice.scores()[i] - slice.scores()[0]) * slice.seconds();
+                if (!slice.poses()[i].equals(slice.poses()[0])) {
+                    mismatchSeconds[i] += slice.seconds();
+                }
+            }
+        }
+
+        List<SessionComparisonResponse.Session> sessions = new ArrayList<>(k);
+        for (int i = 0; i < k; i++) {
+            Record record = records.get(i);
+            sessions.add(new SessionComparisonResponse.Session(
+                    record.getId(),
+                    record.getCreatedAt() == null ? null : record.getCreatedAt().toString(),
+                    record.getTotal_score(),
+                    comparedSeconds[i],
+                    comparedSeconds[i] == 0 ? 0 : (float) (deltaSum[i] / comparedSeconds[i]),
+                    mismatchSeconds[i]
+            ));
+        }
+        return sessions;
+    }
+
+    private static List<SessionComparisonResponse.Segment> toSegments(List<SessionAligner.Slice> slices) {
+        List<SessionComparisonResponse.Segment> segments = new ArrayList<>(slices.size());
+        for (SessionAligner.Slice slice : slices) {
+            int k = slice.poses().length;
+            Float[] scores = new Float[k];
+            Float[] deltas = new Float[k];
+            for (int i = 0; i < k; i++) {
+                if (!slice.covered(i)) continue;
+                scores[i] = slice.scores()[i];
+                if (slice.covered(0)) {
+                    deltas[i] = slice.scores()[i] - slice.scores()[0];
+                }
+            }
+            segments.add(new SessionComparisonResponse.Segment(
+                    slice.start(), slice.end(),
+                    Arrays.asList(slice.poses()), Arrays.asList(scores), Arrays.asList(deltas),
+                    slice.poseMismatch()
+            ));
+        }
+        return segments;
+    }
+}
@@ -1,6 +1,8 @@
 package com.capstone.samadhi.record.service;
 
-import com.capstone.samadhi.common.service.S3Service;
+import com.capstone.samadhi.common.dto.PresignRequest;
+import com.capstone.samadhi.common.service.UploadService;
+import com.capstone.samadhi.common.storage.BlobStore;
 import com.capstone.samadhi.record.dto.TimeLineRequest;
 import com.capstone.samadhi.record.entity.TimeLine;
 import com.capstone.samadhi.record.repository.TimeLineRepository;
@@ -13,20 +15,24 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class TimeLineService {
 
-    private final S3Service s3Service;
+    private final BlobStore blobStore;
+    private final UploadService uploadService;
     private final TimeLineRepository timeLineRepository;
+    private final PoseDictionary poseDictionary;
 
-    public TimeLine saveTimeLine(TimeLineRequest request) throws IOException {
+    public TimeLine saveTimeLine(String userId, TimeLineRequest request) throws IOException {
         String imageUrl = null;
 
-        if (request.image() != null && !request.image().isEmpty()) {
-            imageUrl = s3Service.uploadFile(request.image());
+        if (request.imageKey() != null && !request.imageKey().isBlank()) {
+            imageUrl = uploadService.resolve(PresignRequest.UploadType.snapshot, userId, request.imageKey());
+        } else if (request.image() != null && !request.image().isEmpty()) {
+            imageUrl = blobStore.uploadFile(request.image());
         }
 
         TimeLine timeLine = TimeLine.builder()
                 .youtube_start_sec(request.youtube_start_sec())
                 .youtube_end_sec(request.youtube_end_sec())
-                .pose(request.pose())
+                .pose_id(poseDictionary.idOf(request.pose()))
                 .score(request.score())
                 .image(imageUrl)
                 .build();
@@ -1,6 +1,7 @@
 package com.capstone.samadhi.security.controller;
 
 import com.capstone.samadhi.common.ResponseDto;
+import com.capstone.samadhi.exception.TooManyRequestsException;
 import com.capstone.samadhi.security.dto.LoginDto;
 import com.capstone.samadhi.security.dto.SignUpDto;
 import com.capstone.samadhi.security.dto.UpdateDto;
@@ -54,6 +55,8 @@ public class AuthController {
             jwtUtils.saveTokenInCookie(token, response);
 
             return new ResponseEntity<>(new ResponseDto<String>(true, dto.getId()), HttpStatus.OK);
+        } catch (TooManyRequestsException e) {
+            throw e;
         } catch (Exception e) {
             log.error(e.getLocalizedMessage());
             return new ResponseEntity<>(new ResponseDto<String>(false, "로그인 정보가 일치하지 않습니다"), HttpStatus.UNAUTHORIZED);
@@ -75,6 +78,14 @@ public class AuthController {
         return authService.updateInfo(dto);
     }
 
+    @DeleteMapping(value = "/user")
+    @Operation(summary = "회원 탈퇴 api", description = "모든 레코드와 이미지를 함께 삭제합니다")
+    public ResponseEntity<?> deleteAccount(HttpServletResponse response) {
+        ResponseEntity<?> result = authService.deleteAccount();
+        jwtUtils.expireTokenCookie(response);
+        return result;
+    }
+
     @GetMapping(value = "/user")
     @Operation(summary = "유저 정보 반환 api")
     public ResponseEntity<?> getUserInfo(@RequestParam(value = "userId") String userId) {
@@ -28,6 +28,10 @@ public class UpdateDto {
     private String height;
     @Schema(description = "프로필 사진 데이터", type = "string", format = "binary")
     private MultipartFile profile;
+    @Schema(description = "pre-signed URL로 업로드한 프로필 사진 key (profile보다 우선)")
+    private String profileKey;
+    @Schema(description = "프로필 사진 key를 발급받을 때 함께 받은 uploadToken (profileKey와 함께 필수)")
+    private String profileToken;
 
     public enum Gender {
         f, m
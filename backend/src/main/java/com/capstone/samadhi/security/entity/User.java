@@ -1,21 +1,29 @@
 package com.capstone.samadhi.security.entity;
 
+import com.capstone.samadhi.common.storage.OrphanBlobListener;
 import com.capstone.samadhi.record.entity.Record;
 import com.capstone.samadhi.record.entity.TimeLine;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@EntityListeners(OrphanBlobListener.class)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -2,6 +2,8 @@ package com.capstone.samadhi.security.jwt;
 
 import com.capstone.samadhi.security.entity.User;
 import com.capstone.samadhi.security.repo.UserRepository;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,41 +31,50 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtils jwtUtils;
     private final UserRepository userRepository;
+    private final ObservationRegistry observationRegistry;
 
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         try {
-            String token = jwtUtils.parseBearerToken(request);
-            if(token == null) {
-                filterChain.doFilter(request, response);
-                return;
+            AbstractAuthenticationToken authenticationToken = Observation.createNotStarted("app.jwt", observationRegistry)
+                    .contextualName("jwt-authentication")
+                    .observe(() -> authenticate(request));
+            if(authenticationToken != null) {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authenticationToken);
+                SecurityContextHolder.setContext(context);
             }
-            String userId = jwtUtils.validate(token);
-            if(userId == null) {
-                filterChain.doFilter(request, response);
-                return;
-            }
-            User user = userRepository.findById(userId).orElse(null);
-            if(user == null) {
-                filterChain.doFilter(request, response);
-                return;
-            }
-
-            List<GrantedAuthority> authorities = new ArrayList<>();
-            authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
-
-            AbstractAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(userId, null, authorities);
-
-            authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-            SecurityContext context = SecurityContextHolder.createEmptyContext();
-            context.setAuthentication(authenticationToken);
-            SecurityContextHolder.setContext(context);
         } catch (Exception e) {
             log.error("JWT 필터 오류: {}", e.getMessage());
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * 쿠키의 토큰 검증과 회원 조회, 인증하지 못하면 null
+     */
+    private AbstractAuthenticationToken authenticate(HttpServletRequest request) {
+        String token = jwtUtils.parseBearerToken(request);
+        if(token == null) {
+            return null;
+        }
+        String userId = jwtUtils.validate(token);
+        if(userId == null) {
+            return null;
+        }
+        User user = userRepository.findById(userId).orElse(null);
+        if(user == null) {
+            return null;
+        }
+
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
+
+        AbstractAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(userId, null, authorities);
+
+        authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        return authenticationToken;
+    }
 }
@@ -57,7 +57,7 @@ public class JwtUtils {
         Date currentDate = new Date();
         Date expireDate = Date.from(Instant.now().plus(1, ChronoUnit.HOURS));
 
-        log.info("expireDate: {}", expireDate);
+        log.debug("expireDate: {}", expireDate);
 
         return Jwts.builder()
                 .setSubject(username)
@@ -86,13 +86,22 @@ public class JwtUtils {
      * 쿠키에 토큰 값 저장
      */
     public void saveTokenInCookie(String token, HttpServletResponse response) {
+        writeTokenCookie(token, 3600, response);
+    }
+
+    /**
+     * 토큰 쿠키 삭제 (회원 탈퇴 시)
+     */
+    public void expireTokenCookie(HttpServletResponse response) {
+        writeTokenCookie("", 0, response);
+    }
 
+    private void writeTokenCookie(String token, long maxAge, HttpServletResponse response) {
         ResponseCookie.ResponseCookieBuilder cookieBuilder = ResponseCookie.from("User-Token", token)
-                .maxAge(3600)
+                .maxAge(maxAge)
                 .path("/")
                 .httpOnly(true);
 
-        log.info("✅ activeProfile 확인: {}", activeProfile);
         if("prod".equals(activeProfile)) {
             cookieBuilder.sameSite("None").secure(true);
         } else {
@@ -2,8 +2,25 @@ package com.capstone.samadhi.security.repo;
 
 import com.capstone.samadhi.security.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
+
+    /**
+     * cascade로 레코드를 하나씩 로딩하지 않도록 JPQL로 직접 삭제 (레코드는 먼저 지워야 한다)
+     */
+    @Modifying
+    @Query("delete from User u where u.id = :id")
+    int deleteUserById(@Param("id") String id);
+
+    /**
+     * 프로필 key에는 회원 구분이 없으므로(가입 전 업로드) 다른 회원이 같은 이미지를 쓰는지 확인할 때 사용
+     */
+    boolean existsByProfile(String profile);
+
+    boolean existsByProfileAndIdNot(String profile, String id);
 }
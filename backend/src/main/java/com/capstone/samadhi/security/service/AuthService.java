@@ -3,9 +3,15 @@ package com.capstone.samadhi.security.service;
 
 import com.capstone.samadhi.common.ResponseDto;
 import com.capstone.samadhi.common.SecurityUtil;
-import com.capstone.samadhi.common.service.S3Service;
+import com.capstone.samadhi.common.cache.EntityCacheEvictor;
+import com.capstone.samadhi.common.service.UploadService;
+import com.capstone.samadhi.common.storage.BlobStore;
+import com.capstone.samadhi.common.storage.OrphanBlobRecorder;
+import com.capstone.samadhi.exception.BadRequestException;
 import com.capstone.samadhi.exception.InternalServerException;
+import com.capstone.samadhi.exception.StorageUnavailableException;
 import com.capstone.samadhi.exception.LoginTokenException;
+import com.capstone.samadhi.record.service.RecordBulkDeleteService;
 import com.capstone.samadhi.security.dto.SignUpDto;
 import com.capstone.samadhi.security.dto.UpdateDto;
 import com.capstone.samadhi.security.dto.UserInfoDto;
@@ -18,6 +24,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 
@@ -25,19 +32,33 @@ import java.util.ArrayList;
 @RequiredArgsConstructor
 @Slf4j
 public class AuthService {
+    private static final String DEFAULT_PROFILE_KEY = "default-profile.png";
+
     private final UserRepository userRepository;
-    private final S3Service s3Service;
+    private final BlobStore blobStore;
+    private final UploadService uploadService;
     private final PasswordEncoder passwordEncoder;
+    private final OrphanBlobRecorder orphanBlobRecorder;
+    private final RecordBulkDeleteService recordBulkDeleteService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityCacheEvictor entityCacheEvictor;
 
     public ResponseEntity<?> register(SignUpDto dto) {
         if(userRepository.existsById(dto.getId())) {
             return new ResponseEntity<>(new ResponseDto<String>(false, "이미 존재하는 아이디입니다"), HttpStatus.BAD_REQUEST);
         }
-        String url = "https://samadhi-bucket.s3.ap-northeast-2.amazonaws.com/default-profile.png";
+        String url = blobStore.getPublicUrl(DEFAULT_PROFILE_KEY);
         //프로필 등록
-        if(dto.getProfile() != null && !dto.getProfile().isEmpty()) {
+        if(dto.getProfileKey() != null && !dto.getProfileKey().isBlank()) {
+            url = uploadService.resolveProfile(dto.getProfileKey(), dto.getProfileToken());
+            if(userRepository.existsByProfile(url)) {
+                throw new BadRequestException("이미 사용 중인 프로필 이미지입니다");
+            }
+        } else if(dto.getProfile() != null && !dto.getProfile().isEmpty()) {
             try {
-                url = s3Service.uploadFile(dto.getProfile());
+                url = blobStore.uploadFile(dto.getProfile());
+            } catch (StorageUnavailableException e) {
+                throw e;
             } catch (Exception e) {
                 return new ResponseEntity<>(new ResponseDto<String>(false, "파일 업로드 중 에러"), HttpStatus.INTERNAL_SERVER_ERROR);
             }
@@ -99,16 +120,60 @@ public class AuthService {
             log.error("타입 에러: {}", e.getMessage());
             throw new NumberFormatException("타입이 맞지 않습니다");
         }
-        if(dto.getProfile() != null && !dto.getProfile().isEmpty()) {
+        if(dto.getProfileKey() != null && !dto.getProfileKey().isBlank()) {
+            String url = uploadService.resolveProfile(dto.getProfileKey(), dto.getProfileToken());
+            if(!url.equals(user.getProfile()) && userRepository.existsByProfileAndIdNot(url, userId)) {
+                throw new BadRequestException("이미 사용 중인 프로필 이미지입니다");
+            }
+            replaceProfile(user, url);
+        } else if(dto.getProfile() != null && !dto.getProfile().isEmpty()) {
             try {
-                String url = s3Service.uploadFile(dto.getProfile());
-                user.setProfile(url);
+                String url = blobStore.uploadFile(dto.getProfile());
+                replaceProfile(user, url);
+            } catch (StorageUnavailableException e) {
+                throw e;
             } catch (Exception e) {
                 log.error("파일 업로드 중 에러: {}", e.getMessage());
                 throw new InternalServerException("프로필 사진 업로드 중 에러가 발생했습니다");
             }
         }
+        entityCacheEvictor.evictUser(userId);
+
+        return new ResponseEntity<>(new ResponseDto<>(), HttpStatus.OK);
+    }
+
+    /**
+     * 프로필 교체, 이전 이미지는 같은 트랜잭션에서 삭제 대상으로 기록
+     */
+    private void replaceProfile(User user, String url) {
+        String previous = user.getProfile();
+        user.setProfile(url);
+        if (previous != null && !previous.equals(url)) {
+            orphanBlobRecorder.record(previous);
+        }
+    }
+
+    /**
+     * 회원 탈퇴
+     * 레코드는 RecordBulkDeleteService가 chunk 단위로 먼저 지우고, 마지막 트랜잭션에서 프로필 이미지 기록과 회원 삭제를 한다
+     */
+    public ResponseEntity<?> deleteAccount() {
+        String userId = SecurityUtil.getCurrentUser();
+        if(userId == null) {
+            throw new LoginTokenException("유효한 토큰이 존재하지 않습니다");
+        }
+        User user = userRepository.findById(userId).orElse(null);
+        if(user == null) {
+            throw new LoginTokenException("존재하지 않는 사용자입니다");
+        }
 
+        int records = recordBulkDeleteService.deleteAllRecords(userId);
+        transactionTemplate.executeWithoutResult(status -> {
+            orphanBlobRecorder.record(user.getProfile());
+            userRepository.deleteUserById(userId);
+            entityCacheEvictor.evictUser(userId);
+        });
+        log.info("회원 탈퇴: userId={}, 레코드 {}건", userId, records);
         return new ResponseEntity<>(new ResponseDto<>(), HttpStatus.OK);
     }
 
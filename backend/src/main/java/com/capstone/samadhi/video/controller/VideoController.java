@@ -3,15 +3,19 @@ package com.capstone.samadhi.video.controller;
 import com.capstone.samadhi.common.ResponseDto;
 import com.capstone.samadhi.common.SecurityUtil;
 import com.capstone.samadhi.record.dto.RecordResponse;
+import com.capstone.samadhi.video.dto.ReferenceTrackResponse;
 import com.capstone.samadhi.video.dto.VideoResponse;
 import com.capstone.samadhi.video.service.VideoService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -30,4 +34,18 @@ public class VideoController {
     public ResponseEntity<ResponseDto<List<VideoResponse>>> getAllVideos() {
         return ResponseEntity.ok(videoService.getAllVideo());
     }
+
+    @GetMapping("/{video_id}/reference-track")
+    @Operation(summary = "강사 동작 트랙 조회", description = "샘플 영상의 [from, to) ms 구간 강사 동작을 일정 간격 프레임으로 조회합니다. 운동 중 사용자 프레임을 같은 영상 시각의 강사 프레임과 비교할 때 사용합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "트랙이 없는 영상이거나 조회 구간 오류")
+    })
+    public ResponseEntity<ResponseDto<ReferenceTrackResponse>> getReferenceTrack(
+            @PathVariable("video_id") Long id,
+            @Parameter(description = "구간 시작(ms), 기본 0") @RequestParam(value = "from", required = false) Long from,
+            @Parameter(description = "구간 끝(ms, 미포함), 기본 1분 뒤") @RequestParam(value = "to", required = false) Long to
+    ) {
+        return ResponseEntity.ok(videoService.getReferenceTrack(id, from, to));
+    }
 }
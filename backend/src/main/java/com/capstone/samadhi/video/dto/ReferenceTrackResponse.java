@@ -0,0 +1,21 @@
+package com.capstone.samadhi.video.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 샘플 영상 강사 동작 트랙의 일부 구간
+ */
+public record ReferenceTrackResponse(
+        Long video_id,
+        @Schema(description = "프레임 간격(ms), 영상 시각 t의 프레임은 (t - from) / period_ms 번째")
+        int period_ms,
+        @Schema(description = "트랙 전체 프레임 수")
+        int frame_count,
+        @Schema(description = "첫 프레임의 영상 시각(ms)")
+        long from,
+        @Schema(description = "프레임별 정규화 좌표 (랜드마크 33개 x [x, y, z]), 사람이 없는 프레임은 null")
+        List<float[]> frames
+) {
+}
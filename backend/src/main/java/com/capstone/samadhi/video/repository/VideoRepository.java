@@ -1,10 +1,31 @@
 package com.capstone.samadhi.video.repository;
 
 import com.capstone.samadhi.video.entity.Video;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
-import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface VideoRepository extends JpaRepository<Video, Long> {
+    String CATALOG_QUERY_REGION = "video-query";
+
+    /**
+     * 전체 목록은 쿼리 캐시에 두고, 영상이 바뀌면 EntityCacheEvictor.evictVideoCatalog로 비운다
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CATALOG_QUERY_REGION)
+    })
+    List<Video> findAll();
+
+    /**
+     * 샘플 영상으로 운동한 기록은 youtube_url에 영상 path를 그대로 저장한다
+     */
+    Optional<Video> findFirstByPath(String path);
 }
@@ -1,8 +1,12 @@
 package com.capstone.samadhi.video.service;
 
 import com.capstone.samadhi.common.ResponseDto;
+import com.capstone.samadhi.exception.BadRequestException;
+import com.capstone.samadhi.landmark.reference.ReferenceTrack;
+import com.capstone.samadhi.landmark.reference.ReferenceTrackStore;
 import com.capstone.samadhi.record.dto.RecordResponse;
 import com.capstone.samadhi.record.entity.Record;
+import com.capstone.samadhi.video.dto.ReferenceTrackResponse;
 import com.capstone.samadhi.video.dto.VideoResponse;
 import com.capstone.samadhi.video.entity.Video;
 import com.capstone.samadhi.video.repository.VideoRepository;
@@ -10,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,7 +22,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class VideoService {
+    // 한 번에 조회할 수 있는 최대 트랙 프레임 수 (100ms 간격 기준 1분)
+    private static final int MAX_TRACK_FRAMES = 600;
+
     private final VideoRepository videoRepository;
+    private final ReferenceTrackStore referenceTrackStore;
 
     public ResponseDto<List<VideoResponse>> getAllVideo() {
         List<Video> videos = videoRepository.findAll();
@@ -27,4 +36,41 @@ public class VideoService {
                 .collect(Collectors.toList());
         return new ResponseDto<>(true, videoResponseList);
     }
+
+    /**
+     * [from, to) ms 구간의 강사 동작 프레임
+     */
+    public ResponseDto<ReferenceTrackResponse> getReferenceTrack(Long videoId, Long from, Long to) {
+        // 트랙 저장소는 요청된 id마다 항목을 남기므로 카탈로그에 있는 영상만 넘긴다
+        if (videoId == null || videoRepository.findById(videoId).isEmpty()) {
+            throw new BadRequestException("존재하지 않는 영상입니다");
+        }
+        ReferenceTrack track = referenceTrackStore.find(videoId);
+        if (track == null) {
+            throw new BadRequestException("강사 동작 트랙이 없는 영상입니다");
+        }
+        int period = track.periodMillis();
+        long start = from == null ? 0 : from;
+        long end = Math.min(to == null ? start + (long) MAX_TRACK_FRAMES * period : to, track.durationMillis());
+        if (start < 0 || end < start) {
+            throw new BadRequestException("조회 구간이 올바르지 않습니다");
+        }
+        int first = (int) ((start + period - 1) / period);
+        int last = (int) Math.min((end + period - 1) / period, track.frameCount());
+        if (last - first > MAX_TRACK_FRAMES) {
+            throw new BadRequestException("한 번에 조회할 수 있는 프레임은 " + MAX_TRACK_FRAMES + "개까지입니다");
+        }
+
+        List<float[]> frames = new ArrayList<>(Math.max(last - first, 0));
+        for (int frame = first; frame < last; frame++) {
+            float[] vector = null;
+            if (track.isPresent(frame)) {
+                vector = new float[track.vectorLength()];
+                track.copyFrame(frame, vector);
+            }
+            frames.add(vector);
+        }
+        return new ResponseDto<>(true, new ReferenceTrackResponse(videoId, period, track.frameCount(),
+                (long) first * period, frames));
+    }
 }
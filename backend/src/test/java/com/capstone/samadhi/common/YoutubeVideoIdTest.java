@@ -0,0 +1,43 @@
+package com.capstone.samadhi.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 같은 영상의 여러 URL 형식이 하나의 id가 되는지 확인
+ */
+class YoutubeVideoIdTest {
+    private static final String ID = "dQw4w9WgXcQ";
+
+    @Test
+    void sameVideoInDifferentUrlForms() {
+        for (String url : new String[]{
+                ID,
+                "https://www.youtube.com/watch?v=" + ID,
+                "https://youtube.com/watch?feature=share&v=" + ID + "&t=42s",
+                "http://m.youtube.com/watch?v=" + ID + "#t=1m",
+                "www.youtube.com/watch?v=" + ID,
+                "https://youtu.be/" + ID,
+                "https://youtu.be/" + ID + "?t=42",
+                "https://www.youtube.com/embed/" + ID + "?start=10",
+                "https://www.youtube-nocookie.com/embed/" + ID,
+                "https://www.youtube.com/shorts/" + ID,
+                "https://www.youtube.com/live/" + ID + "?si=abc",
+                "  https://www.youtube.com/watch?v=" + ID + "  "
+        }) {
+            assertEquals(ID, YoutubeVideoId.parse(url), url);
+        }
+    }
+
+    @Test
+    void notYoutube() {
+        assertNull(YoutubeVideoId.parse(null));
+        assertNull(YoutubeVideoId.parse(" "));
+        assertNull(YoutubeVideoId.parse("https://example.com/watch?v=" + ID));
+        assertNull(YoutubeVideoId.parse("https://www.youtube.com/watch?v=short"));
+        assertNull(YoutubeVideoId.parse("https://www.youtube.com/channel/UCabcdefghijk"));
+        assertNull(YoutubeVideoId.parse("not a url"));
+    }
+}
@@ -0,0 +1,44 @@
+package com.capstone.samadhi.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 가장 긴 접두사의 비율이 적용되고 WARN 이상은 항상 남는지 확인
+ */
+class LogSamplingTurboFilterTest {
+    private final LoggerContext context = new LoggerContext();
+    private final LogSamplingTurboFilter filter = new LogSamplingTurboFilter();
+
+    @BeforeEach
+    void setUp() {
+        filter.addSample("com.example=1");
+        filter.addSample("com.example.hot=0");
+    }
+
+    @Test
+    void longestPrefixWins() {
+        assertEquals(FilterReply.NEUTRAL, decide("com.example.cold.Service", Level.INFO));
+        assertEquals(FilterReply.DENY, decide("com.example.hot.Stage", Level.INFO));
+        assertEquals(FilterReply.DENY, decide("com.example.hot.Stage", Level.DEBUG));
+        assertEquals(FilterReply.NEUTRAL, decide("org.other.Component", Level.INFO));
+    }
+
+    @Test
+    void warningsAndEnabledChecksAreNeverSampled() {
+        assertEquals(FilterReply.NEUTRAL, decide("com.example.hot.Stage", Level.WARN));
+        assertEquals(FilterReply.NEUTRAL, decide("com.example.hot.Stage", Level.ERROR));
+        Logger logger = context.getLogger("com.example.hot.Stage");
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.INFO, null, null, null));
+    }
+
+    private FilterReply decide(String loggerName, Level level) {
+        return filter.decide(null, context.getLogger(loggerName), level, "message {}", new Object[]{1}, null);
+    }
+}
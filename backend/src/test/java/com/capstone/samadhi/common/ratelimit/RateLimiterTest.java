@@ -0,0 +1,84 @@
+package com.capstone.samadhi.common.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 키마다 버킷이 따로 있어 동시에 몰려도 서로의 허용량을 쓰지 않는지 확인
+ */
+class RateLimiterTest {
+    private final RateLimitProperties properties = new RateLimitProperties();
+    private final RateLimiter limiter = new RateLimiter(properties, new SimpleMeterRegistry());
+
+    @Test
+    void keysDoNotShareBudgetUnderConcurrency() throws Exception {
+        // 테스트 중에는 충전되지 않도록 1분에 1개, burst 20
+        RateLimitProperties.Limit limit = limit(1, 20);
+        List<String> keys = new ArrayList<>();
+        for (int k = 0; k < 40; k++) {
+            keys.add("user-" + k);
+        }
+        AtomicIntegerArray allowed = new AtomicIntegerArray(keys.size());
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int t = 0; t < 8; t++) {
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int round = 0; round < 50; round++) {
+                        for (int k = 0; k < keys.size(); k++) {
+                            if (limiter.tryAcquire(keys.get(k), limit) == 0) {
+                                allowed.incrementAndGet(k);
+                            }
+                        }
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        for (int k = 0; k < keys.size(); k++) {
+            assertEquals(20, allowed.get(k), keys.get(k));
+        }
+        assertEquals(keys.size(), limiter.size());
+    }
+
+    @Test
+    void evictsOnlyIdleBuckets() throws Exception {
+        properties.setIdleTimeout(Duration.ofMillis(50));
+        // 1분에 60만 개면 토큰 간격이 0.1ms라 곧 유휴 상태가 된다
+        limiter.tryAcquire("idle", limit(600_000, 1));
+        Thread.sleep(100);
+        // 1분에 1개면 남은 대기 시간 동안은 유휴가 아니다
+        limiter.tryAcquire("busy", limit(1, 1));
+
+        limiter.evictIdle();
+        assertEquals(1, limiter.size());
+        assertTrue(limiter.tryAcquire("busy", limit(1, 1)) > 0);
+    }
+
+    private static RateLimitProperties.Limit limit(int permitsPerMinute, int burst) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setPermitsPerMinute(permitsPerMinute);
+        limit.setBurst(burst);
+        return limit;
+    }
+}
@@ -0,0 +1,79 @@
+package com.capstone.samadhi.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 시각을 직접 넘겨 burst 허용량, 토큰 충전, 동시 획득 확인
+ */
+class TokenBucketTest {
+    private static final long INTERVAL = 1_000;
+    private static final int BURST = 5;
+
+    @Test
+    void allowsBurstThenReportsWaitForNextToken() {
+        TokenBucket bucket = new TokenBucket(0);
+        for (int i = 0; i < BURST; i++) {
+            assertEquals(0, bucket.tryAcquire(0, INTERVAL, INTERVAL * BURST));
+        }
+        assertEquals(INTERVAL, bucket.tryAcquire(0, INTERVAL, INTERVAL * BURST));
+        // 거절은 상태를 바꾸지 않는다
+        assertEquals(INTERVAL / 2, bucket.tryAcquire(INTERVAL / 2, INTERVAL, INTERVAL * BURST));
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(0);
+        for (int i = 0; i < BURST; i++) {
+            bucket.tryAcquire(0, INTERVAL, INTERVAL * BURST);
+        }
+        assertEquals(0, bucket.tryAcquire(INTERVAL, INTERVAL, INTERVAL * BURST));
+        assertTrue(bucket.tryAcquire(INTERVAL, INTERVAL, INTERVAL * BURST) > 0);
+
+        // 오래 쉬어도 burst보다 많이 쌓이지 않는다
+        long later = 100 * INTERVAL;
+        int allowed = 0;
+        while (bucket.tryAcquire(later, INTERVAL, INTERVAL * BURST) == 0) {
+            allowed++;
+        }
+        assertEquals(BURST, allowed);
+    }
+
+    @Test
+    void concurrentAcquiresNeverExceedBurst() throws Exception {
+        int burst = 100;
+        TokenBucket bucket = new TokenBucket(0);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int t = 0; t < 8; t++) {
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < 1_000; i++) {
+                        if (bucket.tryAcquire(0, INTERVAL, INTERVAL * burst) == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        assertEquals(burst, allowed.get());
+    }
+}
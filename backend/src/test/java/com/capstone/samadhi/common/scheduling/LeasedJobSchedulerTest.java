@@ -0,0 +1,109 @@
+package com.capstone.samadhi.common.scheduling;
+
+import com.capstone.samadhi.common.entity.JobLease;
+import com.capstone.samadhi.common.repository.JobLeaseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 가져간 구간만 실행하고, 실패해도 임대를 돌려주는지 확인
+ */
+class LeasedJobSchedulerTest {
+    private final JobLeaseRepository leaseRepository = mock(JobLeaseRepository.class);
+    private final List<JobLease> claimable = new ArrayList<>();
+    private LeasedJobScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        when(leaseRepository.findChunks("job")).thenReturn(List.of(0, 1, 2));
+        when(leaseRepository.findClaimable(eq("job"), anyInt(), any(), any()))
+                .thenAnswer(invocation -> claimable.isEmpty() ? List.of() : List.of(claimable.remove(0)));
+        scheduler = new LeasedJobScheduler(leaseRepository, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), "node-a");
+        ReflectionTestUtils.setField(scheduler, "enabled", true);
+        ReflectionTestUtils.setField(scheduler, "ttlMillis", 60_000L);
+    }
+
+    @Test
+    void runsOnlyClaimedChunks() {
+        claimable.add(lease(2));
+        List<Integer> ran = new ArrayList<>();
+
+        int completed = scheduler.runPartitioned("job", 3, Duration.ofMinutes(5), chunk -> ran.add(chunk.index()));
+
+        assertEquals(1, completed);
+        assertEquals(List.of(2), ran);
+        verify(leaseRepository, never()).insert(anyString(), anyString(), anyInt(), any());
+        verify(leaseRepository).release(eq("job#2"), eq("node-a"), eq(1L), eq(true), any());
+    }
+
+    @Test
+    void marksStartupJobFinishedOnlyWhenDone() {
+        claimable.add(lease(0));
+        claimable.add(lease(0));
+
+        assertTrue(scheduler.runOnceUntilDone("job", () -> false));
+        verify(leaseRepository, never()).finish(anyString(), anyString(), anyLong(), any());
+
+        assertTrue(scheduler.runOnceUntilDone("job", () -> true));
+        verify(leaseRepository).finish(eq("job#0"), eq("node-a"), eq(1L), argThat(at -> at.getYear() == 9999));
+    }
+
+    @Test
+    void releasesFailedChunkWithoutCompleting() {
+        claimable.add(lease(0));
+        claimable.add(lease(1));
+
+        int completed = scheduler.runPartitioned("job", 3, Duration.ofMinutes(5), chunk -> {
+            if (chunk.index() == 0) {
+                throw new IllegalStateException("boom");
+            }
+        });
+
+        assertEquals(1, completed);
+        verify(leaseRepository).release(eq("job#0"), eq("node-a"), eq(1L), eq(false), any());
+        verify(leaseRepository).release(eq("job#1"), eq("node-a"), eq(1L), eq(true), any());
+    }
+
+    @Test
+    void renewFailsOnceLeaseIsTaken() {
+        claimable.add(lease(0));
+        when(leaseRepository.renew(anyString(), anyString(), anyLong(), any())).thenReturn(0);
+        List<Boolean> renewed = new ArrayList<>();
+
+        scheduler.runExclusive("job", Duration.ofMinutes(5), chunk -> renewed.add(chunk.renew()));
+
+        assertFalse(renewed.get(0));
+    }
+
+    private static JobLease lease(int chunk) {
+        JobLease lease = new JobLease();
+        ReflectionTestUtils.setField(lease, "name", JobLease.nameOf("job", chunk));
+        ReflectionTestUtils.setField(lease, "job", "job");
+        ReflectionTestUtils.setField(lease, "chunk", chunk);
+        ReflectionTestUtils.setField(lease, "nextRunAt", LocalDateTime.now());
+        return lease;
+    }
+}
@@ -0,0 +1,136 @@
+package com.capstone.samadhi.common.service;
+
+import com.capstone.samadhi.common.storage.resilience.Bulkhead;
+import com.capstone.samadhi.common.storage.resilience.CircuitBreaker;
+import com.capstone.samadhi.exception.StorageUnavailableException;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Configuration;
+
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 지연을 주입하는 S3 대역 서버로 타임아웃, 서킷 브레이커, 벌크헤드 동작 확인
+ */
+class S3ServiceResilienceTest {
+    private HttpServer server;
+    private S3AsyncClient client;
+    private final AtomicLong delayMillis = new AtomicLong();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final CountDownLatch requestArrived = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", exchange -> {
+            hits.incrementAndGet();
+            requestArrived.countDown();
+            try (InputStream in = exchange.getRequestBody()) {
+                in.readAllBytes();
+                Thread.sleep(delayMillis.get());
+                exchange.getResponseHeaders().add("ETag", "\"etag\"");
+                exchange.sendResponseHeaders(200, -1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+
+        client = S3AsyncClient.builder()
+                .endpointOverride(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+                .forcePathStyle(true)
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .serviceConfiguration(S3Configuration.builder().checksumValidationEnabled(false).build())
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .retryPolicy(RetryPolicy.none())
+                        .build())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.stop(0);
+    }
+
+    @Test
+    void slowStorageTimesOutThenCircuitOpens() {
+        S3Service s3Service = s3Service(
+                new Bulkhead("test", 8, 8, Duration.ofMillis(100)),
+                new CircuitBreaker("test", 4, 4, 50, Duration.ofMinutes(1), 1), 300);
+        delayMillis.set(2_000);
+
+        for (int i = 0; i < 4; i++) {
+            long start = System.nanoTime();
+            assertThrows(StorageUnavailableException.class, () -> s3Service.uploadFile(image()));
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_500);
+        }
+        int hitsBeforeOpen = hits.get();
+
+        StorageUnavailableException rejected = assertThrows(StorageUnavailableException.class, () -> s3Service.uploadFile(image()));
+        assertTrue(rejected.getRetryAfterSeconds() > 0);
+        assertEquals(hitsBeforeOpen, hits.get());
+    }
+
+    @Test
+    void fullBulkheadRejectsUploads() throws Exception {
+        S3Service s3Service = s3Service(
+                new Bulkhead("test", 1, 0, Duration.ZERO),
+                new CircuitBreaker("test", 10, 10, 50, Duration.ofMinutes(1), 1), 3_000);
+        delayMillis.set(400);
+
+        CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(() -> {
+            try {
+                return s3Service.uploadFile(image());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(requestArrived.await(5, TimeUnit.SECONDS));
+
+        assertThrows(StorageUnavailableException.class, () -> s3Service.uploadFile(image()));
+        assertTrue(inFlight.get(5, TimeUnit.SECONDS).endsWith("/samadhi-bucket/pose.png"));
+        assertEquals(1, hits.get());
+    }
+
+    private S3Service s3Service(Bulkhead bulkhead, CircuitBreaker circuitBreaker, long callTimeoutMillis) {
+        S3Service s3Service = new S3Service(client, null, bulkhead, circuitBreaker, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(s3Service, "bucket", "samadhi-bucket");
+        ReflectionTestUtils.setField(s3Service, "regionStr", "ap-northeast-2");
+        ReflectionTestUtils.setField(s3Service, "endpoint", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(s3Service, "callTimeoutMillis", callTimeoutMillis);
+        return s3Service;
+    }
+
+    private MockMultipartFile image() {
+        return new MockMultipartFile("image", "pose.png", "image/png", new byte[]{1, 2, 3, 4});
+    }
+}
@@ -0,0 +1,62 @@
+package com.capstone.samadhi.common.service;
+
+import com.capstone.samadhi.common.dto.PresignRequest;
+import com.capstone.samadhi.common.dto.PresignResponse;
+import com.capstone.samadhi.common.storage.BlobMetadata;
+import com.capstone.samadhi.common.storage.BlobStore;
+import com.capstone.samadhi.common.storage.PresignedUpload;
+import com.capstone.samadhi.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 프로필 key는 발급할 때 준 token과 함께여야만 쓸 수 있는지 확인
+ */
+class UploadServiceTest {
+    private final BlobStore blobStore = mock(BlobStore.class);
+    private UploadService uploadService;
+
+    @BeforeEach
+    void setUp() {
+        when(blobStore.presignUpload(anyString(), anyString(), anyLong(), any()))
+                .thenReturn(new PresignedUpload("http://upload", Instant.now()));
+        when(blobStore.findObject(anyString())).thenReturn(Optional.of(new BlobMetadata("k", 100, "image/png")));
+        when(blobStore.getPublicUrl(anyString())).thenAnswer(invocation -> "http://blobs/" + invocation.getArgument(0));
+        uploadService = new UploadService(blobStore);
+        ReflectionTestUtils.setField(uploadService, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(uploadService, "maxBytes", 1000L);
+        ReflectionTestUtils.setField(uploadService, "secretKey", "test-secret");
+    }
+
+    @Test
+    void profileKeyNeedsItsOwnToken() {
+        PresignResponse mine = uploadService.presign(null, new PresignRequest(PresignRequest.UploadType.profile, "image/png", 100));
+        PresignResponse other = uploadService.presign(null, new PresignRequest(PresignRequest.UploadType.profile, "image/png", 100));
+        assertNotNull(mine.uploadToken());
+
+        assertEquals("http://blobs/" + mine.key(), uploadService.resolveProfile(mine.key(), mine.uploadToken()));
+        // 공개 URL에서 알아낸 남의 key는 token 없이, 또는 다른 key의 token으로 쓸 수 없다
+        assertThrows(BadRequestException.class, () -> uploadService.resolveProfile(other.key(), null));
+        assertThrows(BadRequestException.class, () -> uploadService.resolveProfile(other.key(), mine.uploadToken()));
+    }
+
+    @Test
+    void snapshotPresignHasNoToken() {
+        PresignResponse snapshot = uploadService.presign("user1", new PresignRequest(PresignRequest.UploadType.snapshot, "image/png", 100));
+        assertNull(snapshot.uploadToken());
+    }
+}
@@ -0,0 +1,47 @@
+package com.capstone.samadhi.common.storage.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * HALF_OPEN에서 결과 없이 끝난 시험 호출이 허가를 돌려주는지 확인
+ */
+class CircuitBreakerTest {
+
+    @Test
+    void releasedProbeCanBeRetried() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker("test", 4, 2, 50, Duration.ofMillis(10), 1);
+        breaker.onFailure();
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        Thread.sleep(20);
+
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+        breaker.release();
+
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void releaseDoesNotAddPermits() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker("test", 4, 2, 50, Duration.ofMillis(10), 1);
+        breaker.onFailure();
+        breaker.onFailure();
+        Thread.sleep(20);
+
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.release();
+        breaker.release();
+
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+}
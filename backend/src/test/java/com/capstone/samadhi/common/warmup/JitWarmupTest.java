@@ -0,0 +1,72 @@
+package com.capstone.samadhi.common.warmup;
+
+import com.capstone.samadhi.landmark.LandmarkProperties;
+import com.capstone.samadhi.record.repository.RecordRepository;
+import com.capstone.samadhi.security.jwt.JwtUtils;
+import com.capstone.samadhi.security.repo.UserRepository;
+import com.capstone.samadhi.video.repository.VideoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 모든 합성 작업을 돌리고, 멈춘 작업이 있어도 제한 시간 안에 돌아오는지 확인
+ */
+class JitWarmupTest {
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private JitWarmup warmup;
+
+    @BeforeEach
+    void setUp() {
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(any())).thenReturn("hash");
+        warmup = new JitWarmup(Jackson2ObjectMapperBuilder.json().build(),
+                new JwtUtils("0123456789abcdef0123456789abcdef", userRepository), passwordEncoder,
+                userRepository, mock(RecordRepository.class), mock(VideoRepository.class),
+                new LandmarkProperties(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(warmup, "iterations", 50);
+        ReflectionTestUtils.setField(warmup, "maxDurationMillis", 10_000L);
+        ReflectionTestUtils.setField(warmup, "queryEvery", 10);
+        ReflectionTestUtils.setField(warmup, "scratchUserId", "__warmup__");
+    }
+
+    @Test
+    void runsEveryTask() {
+        JitWarmup.Summary summary = warmup.warmUp();
+
+        assertFalse(summary.timedOut());
+        assertEquals(50, summary.iterations());
+        for (JitWarmup.TaskStats task : summary.tasks()) {
+            assertNull(task.failure(), task.name());
+            assertTrue(task.calls() > 0, task.name());
+        }
+    }
+
+    @Test
+    void stopsAtDeadline() {
+        ReflectionTestUtils.setField(warmup, "maxDurationMillis", 300L);
+        when(userRepository.findById(any())).thenAnswer(invocation -> {
+            Thread.sleep(60_000);
+            return Optional.empty();
+        });
+
+        long start = System.nanoTime();
+        JitWarmup.Summary summary = warmup.warmUp();
+
+        assertTrue(summary.timedOut());
+        assertTrue((System.nanoTime() - start) / 1_000_000 < 5_000);
+    }
+}
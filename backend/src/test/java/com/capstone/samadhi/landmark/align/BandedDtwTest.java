@@ -0,0 +1,79 @@
+package com.capstone.samadhi.landmark.align;
+
+import com.capstone.samadhi.landmark.reference.PoseVectors;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BandedDtwTest {
+    private static final int D = PoseVectors.VECTOR_LENGTH;
+
+    @Test
+    void recoversConstantLagWithinBand() {
+        int frames = 600;
+        int lag = 12;
+        float[] reference = motion(frames + lag);
+        // 사용자는 강사보다 12프레임(100ms 간격이면 1.2초) 늦다
+        float[] user = Arrays.copyOfRange(reference, 0, frames * D);
+        boolean[] present = new boolean[frames + lag];
+        Arrays.fill(present, true);
+
+        BandedDtw.Result result = new BandedDtw().align(user, present, frames, reference, present, frames + lag,
+                lag, 20, Double.POSITIVE_INFINITY);
+
+        assertFalse(result.abandoned());
+        // 첫 구간은 경로가 자리 잡는 중이라 이후 구간만 확인
+        for (int i = 100; i < frames; i++) {
+            assertEquals(i, result.match()[i], "frame " + i);
+        }
+        assertTrue(result.cost() < 1, "cost " + result.cost());
+
+        double strict = 0;
+        for (int i = 100; i < frames; i++) {
+            strict += PoseVectors.similarity(user, i * D, reference, (i + lag) * D);
+        }
+        assertTrue(strict / (frames - 100) < 99, "strict " + strict / (frames - 100));
+    }
+
+    @Test
+    void abandonsOnceRowCostExceedsBoundAndReusesBuffers() {
+        int frames = 300;
+        float[] reference = motion(frames);
+        float[] user = new float[frames * D];
+        for (int i = 0; i < frames; i++) {
+            // 강사와 전혀 다른 자세
+            System.arraycopy(reference, ((i + frames / 2) % frames) * D, user, i * D, D);
+            PoseVectors.mirror(user, i * D);
+        }
+        boolean[] present = new boolean[frames];
+        Arrays.fill(present, true);
+        BandedDtw dtw = new BandedDtw();
+
+        BandedDtw.Result good = dtw.align(reference, present, frames, reference, present, frames, 0, 5, Double.POSITIVE_INFINITY);
+        BandedDtw.Result bad = dtw.align(user, present, frames, reference, present, frames, 0, 5, good.cost() + 1);
+
+        assertEquals(0, good.cost(), 1e-6);
+        assertTrue(bad.abandoned());
+        assertNull(bad.match());
+        assertEquals(299, dtw.align(reference, present, frames, reference, present, frames, 0, 5, 1).match()[299]);
+    }
+
+    /**
+     * 랜드마크마다 다른 주기로 천천히 움직이는 동작 (100ms 간격)
+     */
+    static float[] motion(int frames) {
+        float[] values = new float[frames * D];
+        for (int f = 0; f < frames; f++) {
+            double t = f * 0.1;
+            for (int k = 0; k < D; k++) {
+                values[f * D + k] = (float) (0.5 + Math.sin(t * (0.3 + k % 7 * 0.11) + k));
+            }
+        }
+        return values;
+    }
+}
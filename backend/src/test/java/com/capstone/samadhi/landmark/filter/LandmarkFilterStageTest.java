@@ -0,0 +1,60 @@
+package com.capstone.samadhi.landmark.filter;
+
+import com.capstone.samadhi.landmark.LandmarkProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LandmarkFilterStageTest {
+    private static final int LANDMARKS = 33;
+    private static final int FRAME = LANDMARKS * 4;
+
+    @Test
+    void dropsFramesWithoutPersonAndCompactsTheRest() {
+        LandmarkFilterStage stage = new LandmarkFilterStage(LANDMARKS, new LandmarkProperties());
+        long[] timestamps = {0, 33, 66, 100};
+        float[] values = new float[timestamps.length * FRAME];
+        for (int f = 0; f < timestamps.length; f++) {
+            for (int l = 0; l < LANDMARKS; l++) {
+                int i = f * FRAME + l * 4;
+                values[i] = f;
+                // 두 번째 프레임은 절반 이상의 랜드마크가 보이지 않는다
+                values[i + 3] = f == 1 && l < 20 ? 0f : 1f;
+            }
+        }
+
+        int accepted = stage.process(timestamps, values);
+
+        assertEquals(3, accepted);
+        assertEquals(1, stage.getDropped());
+        assertEquals(66, timestamps[1]);
+        assertEquals(3, stage.getRing().size());
+        assertEquals(100, stage.getRing().timestampOf(0));
+    }
+
+    @Test
+    void smoothsStationaryNoise() {
+        LandmarkFilterStage stage = new LandmarkFilterStage(LANDMARKS, new LandmarkProperties());
+        Random random = new Random(42);
+        int frames = 300;
+        long[] timestamps = new long[frames];
+        float[] values = new float[frames * FRAME];
+        for (int f = 0; f < frames; f++) {
+            timestamps[f] = f * 33L;
+            for (int l = 0; l < LANDMARKS; l++) {
+                int i = f * FRAME + l * 4;
+                values[i] = 0.5f + (float) random.nextGaussian() * 0.01f;
+                values[i + 1] = 0.5f + (float) random.nextGaussian() * 0.01f;
+                values[i + 2] = (float) random.nextGaussian() * 0.01f;
+                values[i + 3] = 1f;
+            }
+        }
+
+        assertEquals(frames, stage.process(timestamps, values));
+        assertTrue(stage.getFilteredJitter() < stage.getRawJitter() / 2,
+                stage.getFilteredJitter() + " vs " + stage.getRawJitter());
+    }
+}
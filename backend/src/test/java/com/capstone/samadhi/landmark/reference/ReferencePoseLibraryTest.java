@@ -0,0 +1,104 @@
+package com.capstone.samadhi.landmark.reference;
+
+import com.capstone.samadhi.landmark.LandmarkProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReferencePoseLibraryTest {
+    private static final int LEFT_ELBOW = ReferencePoseFormat.ANGLE_NAMES.indexOf("leftElbow");
+    private static final int RIGHT_ELBOW = ReferencePoseFormat.ANGLE_NAMES.indexOf("rightElbow");
+    private static final int LEFT_SHOULDER = ReferencePoseFormat.ANGLE_NAMES.indexOf("leftShoulder");
+    private static final int RIGHT_SHOULDER = ReferencePoseFormat.ANGLE_NAMES.indexOf("rightShoulder");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void writtenLibraryIsReadBackWithMirroredData() throws Exception {
+        Path file = dir.resolve("poses.bin");
+        ReferencePoseLibraryWriter.write(file, 3, List.of(pose("chair", 0.5f), pose("tree", 1f)));
+
+        ReferencePoseLibrary library = ReferencePoseLibrary.open(file);
+
+        assertEquals(3, library.getVersion());
+        assertEquals(List.of("chair", "tree"), library.getPoseNames());
+        int tree = library.indexOf("tree");
+        assertEquals(1, tree);
+        assertEquals(-1, library.indexOf("crow"));
+        // 왼쪽 어깨(11) x 좌표는 반전 후 오른쪽 어깨(12) 자리로 가고 부호가 바뀐다
+        assertEquals(11 * 3 + 1f, library.vector(tree, 11 * 3, false));
+        assertEquals(-(11 * 3 + 1f), library.vector(tree, 12 * 3, true));
+        assertEquals(library.angle(tree, LEFT_ELBOW, false), library.angle(tree, RIGHT_ELBOW, true));
+        // 왼팔만 편 자세라서 왼쪽 어깨 가중치가 0이고, 반전하면 오른쪽 어깨로 옮겨간다
+        assertEquals(0f, library.angleWeight(tree, LEFT_SHOULDER, false));
+        assertEquals(1f, library.angleWeight(tree, RIGHT_SHOULDER, false));
+        assertEquals(0f, library.angleWeight(tree, RIGHT_SHOULDER, true));
+        assertEquals(95f, library.vectorThreshold(tree));
+    }
+
+    @Test
+    void corruptedFileIsRejected() throws Exception {
+        Path file = dir.resolve("poses.bin");
+        ReferencePoseLibraryWriter.write(file, 1, List.of(pose("chair", 1f)));
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 0x7f;
+        Files.write(file, bytes);
+
+        assertThrows(IOException.class, () -> ReferencePoseLibrary.open(file));
+    }
+
+    @Test
+    void holderSwapsLibraryWhileOldSnapshotStaysReadable() throws Exception {
+        Path file = dir.resolve("poses.bin");
+        LandmarkProperties properties = new LandmarkProperties();
+        properties.getReference().setPath(file.toString());
+
+        ReferencePoseLibraryHolder holder = new ReferencePoseLibraryHolder(properties, new SimpleMeterRegistry());
+        ReferencePoseLibrary bundled = holder.current();
+        assertTrue(bundled.poseCount() > 0);
+
+        ReferencePoseLibraryWriter.write(file, 7, List.of(pose("chair", 1f)));
+        assertTrue(holder.reload());
+        ReferencePoseLibrary v7 = holder.current();
+        assertEquals(7, v7.getVersion());
+        assertFalse(holder.reload());
+
+        ReferencePoseLibraryWriter.write(file, 8, List.of(pose("chair", 2f), pose("tree", 1f)));
+        holder.reloadIfChanged();
+        assertNotSame(v7, holder.current());
+        assertEquals(8, holder.current().getVersion());
+        assertEquals(1f, v7.vector(0, 0, false));
+
+        Files.write(file, new byte[]{1, 2, 3});
+        assertFalse(holder.reload());
+        assertEquals(8, holder.current().getVersion());
+        assertSame(holder.current(), holder.current());
+    }
+
+    private ReferencePoseLibraryWriter.Pose pose(String name, float scale) {
+        float[] vector = new float[ReferencePoseFormat.LANDMARK_COUNT * ReferencePoseFormat.COMPONENTS];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (i + 1) * scale;
+        }
+        float[] angles = new float[ReferencePoseFormat.ANGLE_NAMES.size()];
+        for (int i = 0; i < angles.length; i++) {
+            angles[i] = 90 + i;
+        }
+        angles[LEFT_ELBOW] = 170;
+        angles[RIGHT_ELBOW] = 60;
+        return new ReferencePoseLibraryWriter.Pose(name, vector, angles, 95f, 80f);
+    }
+}
@@ -0,0 +1,103 @@
+package com.capstone.samadhi.landmark.reference;
+
+import com.capstone.samadhi.landmark.LandmarkProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReferenceTrackTest {
+    private static final int VECTOR_LENGTH = ReferencePoseFormat.LANDMARK_COUNT * ReferencePoseFormat.COMPONENTS;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void resampledTrackIsIndexedByVideoTime() throws Exception {
+        // 30fps 원본, 1초~2초 사이는 사람이 없다
+        List<ReferenceTrackWriter.Frame> frames = new ArrayList<>();
+        for (long t = 0; t <= 3000; t += 33) {
+            frames.add(new ReferenceTrackWriter.Frame(t, t > 1000 && t < 2000 ? null : filled(t / 1000f)));
+        }
+        Path file = dir.resolve(ReferenceTrackFormat.fileName(7));
+        ReferenceTrackWriter.write(file, 7, 100, 500, frames);
+
+        ReferenceTrack track = ReferenceTrack.open(file);
+
+        assertEquals(7, track.getVideoId());
+        assertEquals(30, track.frameCount());
+        assertEquals(12, track.frameAt(1_240));
+        assertEquals(-1, track.frameAt(3_100));
+        // 0.5초는 0.495초와 0.528초 사이를 보간한 값
+        assertEquals(0.5f, track.value(track.frameAt(500), 0), 1e-4);
+        assertTrue(track.isPresent(track.frameAt(1_000)));
+        assertFalse(track.isPresent(track.frameAt(1_500)));
+        float[] vector = new float[VECTOR_LENGTH];
+        track.copyFrame(25, vector);
+        assertEquals(2.5f, vector[VECTOR_LENGTH - 1], 1e-4);
+    }
+
+    @Test
+    void vectorizeMatchesFrontendNormalization() {
+        float[] landmarks = new float[ReferencePoseFormat.LANDMARK_COUNT * 4];
+        for (int i = 0; i < ReferencePoseFormat.LANDMARK_COUNT; i++) {
+            landmarks[i * 4] = 0.5f;
+            landmarks[i * 4 + 1] = 0.5f;
+            landmarks[i * 4 + 3] = 1f;
+        }
+        landmarks[11 * 4] = 0.4f;   // 왼쪽 어깨
+        landmarks[12 * 4] = 0.6f;   // 오른쪽 어깨
+        landmarks[0 * 4 + 1] = 0.3f; // 코
+
+        float[] vector = ReferenceTrackWriter.vectorize(landmarks, 1000, 500, new LandmarkProperties.Presence());
+
+        assertNotNull(vector);
+        // 어깨 너비 200px, 코는 엉덩이 중점보다 100px 위
+        assertEquals(-0.5f, vector[1], 1e-6);
+        assertEquals(-0.5f, vector[11 * 3], 1e-6);
+
+        for (int i = 0; i < 12; i++) {
+            landmarks[i * 4 + 3] = 0f;
+        }
+        assertNull(ReferenceTrackWriter.vectorize(landmarks, 1000, 500, new LandmarkProperties.Presence()));
+    }
+
+    @Test
+    void storeMapsTrackPerVideoAndRejectsCorruptFiles() throws Exception {
+        LandmarkProperties properties = new LandmarkProperties();
+        properties.getReference().setTrackDir(dir.toString());
+        properties.getReference().setTrackRecheckInterval(Duration.ZERO);
+        ReferenceTrackStore store = new ReferenceTrackStore(properties, new SimpleMeterRegistry());
+        assertNull(store.find(3));
+
+        Path file = dir.resolve(ReferenceTrackFormat.fileName(3));
+        ReferenceTrackWriter.write(file, 3, 100, 500, List.of(new ReferenceTrackWriter.Frame(0, filled(1))));
+        assertEquals(1, store.find(3).frameCount());
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 0x7f;
+        Path corrupt = dir.resolve("corrupt.track");
+        Files.write(corrupt, bytes);
+        assertThrows(IOException.class, () -> ReferenceTrack.open(corrupt));
+    }
+
+    private static float[] filled(float value) {
+        float[] vector = new float[VECTOR_LENGTH];
+        Arrays.fill(vector, value);
+        return vector;
+    }
+}
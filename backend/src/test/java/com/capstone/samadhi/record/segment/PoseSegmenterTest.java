@@ -0,0 +1,69 @@
+package com.capstone.samadhi.record.segment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PoseSegmenterTest {
+    private final List<String> segments = new ArrayList<>();
+    private final PoseSegmenter.Sink sink = (pose, start, end, score) ->
+            segments.add(pose + " " + start + "-" + end + " " + Math.round(score));
+
+    @Test
+    void ignoresShortFlickerAndSplitsOnSustainedChange() {
+        PoseSegmenter segmenter = new PoseSegmenter(5, 300, 1000, 3000);
+        long t = 0;
+        for (int i = 0; i < 60; i++, t += 33) {
+            // 20번째 프레임 근처에서 2프레임 동안 다른 자세로 잘못 판정
+            String pose = i == 20 || i == 21 ? "tree" : "warrior";
+            segmenter.accept(pose, 80, t, sink);
+        }
+        for (int i = 0; i < 60; i++, t += 33) {
+            segmenter.accept("tree", 60, t, sink);
+        }
+        segmenter.flush(sink);
+
+        assertEquals(List.of("warrior 0-1980 80", "tree 1980-3927 60"), segments);
+    }
+
+    @Test
+    void copyLeavesOriginalUntouched() {
+        PoseSegmenter segmenter = new PoseSegmenter(3, 0, 1000, 3000);
+        long t = 0;
+        for (int i = 0; i < 20; i++, t += 100) {
+            segmenter.accept("plank", 90, t, sink);
+        }
+        // 사본에만 넣은 배치는 원본에 남지 않는다
+        PoseSegmenter attempt = segmenter.copy();
+        for (int i = 0; i < 20; i++, t += 100) {
+            attempt.accept("tree", 50, t, sink);
+        }
+        segments.clear();
+
+        segmenter.flush(sink);
+        assertEquals(List.of("plank 0-1900 90"), segments);
+    }
+
+    @Test
+    void skipsUnknownAndTooShortSegmentsAndBreaksOnGaps() {
+        PoseSegmenter segmenter = new PoseSegmenter(3, 0, 1000, 3000);
+        long t = 0;
+        for (int i = 0; i < 10; i++, t += 100) {
+            segmenter.accept(null, 0, t, sink);
+        }
+        for (int i = 0; i < 20; i++, t += 100) {
+            segmenter.accept("plank", 90, t, sink);
+        }
+        // 5초 공백 뒤 같은 자세가 이어져도 새 구간으로 본다
+        t += 5000;
+        for (int i = 0; i < 5; i++, t += 100) {
+            segmenter.accept("plank", 70, t, sink);
+        }
+        segmenter.flush(sink);
+
+        assertEquals(List.of("plank 1000-2900 90"), segments);
+    }
+}
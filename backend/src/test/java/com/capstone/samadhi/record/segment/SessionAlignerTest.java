@@ -0,0 +1,49 @@
+package com.capstone.samadhi.record.segment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionAlignerTest {
+
+    @Test
+    void splitsOnEveryBoundaryAndMergesUnchangedNeighbours() {
+        List<SessionAligner.Interval> base = List.of(
+                new SessionAligner.Interval(0, 30, "tree", 70),
+                new SessionAligner.Interval(30, 60, "tree", 70),
+                new SessionAligner.Interval(60, 90, "warrior", 60));
+        List<SessionAligner.Interval> retry = List.of(
+                new SessionAligner.Interval(10, 50, "tree", 80),
+                new SessionAligner.Interval(50, 90, "chair", 65),
+                new SessionAligner.Interval(100, 110, "plank", 90));
+
+        List<SessionAligner.Slice> slices = SessionAligner.align(List.of(base, retry));
+
+        assertEquals(List.of("0-10 tree/null", "10-50 tree/tree", "50-60 tree/chair",
+                        "60-90 warrior/chair", "100-110 null/plank"),
+                slices.stream().map(s -> s.start() + "-" + s.end() + " " + s.poses()[0] + "/" + s.poses()[1]).toList());
+        assertEquals(10f, slices.get(1).scores()[1] - slices.get(1).scores()[0]);
+        assertFalse(slices.get(1).poseMismatch());
+        assertTrue(slices.get(2).poseMismatch());
+        assertTrue(Float.isNaN(slices.get(0).scores()[1]));
+    }
+
+    @Test
+    void handlesEmptySessionsAndOverlaps() {
+        List<SessionAligner.Interval> overlapping = List.of(
+                new SessionAligner.Interval(0, 20, "tree", 50),
+                new SessionAligner.Interval(10, 30, "chair", 60));
+
+        List<SessionAligner.Slice> slices = SessionAligner.align(List.of(overlapping, List.of()));
+
+        // 겹치면 나중에 시작한 구간이 이어받는다
+        assertEquals(List.of("0-10 [tree, null]", "10-30 [chair, null]"),
+                slices.stream().map(s -> s.start() + "-" + s.end() + " " + Arrays.toString(s.poses())).toList());
+        assertTrue(SessionAligner.align(List.of(List.of(), List.of())).isEmpty());
+    }
+}
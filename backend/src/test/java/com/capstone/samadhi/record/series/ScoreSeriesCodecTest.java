@@ -0,0 +1,64 @@
+package com.capstone.samadhi.record.series;
+
+import com.capstone.samadhi.record.dto.ScoreSeriesResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoreSeriesCodecTest {
+
+    @Test
+    void roundTripsBlocksWithGapsAndSkipsOutOfRange() {
+        long[] first = {0, 200, 400, 600, 1_400, 1_600, 90_000};
+        int[] firstValues = {0, 5, 5, 1000, 999, 420, 421};
+        long[] second = {90_200, 90_400, 10_000_000};
+        int[] secondValues = {100, 84, 0};
+        byte[] series = ScoreSeriesCodec.append(
+                ScoreSeriesCodec.append(ScoreSeriesCodec.empty(), ScoreSeriesCodec.encodeBlock(first, firstValues, first.length)),
+                ScoreSeriesCodec.encodeBlock(second, secondValues, second.length));
+
+        List<String> all = new ArrayList<>();
+        ScoreSeriesCodec.decode(series, 0, Long.MAX_VALUE, (t, score) -> all.add(t + "=" + score));
+        assertEquals(List.of("0=0.0", "200=0.5", "400=0.5", "600=100.0", "1400=99.9", "1600=42.0",
+                "90000=42.1", "90200=10.0", "90400=8.4", "10000000=0.0"), all);
+
+        List<Long> range = new ArrayList<>();
+        ScoreSeriesCodec.decode(series, 500, 90_200, (t, score) -> range.add(t));
+        assertEquals(List.of(600L, 1_400L, 1_600L, 90_000L), range);
+    }
+
+    @Test
+    void steadySamplingEncodesInAFewBitsPerPoint() {
+        int n = 18_000; // 5Hz로 1시간
+        long[] timestamps = new long[n];
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            timestamps[i] = i * 200L;
+            values[i] = ScoreSeriesCodec.quantize(70 + 10 * (float) Math.sin(i / 50.0));
+        }
+        byte[] block = ScoreSeriesCodec.encodeBlock(timestamps, values, n);
+        assertTrue(block.length < n, "점당 1바이트 미만이어야 함: " + block.length);
+    }
+
+    @Test
+    void downsamplesToMinMaxAvgBuckets() {
+        long[] timestamps = new long[100];
+        int[] values = new int[100];
+        for (int i = 0; i < 100; i++) {
+            timestamps[i] = i * 100L;
+            values[i] = i * 10;
+        }
+        byte[] series = ScoreSeriesCodec.append(ScoreSeriesCodec.empty(), ScoreSeriesCodec.encodeBlock(timestamps, values, 100));
+
+        ScoreDownsampler downsampler = new ScoreDownsampler(0, 2_500, 4);
+        ScoreSeriesCodec.decode(series, 0, 10_000, downsampler);
+        List<ScoreSeriesResponse.Bucket> buckets = downsampler.buckets();
+
+        assertEquals(4, buckets.size());
+        assertEquals(new ScoreSeriesResponse.Bucket(2_500, 25f, 49f, 37f, 25), buckets.get(1));
+    }
+}
@@ -0,0 +1,92 @@
+package com.capstone.samadhi.record.service;
+
+import com.capstone.samadhi.exception.BadRequestException;
+import com.capstone.samadhi.landmark.reference.ReferencePoseLibrary;
+import com.capstone.samadhi.landmark.reference.ReferencePoseLibraryHolder;
+import com.capstone.samadhi.record.entity.Pose;
+import com.capstone.samadhi.record.repository.PoseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 참조 자세 라이브러리에 있거나 예약된 처음 보는 자세만 한 번 등록하고, 이름은 같은 인스턴스로 돌려주는지 확인
+ */
+class PoseDictionaryTest {
+    private final List<Pose> table = new ArrayList<>();
+    private final PoseRepository poseRepository = mock(PoseRepository.class);
+    private PoseDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        table.add(new Pose((short) 1, "tree"));
+        when(poseRepository.findAll()).thenAnswer(invocation -> List.copyOf(table));
+        when(poseRepository.count()).thenAnswer(invocation -> (long) table.size());
+        when(poseRepository.saveAndFlush(any())).thenAnswer(invocation -> {
+            Pose pose = new Pose((short) (table.size() + 1), invocation.<Pose>getArgument(0).getName());
+            table.add(pose);
+            return pose;
+        });
+        ReferencePoseLibrary library = mock(ReferencePoseLibrary.class);
+        when(library.indexOf(anyString())).thenReturn(-1);
+        when(library.indexOf("chair")).thenReturn(0);
+        ReferencePoseLibraryHolder holder = mock(ReferencePoseLibraryHolder.class);
+        when(holder.current()).thenReturn(library);
+        dictionary = new PoseDictionary(poseRepository, holder, mock(PlatformTransactionManager.class));
+        dictionary.load();
+    }
+
+    @Test
+    void registersLibraryPosesOnce() {
+        assertEquals((short) 1, dictionary.idOf("tree"));
+        Short chair = dictionary.idOf(new String("chair"));
+        assertEquals((short) 2, chair);
+        assertEquals(chair, dictionary.idOf("chair"));
+        verify(poseRepository, times(1)).saveAndFlush(any());
+
+        assertSame(dictionary.nameOf(chair), dictionary.nameOf(chair));
+        assertEquals("chair", dictionary.nameOf(chair));
+        assertNull(dictionary.idOf(null));
+        assertNull(dictionary.nameOf((short) 99));
+    }
+
+    @Test
+    void rejectsNamesOutsideLibrary() {
+        assertThrows(BadRequestException.class, () -> dictionary.idOf("x".repeat(500)));
+        assertThrows(BadRequestException.class, () -> dictionary.idOf("no-such-pose"));
+        verify(poseRepository, times(0)).saveAndFlush(any());
+
+        // 예약 이름은 라이브러리에 없어도 받는다
+        Short unknown = dictionary.idOf("unknown");
+        assertEquals("unknown", dictionary.nameOf(unknown));
+
+        // 예전 컬럼 옮기기는 라이브러리와 관계없이 등록한다
+        assertEquals((short) 3, dictionary.idOfLegacy("half-moon"));
+        assertEquals((short) 3, dictionary.idOf("half-moon"));
+    }
+
+    @Test
+    void picksUpPosesAddedElsewhere() {
+        table.add(new Pose((short) 2, "plank"));
+        assertEquals("plank", dictionary.nameOf((short) 2));
+
+        table.add(new Pose((short) 3, "warrior"));
+        dictionary.refresh();
+        assertEquals((short) 3, dictionary.idOf("warrior"));
+        verify(poseRepository, times(0)).saveAndFlush(any());
+    }
+}